@@ -0,0 +1,884 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions1;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions2;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions3;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions4;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions5;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions6;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions7;
+import io.hotmoka.exceptions.functions.BiFunctionWithExceptions;
+import io.hotmoka.exceptions.functions.BiFunctionWithExceptions1;
+import io.hotmoka.exceptions.functions.BiFunctionWithExceptions2;
+import io.hotmoka.exceptions.functions.BiFunctionWithExceptions3;
+import io.hotmoka.exceptions.functions.BiFunctionWithExceptions4;
+import io.hotmoka.exceptions.functions.BiFunctionWithExceptions5;
+import io.hotmoka.exceptions.functions.BiFunctionWithExceptions6;
+import io.hotmoka.exceptions.functions.BiFunctionWithExceptions7;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions1;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions2;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions3;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions4;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions5;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions6;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions7;
+import io.hotmoka.exceptions.functions.PredicateWithExceptions;
+import io.hotmoka.exceptions.functions.PredicateWithExceptions1;
+import io.hotmoka.exceptions.functions.PredicateWithExceptions2;
+import io.hotmoka.exceptions.functions.PredicateWithExceptions3;
+import io.hotmoka.exceptions.functions.PredicateWithExceptions4;
+import io.hotmoka.exceptions.functions.PredicateWithExceptions5;
+import io.hotmoka.exceptions.functions.PredicateWithExceptions6;
+import io.hotmoka.exceptions.functions.PredicateWithExceptions7;
+
+/**
+ * Methods that modify or traverse collections and maps in place, through their bulk operations,
+ * with a body that might throw exceptions. The exceptions are propagated with their type,
+ * without copying the collections or the maps into streams.
+ */
+public abstract class BulkOperations {
+
+	private BulkOperations() {}
+
+	/**
+	 * Removes all elements of the given collection that satisfy the given filter, through
+	 * {@link Collection#removeIf(java.util.function.Predicate)}, hence in place and in a single pass.
+	 * The exceptions thrown by the filter are propagated with their type. If the filter throws an exception,
+	 * an {@link java.util.ArrayList} is left unmodified, while other collections might have already
+	 * lost the elements that satisfied the filter before the exception.
+	 * 
+	 * @param <T> the type of the elements of the collection
+	 * @param collection the collection
+	 * @param filter the filter
+	 * @return true if and only if some element has been removed
+	 * @throws Throwable if the filter throws it
+	 */
+	public static <T> boolean removeIf(Collection<T> collection, PredicateWithExceptions<? super T> filter) throws Throwable {
+		return CheckSupplier.check(Throwable.class, () -> collection.removeIf(UncheckPredicate.uncheck(filter)));
+	}
+
+	/**
+	 * Removes all elements of the given collection that satisfy the given filter, through
+	 * {@link Collection#removeIf(java.util.function.Predicate)}, hence in place and in a single pass.
+	 * The exceptions thrown by the filter are propagated with their type. If the filter throws an exception,
+	 * an {@link java.util.ArrayList} is left unmodified, while other collections might have already
+	 * lost the elements that satisfied the filter before the exception.
+	 * 
+	 * @param <T> the type of the elements of the collection
+	 * @param <E1> the type of exceptions thrown by the filter
+	 * @param collection the collection
+	 * @param exception the exception tag of {@code E1}
+	 * @param filter the filter
+	 * @return true if and only if some element has been removed
+	 * @throws E1 if the filter throws it
+	 */
+	public static <T, E1 extends Throwable> boolean removeIf(Collection<T> collection, Class<E1> exception, PredicateWithExceptions1<? super T, E1> filter) throws E1 {
+		return CheckSupplier.check(exception, () -> collection.removeIf(UncheckPredicate.<T, E1>uncheck(exception, filter)));
+	}
+
+	/**
+	 * Removes all elements of the given collection that satisfy the given filter, through
+	 * {@link Collection#removeIf(java.util.function.Predicate)}, hence in place and in a single pass.
+	 * The exceptions thrown by the filter are propagated with their type. If the filter throws an exception,
+	 * an {@link java.util.ArrayList} is left unmodified, while other collections might have already
+	 * lost the elements that satisfied the filter before the exception.
+	 * 
+	 * @param <T> the type of the elements of the collection
+	 * @param <E1> the first type of exceptions thrown by the filter
+	 * @param <E2> the second type of exceptions thrown by the filter
+	 * @param collection the collection
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param filter the filter
+	 * @return true if and only if some element has been removed
+	 * @throws E1 if the filter throws it
+	 * @throws E2 if the filter throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable> boolean removeIf(Collection<T> collection, Class<E1> exception1, Class<E2> exception2, PredicateWithExceptions2<? super T, E1, E2> filter) throws E1, E2 {
+		return CheckSupplier.check(exception1, exception2, () -> collection.removeIf(UncheckPredicate.<T, E1, E2>uncheck(exception1, exception2, filter)));
+	}
+
+	/**
+	 * Removes all elements of the given collection that satisfy the given filter, through
+	 * {@link Collection#removeIf(java.util.function.Predicate)}, hence in place and in a single pass.
+	 * The exceptions thrown by the filter are propagated with their type. If the filter throws an exception,
+	 * an {@link java.util.ArrayList} is left unmodified, while other collections might have already
+	 * lost the elements that satisfied the filter before the exception.
+	 * 
+	 * @param <T> the type of the elements of the collection
+	 * @param <E1> the first type of exceptions thrown by the filter
+	 * @param <E2> the second type of exceptions thrown by the filter
+	 * @param <E3> the third type of exceptions thrown by the filter
+	 * @param collection the collection
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param filter the filter
+	 * @return true if and only if some element has been removed
+	 * @throws E1 if the filter throws it
+	 * @throws E2 if the filter throws it
+	 * @throws E3 if the filter throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> boolean removeIf(Collection<T> collection, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, PredicateWithExceptions3<? super T, E1, E2, E3> filter) throws E1, E2, E3 {
+		return CheckSupplier.check(exception1, exception2, exception3, () -> collection.removeIf(UncheckPredicate.<T, E1, E2, E3>uncheck(exception1, exception2, exception3, filter)));
+	}
+
+	/**
+	 * Removes all elements of the given collection that satisfy the given filter, through
+	 * {@link Collection#removeIf(java.util.function.Predicate)}, hence in place and in a single pass.
+	 * The exceptions thrown by the filter are propagated with their type. If the filter throws an exception,
+	 * an {@link java.util.ArrayList} is left unmodified, while other collections might have already
+	 * lost the elements that satisfied the filter before the exception.
+	 * 
+	 * @param <T> the type of the elements of the collection
+	 * @param <E1> the first type of exceptions thrown by the filter
+	 * @param <E2> the second type of exceptions thrown by the filter
+	 * @param <E3> the third type of exceptions thrown by the filter
+	 * @param <E4> the fourth type of exceptions thrown by the filter
+	 * @param collection the collection
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param filter the filter
+	 * @return true if and only if some element has been removed
+	 * @throws E1 if the filter throws it
+	 * @throws E2 if the filter throws it
+	 * @throws E3 if the filter throws it
+	 * @throws E4 if the filter throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> boolean removeIf(Collection<T> collection, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, PredicateWithExceptions4<? super T, E1, E2, E3, E4> filter) throws E1, E2, E3, E4 {
+		return CheckSupplier.check(exception1, exception2, exception3, exception4, () -> collection.removeIf(UncheckPredicate.<T, E1, E2, E3, E4>uncheck(exception1, exception2, exception3, exception4, filter)));
+	}
+
+	/**
+	 * Removes all elements of the given collection that satisfy the given filter, through
+	 * {@link Collection#removeIf(java.util.function.Predicate)}, hence in place and in a single pass.
+	 * The exceptions thrown by the filter are propagated with their type. If the filter throws an exception,
+	 * an {@link java.util.ArrayList} is left unmodified, while other collections might have already
+	 * lost the elements that satisfied the filter before the exception.
+	 * 
+	 * @param <T> the type of the elements of the collection
+	 * @param <E1> the first type of exceptions thrown by the filter
+	 * @param <E2> the second type of exceptions thrown by the filter
+	 * @param <E3> the third type of exceptions thrown by the filter
+	 * @param <E4> the fourth type of exceptions thrown by the filter
+	 * @param <E5> the fifth type of exceptions thrown by the filter
+	 * @param collection the collection
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param filter the filter
+	 * @return true if and only if some element has been removed
+	 * @throws E1 if the filter throws it
+	 * @throws E2 if the filter throws it
+	 * @throws E3 if the filter throws it
+	 * @throws E4 if the filter throws it
+	 * @throws E5 if the filter throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> boolean removeIf(Collection<T> collection, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, PredicateWithExceptions5<? super T, E1, E2, E3, E4, E5> filter) throws E1, E2, E3, E4, E5 {
+		return CheckSupplier.check(exception1, exception2, exception3, exception4, exception5, () -> collection.removeIf(UncheckPredicate.<T, E1, E2, E3, E4, E5>uncheck(exception1, exception2, exception3, exception4, exception5, filter)));
+	}
+
+	/**
+	 * Removes all elements of the given collection that satisfy the given filter, through
+	 * {@link Collection#removeIf(java.util.function.Predicate)}, hence in place and in a single pass.
+	 * The exceptions thrown by the filter are propagated with their type. If the filter throws an exception,
+	 * an {@link java.util.ArrayList} is left unmodified, while other collections might have already
+	 * lost the elements that satisfied the filter before the exception.
+	 * 
+	 * @param <T> the type of the elements of the collection
+	 * @param <E1> the first type of exceptions thrown by the filter
+	 * @param <E2> the second type of exceptions thrown by the filter
+	 * @param <E3> the third type of exceptions thrown by the filter
+	 * @param <E4> the fourth type of exceptions thrown by the filter
+	 * @param <E5> the fifth type of exceptions thrown by the filter
+	 * @param <E6> the sixth type of exceptions thrown by the filter
+	 * @param collection the collection
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param filter the filter
+	 * @return true if and only if some element has been removed
+	 * @throws E1 if the filter throws it
+	 * @throws E2 if the filter throws it
+	 * @throws E3 if the filter throws it
+	 * @throws E4 if the filter throws it
+	 * @throws E5 if the filter throws it
+	 * @throws E6 if the filter throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> boolean removeIf(Collection<T> collection, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, PredicateWithExceptions6<? super T, E1, E2, E3, E4, E5, E6> filter) throws E1, E2, E3, E4, E5, E6 {
+		return CheckSupplier.check(exception1, exception2, exception3, exception4, exception5, exception6, () -> collection.removeIf(UncheckPredicate.<T, E1, E2, E3, E4, E5, E6>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, filter)));
+	}
+
+	/**
+	 * Removes all elements of the given collection that satisfy the given filter, through
+	 * {@link Collection#removeIf(java.util.function.Predicate)}, hence in place and in a single pass.
+	 * The exceptions thrown by the filter are propagated with their type. If the filter throws an exception,
+	 * an {@link java.util.ArrayList} is left unmodified, while other collections might have already
+	 * lost the elements that satisfied the filter before the exception.
+	 * 
+	 * @param <T> the type of the elements of the collection
+	 * @param <E1> the first type of exceptions thrown by the filter
+	 * @param <E2> the second type of exceptions thrown by the filter
+	 * @param <E3> the third type of exceptions thrown by the filter
+	 * @param <E4> the fourth type of exceptions thrown by the filter
+	 * @param <E5> the fifth type of exceptions thrown by the filter
+	 * @param <E6> the sixth type of exceptions thrown by the filter
+	 * @param <E7> the seventh type of exceptions thrown by the filter
+	 * @param collection the collection
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param filter the filter
+	 * @return true if and only if some element has been removed
+	 * @throws E1 if the filter throws it
+	 * @throws E2 if the filter throws it
+	 * @throws E3 if the filter throws it
+	 * @throws E4 if the filter throws it
+	 * @throws E5 if the filter throws it
+	 * @throws E6 if the filter throws it
+	 * @throws E7 if the filter throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> boolean removeIf(Collection<T> collection, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, PredicateWithExceptions7<? super T, E1, E2, E3, E4, E5, E6, E7> filter) throws E1, E2, E3, E4, E5, E6, E7 {
+		return CheckSupplier.check(exception1, exception2, exception3, exception4, exception5, exception6, exception7, () -> collection.removeIf(UncheckPredicate.<T, E1, E2, E3, E4, E5, E6, E7>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, exception7, filter)));
+	}
+
+	/**
+	 * Replaces each element of the given list with the result of the given operator on that element, through
+	 * {@link List#replaceAll(java.util.function.UnaryOperator)}, hence in place and in a single pass.
+	 * The exceptions thrown by the operator are propagated with their type.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param list the list
+	 * @param operator the operator
+	 * @throws Throwable if the operator throws it
+	 */
+	public static <T> void replaceAll(List<T> list, FunctionWithExceptions<? super T, ? extends T> operator) throws Throwable {
+		var unchecked = UncheckFunction.uncheck(operator);
+		CheckRunnable.check(Throwable.class, () -> list.replaceAll(unchecked::apply));
+	}
+
+	/**
+	 * Replaces each element of the given list with the result of the given operator on that element, through
+	 * {@link List#replaceAll(java.util.function.UnaryOperator)}, hence in place and in a single pass.
+	 * The exceptions thrown by the operator are propagated with their type.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <E1> the type of exceptions thrown by the operator
+	 * @param list the list
+	 * @param exception the exception tag of {@code E1}
+	 * @param operator the operator
+	 * @throws E1 if the operator throws it
+	 */
+	public static <T, E1 extends Throwable> void replaceAll(List<T> list, Class<E1> exception, FunctionWithExceptions1<? super T, ? extends T, E1> operator) throws E1 {
+		var unchecked = UncheckFunction.<T, T, E1>uncheck(exception, operator);
+		CheckRunnable.check(exception, () -> list.replaceAll(unchecked::apply));
+	}
+
+	/**
+	 * Replaces each element of the given list with the result of the given operator on that element, through
+	 * {@link List#replaceAll(java.util.function.UnaryOperator)}, hence in place and in a single pass.
+	 * The exceptions thrown by the operator are propagated with their type.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <E1> the first type of exceptions thrown by the operator
+	 * @param <E2> the second type of exceptions thrown by the operator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param operator the operator
+	 * @throws E1 if the operator throws it
+	 * @throws E2 if the operator throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable> void replaceAll(List<T> list, Class<E1> exception1, Class<E2> exception2, FunctionWithExceptions2<? super T, ? extends T, E1, E2> operator) throws E1, E2 {
+		var unchecked = UncheckFunction.<T, T, E1, E2>uncheck(exception1, exception2, operator);
+		CheckRunnable.check(exception1, exception2, () -> list.replaceAll(unchecked::apply));
+	}
+
+	/**
+	 * Replaces each element of the given list with the result of the given operator on that element, through
+	 * {@link List#replaceAll(java.util.function.UnaryOperator)}, hence in place and in a single pass.
+	 * The exceptions thrown by the operator are propagated with their type.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <E1> the first type of exceptions thrown by the operator
+	 * @param <E2> the second type of exceptions thrown by the operator
+	 * @param <E3> the third type of exceptions thrown by the operator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param operator the operator
+	 * @throws E1 if the operator throws it
+	 * @throws E2 if the operator throws it
+	 * @throws E3 if the operator throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> void replaceAll(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, FunctionWithExceptions3<? super T, ? extends T, E1, E2, E3> operator) throws E1, E2, E3 {
+		var unchecked = UncheckFunction.<T, T, E1, E2, E3>uncheck(exception1, exception2, exception3, operator);
+		CheckRunnable.check(exception1, exception2, exception3, () -> list.replaceAll(unchecked::apply));
+	}
+
+	/**
+	 * Replaces each element of the given list with the result of the given operator on that element, through
+	 * {@link List#replaceAll(java.util.function.UnaryOperator)}, hence in place and in a single pass.
+	 * The exceptions thrown by the operator are propagated with their type.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <E1> the first type of exceptions thrown by the operator
+	 * @param <E2> the second type of exceptions thrown by the operator
+	 * @param <E3> the third type of exceptions thrown by the operator
+	 * @param <E4> the fourth type of exceptions thrown by the operator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param operator the operator
+	 * @throws E1 if the operator throws it
+	 * @throws E2 if the operator throws it
+	 * @throws E3 if the operator throws it
+	 * @throws E4 if the operator throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> void replaceAll(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, FunctionWithExceptions4<? super T, ? extends T, E1, E2, E3, E4> operator) throws E1, E2, E3, E4 {
+		var unchecked = UncheckFunction.<T, T, E1, E2, E3, E4>uncheck(exception1, exception2, exception3, exception4, operator);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, () -> list.replaceAll(unchecked::apply));
+	}
+
+	/**
+	 * Replaces each element of the given list with the result of the given operator on that element, through
+	 * {@link List#replaceAll(java.util.function.UnaryOperator)}, hence in place and in a single pass.
+	 * The exceptions thrown by the operator are propagated with their type.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <E1> the first type of exceptions thrown by the operator
+	 * @param <E2> the second type of exceptions thrown by the operator
+	 * @param <E3> the third type of exceptions thrown by the operator
+	 * @param <E4> the fourth type of exceptions thrown by the operator
+	 * @param <E5> the fifth type of exceptions thrown by the operator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param operator the operator
+	 * @throws E1 if the operator throws it
+	 * @throws E2 if the operator throws it
+	 * @throws E3 if the operator throws it
+	 * @throws E4 if the operator throws it
+	 * @throws E5 if the operator throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> void replaceAll(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, FunctionWithExceptions5<? super T, ? extends T, E1, E2, E3, E4, E5> operator) throws E1, E2, E3, E4, E5 {
+		var unchecked = UncheckFunction.<T, T, E1, E2, E3, E4, E5>uncheck(exception1, exception2, exception3, exception4, exception5, operator);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, () -> list.replaceAll(unchecked::apply));
+	}
+
+	/**
+	 * Replaces each element of the given list with the result of the given operator on that element, through
+	 * {@link List#replaceAll(java.util.function.UnaryOperator)}, hence in place and in a single pass.
+	 * The exceptions thrown by the operator are propagated with their type.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <E1> the first type of exceptions thrown by the operator
+	 * @param <E2> the second type of exceptions thrown by the operator
+	 * @param <E3> the third type of exceptions thrown by the operator
+	 * @param <E4> the fourth type of exceptions thrown by the operator
+	 * @param <E5> the fifth type of exceptions thrown by the operator
+	 * @param <E6> the sixth type of exceptions thrown by the operator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param operator the operator
+	 * @throws E1 if the operator throws it
+	 * @throws E2 if the operator throws it
+	 * @throws E3 if the operator throws it
+	 * @throws E4 if the operator throws it
+	 * @throws E5 if the operator throws it
+	 * @throws E6 if the operator throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> void replaceAll(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, FunctionWithExceptions6<? super T, ? extends T, E1, E2, E3, E4, E5, E6> operator) throws E1, E2, E3, E4, E5, E6 {
+		var unchecked = UncheckFunction.<T, T, E1, E2, E3, E4, E5, E6>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, operator);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, () -> list.replaceAll(unchecked::apply));
+	}
+
+	/**
+	 * Replaces each element of the given list with the result of the given operator on that element, through
+	 * {@link List#replaceAll(java.util.function.UnaryOperator)}, hence in place and in a single pass.
+	 * The exceptions thrown by the operator are propagated with their type.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <E1> the first type of exceptions thrown by the operator
+	 * @param <E2> the second type of exceptions thrown by the operator
+	 * @param <E3> the third type of exceptions thrown by the operator
+	 * @param <E4> the fourth type of exceptions thrown by the operator
+	 * @param <E5> the fifth type of exceptions thrown by the operator
+	 * @param <E6> the sixth type of exceptions thrown by the operator
+	 * @param <E7> the seventh type of exceptions thrown by the operator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param operator the operator
+	 * @throws E1 if the operator throws it
+	 * @throws E2 if the operator throws it
+	 * @throws E3 if the operator throws it
+	 * @throws E4 if the operator throws it
+	 * @throws E5 if the operator throws it
+	 * @throws E6 if the operator throws it
+	 * @throws E7 if the operator throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> void replaceAll(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, FunctionWithExceptions7<? super T, ? extends T, E1, E2, E3, E4, E5, E6, E7> operator) throws E1, E2, E3, E4, E5, E6, E7 {
+		var unchecked = UncheckFunction.<T, T, E1, E2, E3, E4, E5, E6, E7>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, exception7, operator);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, exception7, () -> list.replaceAll(unchecked::apply));
+	}
+
+	/**
+	 * Applies the given action to each entry of the given map, through
+	 * {@link Map#forEach(java.util.function.BiConsumer)}, hence with the internal iteration of the map.
+	 * The exceptions thrown by the action are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param map the map
+	 * @param action the action
+	 * @throws Throwable if the action throws it
+	 */
+	public static <K, V> void forEach(Map<K, V> map, BiConsumerWithExceptions<? super K, ? super V> action) throws Throwable {
+		var unchecked = UncheckBiConsumer.<K, V>uncheck(action);
+		CheckRunnable.check(Throwable.class, () -> map.forEach(unchecked));
+	}
+
+	/**
+	 * Applies the given action to each entry of the given map, through
+	 * {@link Map#forEach(java.util.function.BiConsumer)}, hence with the internal iteration of the map.
+	 * The exceptions thrown by the action are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param <E1> the type of exceptions thrown by the action
+	 * @param map the map
+	 * @param exception the exception tag of {@code E1}
+	 * @param action the action
+	 * @throws E1 if the action throws it
+	 */
+	public static <K, V, E1 extends Throwable> void forEach(Map<K, V> map, Class<E1> exception, BiConsumerWithExceptions1<? super K, ? super V, E1> action) throws E1 {
+		var unchecked = UncheckBiConsumer.<K, V, E1>uncheck(exception, action);
+		CheckRunnable.check(exception, () -> map.forEach(unchecked));
+	}
+
+	/**
+	 * Applies the given action to each entry of the given map, through
+	 * {@link Map#forEach(java.util.function.BiConsumer)}, hence with the internal iteration of the map.
+	 * The exceptions thrown by the action are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param <E1> the first type of exceptions thrown by the action
+	 * @param <E2> the second type of exceptions thrown by the action
+	 * @param map the map
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param action the action
+	 * @throws E1 if the action throws it
+	 * @throws E2 if the action throws it
+	 */
+	public static <K, V, E1 extends Throwable, E2 extends Throwable> void forEach(Map<K, V> map, Class<E1> exception1, Class<E2> exception2, BiConsumerWithExceptions2<? super K, ? super V, E1, E2> action) throws E1, E2 {
+		var unchecked = UncheckBiConsumer.<K, V, E1, E2>uncheck(exception1, exception2, action);
+		CheckRunnable.check(exception1, exception2, () -> map.forEach(unchecked));
+	}
+
+	/**
+	 * Applies the given action to each entry of the given map, through
+	 * {@link Map#forEach(java.util.function.BiConsumer)}, hence with the internal iteration of the map.
+	 * The exceptions thrown by the action are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param <E1> the first type of exceptions thrown by the action
+	 * @param <E2> the second type of exceptions thrown by the action
+	 * @param <E3> the third type of exceptions thrown by the action
+	 * @param map the map
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param action the action
+	 * @throws E1 if the action throws it
+	 * @throws E2 if the action throws it
+	 * @throws E3 if the action throws it
+	 */
+	public static <K, V, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> void forEach(Map<K, V> map, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, BiConsumerWithExceptions3<? super K, ? super V, E1, E2, E3> action) throws E1, E2, E3 {
+		var unchecked = UncheckBiConsumer.<K, V, E1, E2, E3>uncheck(exception1, exception2, exception3, action);
+		CheckRunnable.check(exception1, exception2, exception3, () -> map.forEach(unchecked));
+	}
+
+	/**
+	 * Applies the given action to each entry of the given map, through
+	 * {@link Map#forEach(java.util.function.BiConsumer)}, hence with the internal iteration of the map.
+	 * The exceptions thrown by the action are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param <E1> the first type of exceptions thrown by the action
+	 * @param <E2> the second type of exceptions thrown by the action
+	 * @param <E3> the third type of exceptions thrown by the action
+	 * @param <E4> the fourth type of exceptions thrown by the action
+	 * @param map the map
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param action the action
+	 * @throws E1 if the action throws it
+	 * @throws E2 if the action throws it
+	 * @throws E3 if the action throws it
+	 * @throws E4 if the action throws it
+	 */
+	public static <K, V, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> void forEach(Map<K, V> map, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, BiConsumerWithExceptions4<? super K, ? super V, E1, E2, E3, E4> action) throws E1, E2, E3, E4 {
+		var unchecked = UncheckBiConsumer.<K, V, E1, E2, E3, E4>uncheck(exception1, exception2, exception3, exception4, action);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, () -> map.forEach(unchecked));
+	}
+
+	/**
+	 * Applies the given action to each entry of the given map, through
+	 * {@link Map#forEach(java.util.function.BiConsumer)}, hence with the internal iteration of the map.
+	 * The exceptions thrown by the action are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param <E1> the first type of exceptions thrown by the action
+	 * @param <E2> the second type of exceptions thrown by the action
+	 * @param <E3> the third type of exceptions thrown by the action
+	 * @param <E4> the fourth type of exceptions thrown by the action
+	 * @param <E5> the fifth type of exceptions thrown by the action
+	 * @param map the map
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param action the action
+	 * @throws E1 if the action throws it
+	 * @throws E2 if the action throws it
+	 * @throws E3 if the action throws it
+	 * @throws E4 if the action throws it
+	 * @throws E5 if the action throws it
+	 */
+	public static <K, V, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> void forEach(Map<K, V> map, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, BiConsumerWithExceptions5<? super K, ? super V, E1, E2, E3, E4, E5> action) throws E1, E2, E3, E4, E5 {
+		var unchecked = UncheckBiConsumer.<K, V, E1, E2, E3, E4, E5>uncheck(exception1, exception2, exception3, exception4, exception5, action);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, () -> map.forEach(unchecked));
+	}
+
+	/**
+	 * Applies the given action to each entry of the given map, through
+	 * {@link Map#forEach(java.util.function.BiConsumer)}, hence with the internal iteration of the map.
+	 * The exceptions thrown by the action are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param <E1> the first type of exceptions thrown by the action
+	 * @param <E2> the second type of exceptions thrown by the action
+	 * @param <E3> the third type of exceptions thrown by the action
+	 * @param <E4> the fourth type of exceptions thrown by the action
+	 * @param <E5> the fifth type of exceptions thrown by the action
+	 * @param <E6> the sixth type of exceptions thrown by the action
+	 * @param map the map
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param action the action
+	 * @throws E1 if the action throws it
+	 * @throws E2 if the action throws it
+	 * @throws E3 if the action throws it
+	 * @throws E4 if the action throws it
+	 * @throws E5 if the action throws it
+	 * @throws E6 if the action throws it
+	 */
+	public static <K, V, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> void forEach(Map<K, V> map, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, BiConsumerWithExceptions6<? super K, ? super V, E1, E2, E3, E4, E5, E6> action) throws E1, E2, E3, E4, E5, E6 {
+		var unchecked = UncheckBiConsumer.<K, V, E1, E2, E3, E4, E5, E6>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, action);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, () -> map.forEach(unchecked));
+	}
+
+	/**
+	 * Applies the given action to each entry of the given map, through
+	 * {@link Map#forEach(java.util.function.BiConsumer)}, hence with the internal iteration of the map.
+	 * The exceptions thrown by the action are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param <E1> the first type of exceptions thrown by the action
+	 * @param <E2> the second type of exceptions thrown by the action
+	 * @param <E3> the third type of exceptions thrown by the action
+	 * @param <E4> the fourth type of exceptions thrown by the action
+	 * @param <E5> the fifth type of exceptions thrown by the action
+	 * @param <E6> the sixth type of exceptions thrown by the action
+	 * @param <E7> the seventh type of exceptions thrown by the action
+	 * @param map the map
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param action the action
+	 * @throws E1 if the action throws it
+	 * @throws E2 if the action throws it
+	 * @throws E3 if the action throws it
+	 * @throws E4 if the action throws it
+	 * @throws E5 if the action throws it
+	 * @throws E6 if the action throws it
+	 * @throws E7 if the action throws it
+	 */
+	public static <K, V, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> void forEach(Map<K, V> map, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, BiConsumerWithExceptions7<? super K, ? super V, E1, E2, E3, E4, E5, E6, E7> action) throws E1, E2, E3, E4, E5, E6, E7 {
+		var unchecked = UncheckBiConsumer.<K, V, E1, E2, E3, E4, E5, E6, E7>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, exception7, action);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, exception7, () -> map.forEach(unchecked));
+	}
+
+	/**
+	 * Replaces the value of each entry of the given map with the result of the given function on that entry, through
+	 * {@link Map#replaceAll(java.util.function.BiFunction)}, hence in place and with the internal iteration of the map.
+	 * The exceptions thrown by the function are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param map the map
+	 * @param function the function
+	 * @throws Throwable if the function throws it
+	 */
+	public static <K, V> void replaceAll(Map<K, V> map, BiFunctionWithExceptions<? super K, ? super V, ? extends V> function) throws Throwable {
+		var unchecked = UncheckBiFunction.<K, V, V>uncheck(function);
+		CheckRunnable.check(Throwable.class, () -> map.replaceAll(unchecked));
+	}
+
+	/**
+	 * Replaces the value of each entry of the given map with the result of the given function on that entry, through
+	 * {@link Map#replaceAll(java.util.function.BiFunction)}, hence in place and with the internal iteration of the map.
+	 * The exceptions thrown by the function are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param <E1> the type of exceptions thrown by the function
+	 * @param map the map
+	 * @param exception the exception tag of {@code E1}
+	 * @param function the function
+	 * @throws E1 if the function throws it
+	 */
+	public static <K, V, E1 extends Throwable> void replaceAll(Map<K, V> map, Class<E1> exception, BiFunctionWithExceptions1<? super K, ? super V, ? extends V, E1> function) throws E1 {
+		var unchecked = UncheckBiFunction.<K, V, V, E1>uncheck(exception, function);
+		CheckRunnable.check(exception, () -> map.replaceAll(unchecked));
+	}
+
+	/**
+	 * Replaces the value of each entry of the given map with the result of the given function on that entry, through
+	 * {@link Map#replaceAll(java.util.function.BiFunction)}, hence in place and with the internal iteration of the map.
+	 * The exceptions thrown by the function are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param map the map
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param function the function
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 */
+	public static <K, V, E1 extends Throwable, E2 extends Throwable> void replaceAll(Map<K, V> map, Class<E1> exception1, Class<E2> exception2, BiFunctionWithExceptions2<? super K, ? super V, ? extends V, E1, E2> function) throws E1, E2 {
+		var unchecked = UncheckBiFunction.<K, V, V, E1, E2>uncheck(exception1, exception2, function);
+		CheckRunnable.check(exception1, exception2, () -> map.replaceAll(unchecked));
+	}
+
+	/**
+	 * Replaces the value of each entry of the given map with the result of the given function on that entry, through
+	 * {@link Map#replaceAll(java.util.function.BiFunction)}, hence in place and with the internal iteration of the map.
+	 * The exceptions thrown by the function are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param map the map
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param function the function
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 */
+	public static <K, V, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> void replaceAll(Map<K, V> map, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, BiFunctionWithExceptions3<? super K, ? super V, ? extends V, E1, E2, E3> function) throws E1, E2, E3 {
+		var unchecked = UncheckBiFunction.<K, V, V, E1, E2, E3>uncheck(exception1, exception2, exception3, function);
+		CheckRunnable.check(exception1, exception2, exception3, () -> map.replaceAll(unchecked));
+	}
+
+	/**
+	 * Replaces the value of each entry of the given map with the result of the given function on that entry, through
+	 * {@link Map#replaceAll(java.util.function.BiFunction)}, hence in place and with the internal iteration of the map.
+	 * The exceptions thrown by the function are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param map the map
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param function the function
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 */
+	public static <K, V, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> void replaceAll(Map<K, V> map, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, BiFunctionWithExceptions4<? super K, ? super V, ? extends V, E1, E2, E3, E4> function) throws E1, E2, E3, E4 {
+		var unchecked = UncheckBiFunction.<K, V, V, E1, E2, E3, E4>uncheck(exception1, exception2, exception3, exception4, function);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, () -> map.replaceAll(unchecked));
+	}
+
+	/**
+	 * Replaces the value of each entry of the given map with the result of the given function on that entry, through
+	 * {@link Map#replaceAll(java.util.function.BiFunction)}, hence in place and with the internal iteration of the map.
+	 * The exceptions thrown by the function are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param <E5> the fifth type of exceptions thrown by the function
+	 * @param map the map
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param function the function
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 * @throws E5 if the function throws it
+	 */
+	public static <K, V, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> void replaceAll(Map<K, V> map, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, BiFunctionWithExceptions5<? super K, ? super V, ? extends V, E1, E2, E3, E4, E5> function) throws E1, E2, E3, E4, E5 {
+		var unchecked = UncheckBiFunction.<K, V, V, E1, E2, E3, E4, E5>uncheck(exception1, exception2, exception3, exception4, exception5, function);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, () -> map.replaceAll(unchecked));
+	}
+
+	/**
+	 * Replaces the value of each entry of the given map with the result of the given function on that entry, through
+	 * {@link Map#replaceAll(java.util.function.BiFunction)}, hence in place and with the internal iteration of the map.
+	 * The exceptions thrown by the function are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param <E5> the fifth type of exceptions thrown by the function
+	 * @param <E6> the sixth type of exceptions thrown by the function
+	 * @param map the map
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param function the function
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 * @throws E5 if the function throws it
+	 * @throws E6 if the function throws it
+	 */
+	public static <K, V, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> void replaceAll(Map<K, V> map, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, BiFunctionWithExceptions6<? super K, ? super V, ? extends V, E1, E2, E3, E4, E5, E6> function) throws E1, E2, E3, E4, E5, E6 {
+		var unchecked = UncheckBiFunction.<K, V, V, E1, E2, E3, E4, E5, E6>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, function);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, () -> map.replaceAll(unchecked));
+	}
+
+	/**
+	 * Replaces the value of each entry of the given map with the result of the given function on that entry, through
+	 * {@link Map#replaceAll(java.util.function.BiFunction)}, hence in place and with the internal iteration of the map.
+	 * The exceptions thrown by the function are propagated with their type.
+	 * 
+	 * @param <K> the type of the keys of the map
+	 * @param <V> the type of the values of the map
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param <E5> the fifth type of exceptions thrown by the function
+	 * @param <E6> the sixth type of exceptions thrown by the function
+	 * @param <E7> the seventh type of exceptions thrown by the function
+	 * @param map the map
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param function the function
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 * @throws E5 if the function throws it
+	 * @throws E6 if the function throws it
+	 * @throws E7 if the function throws it
+	 */
+	public static <K, V, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> void replaceAll(Map<K, V> map, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, BiFunctionWithExceptions7<? super K, ? super V, ? extends V, E1, E2, E3, E4, E5, E6, E7> function) throws E1, E2, E3, E4, E5, E6, E7 {
+		var unchecked = UncheckBiFunction.<K, V, V, E1, E2, E3, E4, E5, E6, E7>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, exception7, function);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, exception7, () -> map.replaceAll(unchecked));
+	}
+}
@@ -0,0 +1,866 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions;
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions1;
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions2;
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions3;
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions4;
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions5;
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions6;
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions7;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions1;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions2;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions3;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions4;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions5;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions6;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions7;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions1;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions2;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions3;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions4;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions5;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions6;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions7;
+
+/**
+ * A timer of the calls to functions, suppliers and consumers with exceptions. It decorates them
+ * so that they record their latencies into a {@link LatencyHistogram} for the successful calls
+ * and into a distinct {@link LatencyHistogram} for each class of exceptions thrown by the failed calls.
+ * The decorated functional interfaces have the same exceptions as the original ones, hence they can be
+ * further transformed, for instance, through {@link UncheckFunction#uncheck(Class, FunctionWithExceptions1)}.
+ * The calls that stop a traversal of {@link Traversals}, through an {@link Exit}, count as successful.
+ * Recording a latency is lock-free and does not allocate, except the first time an exception class is met.
+ */
+public final class CallTimer {
+
+	/**
+	 * The latencies of the successful calls.
+	 */
+	private final LatencyHistogram successes = new LatencyHistogram();
+
+	/**
+	 * The latencies of the failed calls, for each class of exceptions.
+	 */
+	private final ConcurrentHashMap<Class<? extends Throwable>, LatencyHistogram> failures = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a timer, with no recorded latency.
+	 */
+	public CallTimer() {}
+
+	/**
+	 * Yields the latencies of the successful calls.
+	 * 
+	 * @return the latencies of the successful calls
+	 */
+	public LatencyHistogram getSuccesses() {
+		return successes;
+	}
+
+	/**
+	 * Yields the latencies of the failed calls, for each class of exceptions thrown by them.
+	 * 
+	 * @return the latencies of the failed calls; this is an unmodifiable view, that reflects later changes
+	 */
+	public Map<Class<? extends Throwable>, LatencyHistogram> getFailures() {
+		return Collections.unmodifiableMap(failures);
+	}
+
+	/**
+	 * Decorates the given function so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param function the function to decorate
+	 * @return the decorated function
+	 */
+	public <T, R> FunctionWithExceptions<T, R> timeFunction(FunctionWithExceptions<? super T, ? extends R> function) {
+		return t -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = function.apply(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given function so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param <E1> the type of exceptions thrown by the function
+	 * @param exception the exception tag of {@code E1}
+	 * @param function the function to decorate
+	 * @return the decorated function
+	 */
+	public <T, R, E1 extends Throwable> FunctionWithExceptions1<T, R, E1> timeFunction(Class<E1> exception, FunctionWithExceptions1<? super T, ? extends R, E1> function) {
+		return t -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = function.apply(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given function so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param function the function to decorate
+	 * @return the decorated function
+	 */
+	public <T, R, E1 extends Throwable, E2 extends Throwable> FunctionWithExceptions2<T, R, E1, E2> timeFunction(Class<E1> exception1, Class<E2> exception2, FunctionWithExceptions2<? super T, ? extends R, E1, E2> function) {
+		return t -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = function.apply(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given function so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param function the function to decorate
+	 * @return the decorated function
+	 */
+	public <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> FunctionWithExceptions3<T, R, E1, E2, E3> timeFunction(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, FunctionWithExceptions3<? super T, ? extends R, E1, E2, E3> function) {
+		return t -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = function.apply(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given function so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param function the function to decorate
+	 * @return the decorated function
+	 */
+	public <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> FunctionWithExceptions4<T, R, E1, E2, E3, E4> timeFunction(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, FunctionWithExceptions4<? super T, ? extends R, E1, E2, E3, E4> function) {
+		return t -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = function.apply(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given function so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param <E5> the fifth type of exceptions thrown by the function
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param function the function to decorate
+	 * @return the decorated function
+	 */
+	public <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> FunctionWithExceptions5<T, R, E1, E2, E3, E4, E5> timeFunction(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, FunctionWithExceptions5<? super T, ? extends R, E1, E2, E3, E4, E5> function) {
+		return t -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = function.apply(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given function so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param <E5> the fifth type of exceptions thrown by the function
+	 * @param <E6> the sixth type of exceptions thrown by the function
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param function the function to decorate
+	 * @return the decorated function
+	 */
+	public <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> FunctionWithExceptions6<T, R, E1, E2, E3, E4, E5, E6> timeFunction(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, FunctionWithExceptions6<? super T, ? extends R, E1, E2, E3, E4, E5, E6> function) {
+		return t -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = function.apply(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given function so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param <E5> the fifth type of exceptions thrown by the function
+	 * @param <E6> the sixth type of exceptions thrown by the function
+	 * @param <E7> the seventh type of exceptions thrown by the function
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param function the function to decorate
+	 * @return the decorated function
+	 */
+	public <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> FunctionWithExceptions7<T, R, E1, E2, E3, E4, E5, E6, E7> timeFunction(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, FunctionWithExceptions7<? super T, ? extends R, E1, E2, E3, E4, E5, E6, E7> function) {
+		return t -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = function.apply(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given supplier so that it records its latencies into this timer.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param supplier the supplier to decorate
+	 * @return the decorated supplier
+	 */
+	public <R> SupplierWithExceptions<R> timeSupplier(SupplierWithExceptions<? extends R> supplier) {
+		return () -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = supplier.get();
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given supplier so that it records its latencies into this timer.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the type of exceptions thrown by the supplier
+	 * @param exception the exception tag of {@code E1}
+	 * @param supplier the supplier to decorate
+	 * @return the decorated supplier
+	 */
+	public <R, E1 extends Throwable> SupplierWithExceptions1<R, E1> timeSupplier(Class<E1> exception, SupplierWithExceptions1<? extends R, E1> supplier) {
+		return () -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = supplier.get();
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given supplier so that it records its latencies into this timer.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param supplier the supplier to decorate
+	 * @return the decorated supplier
+	 */
+	public <R, E1 extends Throwable, E2 extends Throwable> SupplierWithExceptions2<R, E1, E2> timeSupplier(Class<E1> exception1, Class<E2> exception2, SupplierWithExceptions2<? extends R, E1, E2> supplier) {
+		return () -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = supplier.get();
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given supplier so that it records its latencies into this timer.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param supplier the supplier to decorate
+	 * @return the decorated supplier
+	 */
+	public <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> SupplierWithExceptions3<R, E1, E2, E3> timeSupplier(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, SupplierWithExceptions3<? extends R, E1, E2, E3> supplier) {
+		return () -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = supplier.get();
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given supplier so that it records its latencies into this timer.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param supplier the supplier to decorate
+	 * @return the decorated supplier
+	 */
+	public <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> SupplierWithExceptions4<R, E1, E2, E3, E4> timeSupplier(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, SupplierWithExceptions4<? extends R, E1, E2, E3, E4> supplier) {
+		return () -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = supplier.get();
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given supplier so that it records its latencies into this timer.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param <E5> the fifth type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param supplier the supplier to decorate
+	 * @return the decorated supplier
+	 */
+	public <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> SupplierWithExceptions5<R, E1, E2, E3, E4, E5> timeSupplier(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, SupplierWithExceptions5<? extends R, E1, E2, E3, E4, E5> supplier) {
+		return () -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = supplier.get();
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given supplier so that it records its latencies into this timer.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param <E5> the fifth type of exceptions thrown by the supplier
+	 * @param <E6> the sixth type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param supplier the supplier to decorate
+	 * @return the decorated supplier
+	 */
+	public <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> SupplierWithExceptions6<R, E1, E2, E3, E4, E5, E6> timeSupplier(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, SupplierWithExceptions6<? extends R, E1, E2, E3, E4, E5, E6> supplier) {
+		return () -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = supplier.get();
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given supplier so that it records its latencies into this timer.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param <E5> the fifth type of exceptions thrown by the supplier
+	 * @param <E6> the sixth type of exceptions thrown by the supplier
+	 * @param <E7> the seventh type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param supplier the supplier to decorate
+	 * @return the decorated supplier
+	 */
+	public <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> SupplierWithExceptions7<R, E1, E2, E3, E4, E5, E6, E7> timeSupplier(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, SupplierWithExceptions7<? extends R, E1, E2, E3, E4, E5, E6, E7> supplier) {
+		return () -> {
+			long start = System.nanoTime();
+			R result;
+
+			try {
+				result = supplier.get();
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+			return result;
+		};
+	}
+
+	/**
+	 * Decorates the given consumer so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the consumed value
+	 * @param consumer the consumer to decorate
+	 * @return the decorated consumer
+	 */
+	public <T> ConsumerWithExceptions<T> timeConsumer(ConsumerWithExceptions<? super T> consumer) {
+		return t -> {
+			long start = System.nanoTime();
+
+			try {
+				consumer.accept(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+		};
+	}
+
+	/**
+	 * Decorates the given consumer so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the consumed value
+	 * @param <E1> the type of exceptions thrown by the consumer
+	 * @param exception the exception tag of {@code E1}
+	 * @param consumer the consumer to decorate
+	 * @return the decorated consumer
+	 */
+	public <T, E1 extends Throwable> ConsumerWithExceptions1<T, E1> timeConsumer(Class<E1> exception, ConsumerWithExceptions1<? super T, E1> consumer) {
+		return t -> {
+			long start = System.nanoTime();
+
+			try {
+				consumer.accept(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+		};
+	}
+
+	/**
+	 * Decorates the given consumer so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the consumed value
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param consumer the consumer to decorate
+	 * @return the decorated consumer
+	 */
+	public <T, E1 extends Throwable, E2 extends Throwable> ConsumerWithExceptions2<T, E1, E2> timeConsumer(Class<E1> exception1, Class<E2> exception2, ConsumerWithExceptions2<? super T, E1, E2> consumer) {
+		return t -> {
+			long start = System.nanoTime();
+
+			try {
+				consumer.accept(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+		};
+	}
+
+	/**
+	 * Decorates the given consumer so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the consumed value
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param consumer the consumer to decorate
+	 * @return the decorated consumer
+	 */
+	public <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> ConsumerWithExceptions3<T, E1, E2, E3> timeConsumer(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, ConsumerWithExceptions3<? super T, E1, E2, E3> consumer) {
+		return t -> {
+			long start = System.nanoTime();
+
+			try {
+				consumer.accept(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+		};
+	}
+
+	/**
+	 * Decorates the given consumer so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the consumed value
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param consumer the consumer to decorate
+	 * @return the decorated consumer
+	 */
+	public <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> ConsumerWithExceptions4<T, E1, E2, E3, E4> timeConsumer(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, ConsumerWithExceptions4<? super T, E1, E2, E3, E4> consumer) {
+		return t -> {
+			long start = System.nanoTime();
+
+			try {
+				consumer.accept(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+		};
+	}
+
+	/**
+	 * Decorates the given consumer so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the consumed value
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param <E5> the fifth type of exceptions thrown by the consumer
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param consumer the consumer to decorate
+	 * @return the decorated consumer
+	 */
+	public <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> ConsumerWithExceptions5<T, E1, E2, E3, E4, E5> timeConsumer(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, ConsumerWithExceptions5<? super T, E1, E2, E3, E4, E5> consumer) {
+		return t -> {
+			long start = System.nanoTime();
+
+			try {
+				consumer.accept(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+		};
+	}
+
+	/**
+	 * Decorates the given consumer so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the consumed value
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param <E5> the fifth type of exceptions thrown by the consumer
+	 * @param <E6> the sixth type of exceptions thrown by the consumer
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param consumer the consumer to decorate
+	 * @return the decorated consumer
+	 */
+	public <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> ConsumerWithExceptions6<T, E1, E2, E3, E4, E5, E6> timeConsumer(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, ConsumerWithExceptions6<? super T, E1, E2, E3, E4, E5, E6> consumer) {
+		return t -> {
+			long start = System.nanoTime();
+
+			try {
+				consumer.accept(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+		};
+	}
+
+	/**
+	 * Decorates the given consumer so that it records its latencies into this timer.
+	 * 
+	 * @param <T> the type of the consumed value
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param <E5> the fifth type of exceptions thrown by the consumer
+	 * @param <E6> the sixth type of exceptions thrown by the consumer
+	 * @param <E7> the seventh type of exceptions thrown by the consumer
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param consumer the consumer to decorate
+	 * @return the decorated consumer
+	 */
+	public <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> ConsumerWithExceptions7<T, E1, E2, E3, E4, E5, E6, E7> timeConsumer(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, ConsumerWithExceptions7<? super T, E1, E2, E3, E4, E5, E6, E7> consumer) {
+		return t -> {
+			long start = System.nanoTime();
+
+			try {
+				consumer.accept(t);
+			}
+			catch (Throwable e) {
+				record(start, e);
+				throw e;
+			}
+
+			record(start, null);
+		};
+	}
+
+	private void record(long start, Throwable failure) {
+		long elapsed = System.nanoTime() - start;
+
+		if (failure == null || Exit.isSignal(failure))
+			successes.record(elapsed);
+		else {
+			Class<? extends Throwable> type = failure.getClass();
+			var histogram = failures.get(type);
+			if (histogram == null)
+				histogram = failures.computeIfAbsent(type, key -> new LatencyHistogram());
+
+			histogram.record(elapsed);
+		}
+	}
+}
@@ -39,9 +39,9 @@ public abstract class CheckRunnable {
 		catch (UncheckedException e) {
 			var cause = e.getCause();
 			if (exception.isInstance(cause))
-				throw (T) cause;
+				throw (T) Instrumentation.recovered(cause, exception);
 			else
-				throw e;
+				throw Instrumentation.escaped(e, exception);
 		}
 	}
 
@@ -64,11 +64,11 @@ public abstract class CheckRunnable {
 		catch (UncheckedException e) {
 			var cause = e.getCause();
 			if (exception1.isInstance(cause))
-				throw (T1) cause;
+				throw (T1) Instrumentation.recovered(cause, exception1, exception2);
 			else if (exception2.isInstance(cause))
-				throw (T2) cause;
+				throw (T2) Instrumentation.recovered(cause, exception1, exception2);
 			else
-				throw e;
+				throw Instrumentation.escaped(e, exception1, exception2);
 		}
 	}
 
@@ -94,13 +94,13 @@ public abstract class CheckRunnable {
 		catch (UncheckedException e) {
 			var cause = e.getCause();
 			if (exception1.isInstance(cause))
-				throw (T1) cause;
+				throw (T1) Instrumentation.recovered(cause, exception1, exception2, exception3);
 			else if (exception2.isInstance(cause))
-				throw (T2) cause;
+				throw (T2) Instrumentation.recovered(cause, exception1, exception2, exception3);
 			else if (exception3.isInstance(cause))
-				throw (T3) cause;
+				throw (T3) Instrumentation.recovered(cause, exception1, exception2, exception3);
 			else
-				throw e;
+				throw Instrumentation.escaped(e, exception1, exception2, exception3);
 		}
 	}
 
@@ -131,15 +131,15 @@ public abstract class CheckRunnable {
 		catch (UncheckedException e) {
 			var cause = e.getCause();
 			if (exception1.isInstance(cause))
-				throw (T1) cause;
+				throw (T1) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4);
 			else if (exception2.isInstance(cause))
-				throw (T2) cause;
+				throw (T2) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4);
 			else if (exception3.isInstance(cause))
-				throw (T3) cause;
+				throw (T3) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4);
 			else if (exception4.isInstance(cause))
-				throw (T4) cause;
+				throw (T4) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4);
 			else
-				throw e;
+				throw Instrumentation.escaped(e, exception1, exception2, exception3, exception4);
 		}
 	}
 
@@ -173,17 +173,17 @@ public abstract class CheckRunnable {
 		catch (UncheckedException e) {
 			var cause = e.getCause();
 			if (exception1.isInstance(cause))
-				throw (T1) cause;
+				throw (T1) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5);
 			else if (exception2.isInstance(cause))
-				throw (T2) cause;
+				throw (T2) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5);
 			else if (exception3.isInstance(cause))
-				throw (T3) cause;
+				throw (T3) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5);
 			else if (exception4.isInstance(cause))
-				throw (T4) cause;
+				throw (T4) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5);
 			else if (exception5.isInstance(cause))
-				throw (T5) cause;
+				throw (T5) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5);
 			else
-				throw e;
+				throw Instrumentation.escaped(e, exception1, exception2, exception3, exception4, exception5);
 		}
 	}
 
@@ -220,19 +220,19 @@ public abstract class CheckRunnable {
 		catch (UncheckedException e) {
 			var cause = e.getCause();
 			if (exception1.isInstance(cause))
-				throw (T1) cause;
+				throw (T1) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6);
 			else if (exception2.isInstance(cause))
-				throw (T2) cause;
+				throw (T2) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6);
 			else if (exception3.isInstance(cause))
-				throw (T3) cause;
+				throw (T3) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6);
 			else if (exception4.isInstance(cause))
-				throw (T4) cause;
+				throw (T4) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6);
 			else if (exception5.isInstance(cause))
-				throw (T5) cause;
+				throw (T5) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6);
 			else if (exception6.isInstance(cause))
-				throw (T6) cause;
+				throw (T6) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6);
 			else
-				throw e;
+				throw Instrumentation.escaped(e, exception1, exception2, exception3, exception4, exception5, exception6);
 		}
 	}
 
@@ -272,21 +272,346 @@ public abstract class CheckRunnable {
 		catch (UncheckedException e) {
 			var cause = e.getCause();
 			if (exception1.isInstance(cause))
-				throw (T1) cause;
+				throw (T1) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6, exception7);
 			else if (exception2.isInstance(cause))
-				throw (T2) cause;
+				throw (T2) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6, exception7);
 			else if (exception3.isInstance(cause))
-				throw (T3) cause;
+				throw (T3) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6, exception7);
 			else if (exception4.isInstance(cause))
-				throw (T4) cause;
+				throw (T4) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6, exception7);
 			else if (exception5.isInstance(cause))
-				throw (T5) cause;
+				throw (T5) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6, exception7);
 			else if (exception6.isInstance(cause))
-				throw (T6) cause;
+				throw (T6) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6, exception7);
 			else if (exception7.isInstance(cause))
-				throw (T7) cause;
+				throw (T7) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6, exception7);
 			else
-				throw e;
+				throw Instrumentation.escaped(e, exception1, exception2, exception3, exception4, exception5, exception6, exception7);
+		}
+	}
+
+	/**
+	 * Runs a runnable and replaces the cause of an unchecked exception with a checked exception.
+	 * 
+	 * @param <S> the type of the replaced exception
+	 * @param <T> the type of the replacing exception
+	 * @param exception the class of the replaced exception
+	 * @param replacer the replacer of the replaced exception
+	 * @param runnable the runnable
+	 * @throws T if the runnable throws an unchecked exception whose cause is an instance of {@code exception}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <S extends Exception, T extends Exception> void check(Class<? extends S> exception, ExceptionReplacer<? super S, ? extends T> replacer, Runnable runnable) throws T {
+		try {
+			runnable.run();
+		}
+		catch (UncheckedException e) {
+			var cause = e.getCause();
+			if (exception.isInstance(cause))
+				throw replacer.apply((S) Instrumentation.recovered(cause, exception));
+			else
+				throw Instrumentation.escaped(e, exception);
+		}
+	}
+
+	/**
+	 * Runs a runnable and replaces the cause of an unchecked exception with a checked exception, for two types of causes.
+	 * 
+	 * @param <S1> the first type of the replaced exception
+	 * @param <T1> the first type of the replacing exception
+	 * @param <S2> the second type of the replaced exception
+	 * @param <T2> the second type of the replacing exception
+	 * @param exception1 the class of the first replaced exception
+	 * @param replacer1 the replacer of the first replaced exception
+	 * @param exception2 the class of the second replaced exception
+	 * @param replacer2 the replacer of the second replaced exception
+	 * @param runnable the runnable
+	 * @throws T1 if the runnable throws an unchecked exception whose cause is an instance of {@code exception1}
+	 * @throws T2 if the runnable throws an unchecked exception whose cause is an instance of {@code exception2}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <S1 extends Exception, T1 extends Exception, S2 extends Exception, T2 extends Exception> void check(Class<? extends S1> exception1, ExceptionReplacer<? super S1, ? extends T1> replacer1, Class<? extends S2> exception2, ExceptionReplacer<? super S2, ? extends T2> replacer2, Runnable runnable) throws T1, T2 {
+		try {
+			runnable.run();
+		}
+		catch (UncheckedException e) {
+			var cause = e.getCause();
+			if (exception1.isInstance(cause))
+				throw replacer1.apply((S1) Instrumentation.recovered(cause, exception1, exception2));
+			else if (exception2.isInstance(cause))
+				throw replacer2.apply((S2) Instrumentation.recovered(cause, exception1, exception2));
+			else
+				throw Instrumentation.escaped(e, exception1, exception2);
+		}
+	}
+
+	/**
+	 * Runs a runnable and replaces the cause of an unchecked exception with a checked exception, for three types of causes.
+	 * 
+	 * @param <S1> the first type of the replaced exception
+	 * @param <T1> the first type of the replacing exception
+	 * @param <S2> the second type of the replaced exception
+	 * @param <T2> the second type of the replacing exception
+	 * @param <S3> the third type of the replaced exception
+	 * @param <T3> the third type of the replacing exception
+	 * @param exception1 the class of the first replaced exception
+	 * @param replacer1 the replacer of the first replaced exception
+	 * @param exception2 the class of the second replaced exception
+	 * @param replacer2 the replacer of the second replaced exception
+	 * @param exception3 the class of the third replaced exception
+	 * @param replacer3 the replacer of the third replaced exception
+	 * @param runnable the runnable
+	 * @throws T1 if the runnable throws an unchecked exception whose cause is an instance of {@code exception1}
+	 * @throws T2 if the runnable throws an unchecked exception whose cause is an instance of {@code exception2}
+	 * @throws T3 if the runnable throws an unchecked exception whose cause is an instance of {@code exception3}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <S1 extends Exception, T1 extends Exception, S2 extends Exception, T2 extends Exception, S3 extends Exception, T3 extends Exception>
+			void check(Class<? extends S1> exception1, ExceptionReplacer<? super S1, ? extends T1> replacer1, Class<? extends S2> exception2, ExceptionReplacer<? super S2, ? extends T2> replacer2, Class<? extends S3> exception3, ExceptionReplacer<? super S3, ? extends T3> replacer3, Runnable runnable) throws T1, T2, T3 {
+
+		try {
+			runnable.run();
+		}
+		catch (UncheckedException e) {
+			var cause = e.getCause();
+			if (exception1.isInstance(cause))
+				throw replacer1.apply((S1) Instrumentation.recovered(cause, exception1, exception2, exception3));
+			else if (exception2.isInstance(cause))
+				throw replacer2.apply((S2) Instrumentation.recovered(cause, exception1, exception2, exception3));
+			else if (exception3.isInstance(cause))
+				throw replacer3.apply((S3) Instrumentation.recovered(cause, exception1, exception2, exception3));
+			else
+				throw Instrumentation.escaped(e, exception1, exception2, exception3);
+		}
+	}
+
+	/**
+	 * Runs a runnable and replaces the cause of an unchecked exception with a checked exception, for four types of causes.
+	 * 
+	 * @param <S1> the first type of the replaced exception
+	 * @param <T1> the first type of the replacing exception
+	 * @param <S2> the second type of the replaced exception
+	 * @param <T2> the second type of the replacing exception
+	 * @param <S3> the third type of the replaced exception
+	 * @param <T3> the third type of the replacing exception
+	 * @param <S4> the fourth type of the replaced exception
+	 * @param <T4> the fourth type of the replacing exception
+	 * @param exception1 the class of the first replaced exception
+	 * @param replacer1 the replacer of the first replaced exception
+	 * @param exception2 the class of the second replaced exception
+	 * @param replacer2 the replacer of the second replaced exception
+	 * @param exception3 the class of the third replaced exception
+	 * @param replacer3 the replacer of the third replaced exception
+	 * @param exception4 the class of the fourth replaced exception
+	 * @param replacer4 the replacer of the fourth replaced exception
+	 * @param runnable the runnable
+	 * @throws T1 if the runnable throws an unchecked exception whose cause is an instance of {@code exception1}
+	 * @throws T2 if the runnable throws an unchecked exception whose cause is an instance of {@code exception2}
+	 * @throws T3 if the runnable throws an unchecked exception whose cause is an instance of {@code exception3}
+	 * @throws T4 if the runnable throws an unchecked exception whose cause is an instance of {@code exception4}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <S1 extends Exception, T1 extends Exception, S2 extends Exception, T2 extends Exception, S3 extends Exception, T3 extends Exception, S4 extends Exception, T4 extends Exception>
+			void check(Class<? extends S1> exception1, ExceptionReplacer<? super S1, ? extends T1> replacer1, Class<? extends S2> exception2, ExceptionReplacer<? super S2, ? extends T2> replacer2, Class<? extends S3> exception3, ExceptionReplacer<? super S3, ? extends T3> replacer3, Class<? extends S4> exception4, ExceptionReplacer<? super S4, ? extends T4> replacer4, Runnable runnable) throws T1, T2, T3, T4 {
+
+		try {
+			runnable.run();
+		}
+		catch (UncheckedException e) {
+			var cause = e.getCause();
+			if (exception1.isInstance(cause))
+				throw replacer1.apply((S1) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4));
+			else if (exception2.isInstance(cause))
+				throw replacer2.apply((S2) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4));
+			else if (exception3.isInstance(cause))
+				throw replacer3.apply((S3) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4));
+			else if (exception4.isInstance(cause))
+				throw replacer4.apply((S4) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4));
+			else
+				throw Instrumentation.escaped(e, exception1, exception2, exception3, exception4);
+		}
+	}
+
+	/**
+	 * Runs a runnable and replaces the cause of an unchecked exception with a checked exception, for five types of causes.
+	 * 
+	 * @param <S1> the first type of the replaced exception
+	 * @param <T1> the first type of the replacing exception
+	 * @param <S2> the second type of the replaced exception
+	 * @param <T2> the second type of the replacing exception
+	 * @param <S3> the third type of the replaced exception
+	 * @param <T3> the third type of the replacing exception
+	 * @param <S4> the fourth type of the replaced exception
+	 * @param <T4> the fourth type of the replacing exception
+	 * @param <S5> the fifth type of the replaced exception
+	 * @param <T5> the fifth type of the replacing exception
+	 * @param exception1 the class of the first replaced exception
+	 * @param replacer1 the replacer of the first replaced exception
+	 * @param exception2 the class of the second replaced exception
+	 * @param replacer2 the replacer of the second replaced exception
+	 * @param exception3 the class of the third replaced exception
+	 * @param replacer3 the replacer of the third replaced exception
+	 * @param exception4 the class of the fourth replaced exception
+	 * @param replacer4 the replacer of the fourth replaced exception
+	 * @param exception5 the class of the fifth replaced exception
+	 * @param replacer5 the replacer of the fifth replaced exception
+	 * @param runnable the runnable
+	 * @throws T1 if the runnable throws an unchecked exception whose cause is an instance of {@code exception1}
+	 * @throws T2 if the runnable throws an unchecked exception whose cause is an instance of {@code exception2}
+	 * @throws T3 if the runnable throws an unchecked exception whose cause is an instance of {@code exception3}
+	 * @throws T4 if the runnable throws an unchecked exception whose cause is an instance of {@code exception4}
+	 * @throws T5 if the runnable throws an unchecked exception whose cause is an instance of {@code exception5}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <S1 extends Exception, T1 extends Exception, S2 extends Exception, T2 extends Exception, S3 extends Exception, T3 extends Exception, S4 extends Exception, T4 extends Exception, S5 extends Exception, T5 extends Exception>
+			void check(Class<? extends S1> exception1, ExceptionReplacer<? super S1, ? extends T1> replacer1, Class<? extends S2> exception2, ExceptionReplacer<? super S2, ? extends T2> replacer2, Class<? extends S3> exception3, ExceptionReplacer<? super S3, ? extends T3> replacer3, Class<? extends S4> exception4, ExceptionReplacer<? super S4, ? extends T4> replacer4, Class<? extends S5> exception5, ExceptionReplacer<? super S5, ? extends T5> replacer5, Runnable runnable) throws T1, T2, T3, T4, T5 {
+
+		try {
+			runnable.run();
+		}
+		catch (UncheckedException e) {
+			var cause = e.getCause();
+			if (exception1.isInstance(cause))
+				throw replacer1.apply((S1) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5));
+			else if (exception2.isInstance(cause))
+				throw replacer2.apply((S2) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5));
+			else if (exception3.isInstance(cause))
+				throw replacer3.apply((S3) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5));
+			else if (exception4.isInstance(cause))
+				throw replacer4.apply((S4) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5));
+			else if (exception5.isInstance(cause))
+				throw replacer5.apply((S5) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5));
+			else
+				throw Instrumentation.escaped(e, exception1, exception2, exception3, exception4, exception5);
+		}
+	}
+
+	/**
+	 * Runs a runnable and replaces the cause of an unchecked exception with a checked exception, for six types of causes.
+	 * 
+	 * @param <S1> the first type of the replaced exception
+	 * @param <T1> the first type of the replacing exception
+	 * @param <S2> the second type of the replaced exception
+	 * @param <T2> the second type of the replacing exception
+	 * @param <S3> the third type of the replaced exception
+	 * @param <T3> the third type of the replacing exception
+	 * @param <S4> the fourth type of the replaced exception
+	 * @param <T4> the fourth type of the replacing exception
+	 * @param <S5> the fifth type of the replaced exception
+	 * @param <T5> the fifth type of the replacing exception
+	 * @param <S6> the sixth type of the replaced exception
+	 * @param <T6> the sixth type of the replacing exception
+	 * @param exception1 the class of the first replaced exception
+	 * @param replacer1 the replacer of the first replaced exception
+	 * @param exception2 the class of the second replaced exception
+	 * @param replacer2 the replacer of the second replaced exception
+	 * @param exception3 the class of the third replaced exception
+	 * @param replacer3 the replacer of the third replaced exception
+	 * @param exception4 the class of the fourth replaced exception
+	 * @param replacer4 the replacer of the fourth replaced exception
+	 * @param exception5 the class of the fifth replaced exception
+	 * @param replacer5 the replacer of the fifth replaced exception
+	 * @param exception6 the class of the sixth replaced exception
+	 * @param replacer6 the replacer of the sixth replaced exception
+	 * @param runnable the runnable
+	 * @throws T1 if the runnable throws an unchecked exception whose cause is an instance of {@code exception1}
+	 * @throws T2 if the runnable throws an unchecked exception whose cause is an instance of {@code exception2}
+	 * @throws T3 if the runnable throws an unchecked exception whose cause is an instance of {@code exception3}
+	 * @throws T4 if the runnable throws an unchecked exception whose cause is an instance of {@code exception4}
+	 * @throws T5 if the runnable throws an unchecked exception whose cause is an instance of {@code exception5}
+	 * @throws T6 if the runnable throws an unchecked exception whose cause is an instance of {@code exception6}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <S1 extends Exception, T1 extends Exception, S2 extends Exception, T2 extends Exception, S3 extends Exception, T3 extends Exception, S4 extends Exception, T4 extends Exception, S5 extends Exception, T5 extends Exception, S6 extends Exception, T6 extends Exception>
+			void check(Class<? extends S1> exception1, ExceptionReplacer<? super S1, ? extends T1> replacer1, Class<? extends S2> exception2, ExceptionReplacer<? super S2, ? extends T2> replacer2, Class<? extends S3> exception3, ExceptionReplacer<? super S3, ? extends T3> replacer3, Class<? extends S4> exception4, ExceptionReplacer<? super S4, ? extends T4> replacer4, Class<? extends S5> exception5, ExceptionReplacer<? super S5, ? extends T5> replacer5, Class<? extends S6> exception6, ExceptionReplacer<? super S6, ? extends T6> replacer6, Runnable runnable) throws T1, T2, T3, T4, T5, T6 {
+
+		try {
+			runnable.run();
+		}
+		catch (UncheckedException e) {
+			var cause = e.getCause();
+			if (exception1.isInstance(cause))
+				throw replacer1.apply((S1) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6));
+			else if (exception2.isInstance(cause))
+				throw replacer2.apply((S2) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6));
+			else if (exception3.isInstance(cause))
+				throw replacer3.apply((S3) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6));
+			else if (exception4.isInstance(cause))
+				throw replacer4.apply((S4) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6));
+			else if (exception5.isInstance(cause))
+				throw replacer5.apply((S5) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6));
+			else if (exception6.isInstance(cause))
+				throw replacer6.apply((S6) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6));
+			else
+				throw Instrumentation.escaped(e, exception1, exception2, exception3, exception4, exception5, exception6);
+		}
+	}
+
+	/**
+	 * Runs a runnable and replaces the cause of an unchecked exception with a checked exception, for seven types of causes.
+	 * 
+	 * @param <S1> the first type of the replaced exception
+	 * @param <T1> the first type of the replacing exception
+	 * @param <S2> the second type of the replaced exception
+	 * @param <T2> the second type of the replacing exception
+	 * @param <S3> the third type of the replaced exception
+	 * @param <T3> the third type of the replacing exception
+	 * @param <S4> the fourth type of the replaced exception
+	 * @param <T4> the fourth type of the replacing exception
+	 * @param <S5> the fifth type of the replaced exception
+	 * @param <T5> the fifth type of the replacing exception
+	 * @param <S6> the sixth type of the replaced exception
+	 * @param <T6> the sixth type of the replacing exception
+	 * @param <S7> the seventh type of the replaced exception
+	 * @param <T7> the seventh type of the replacing exception
+	 * @param exception1 the class of the first replaced exception
+	 * @param replacer1 the replacer of the first replaced exception
+	 * @param exception2 the class of the second replaced exception
+	 * @param replacer2 the replacer of the second replaced exception
+	 * @param exception3 the class of the third replaced exception
+	 * @param replacer3 the replacer of the third replaced exception
+	 * @param exception4 the class of the fourth replaced exception
+	 * @param replacer4 the replacer of the fourth replaced exception
+	 * @param exception5 the class of the fifth replaced exception
+	 * @param replacer5 the replacer of the fifth replaced exception
+	 * @param exception6 the class of the sixth replaced exception
+	 * @param replacer6 the replacer of the sixth replaced exception
+	 * @param exception7 the class of the seventh replaced exception
+	 * @param replacer7 the replacer of the seventh replaced exception
+	 * @param runnable the runnable
+	 * @throws T1 if the runnable throws an unchecked exception whose cause is an instance of {@code exception1}
+	 * @throws T2 if the runnable throws an unchecked exception whose cause is an instance of {@code exception2}
+	 * @throws T3 if the runnable throws an unchecked exception whose cause is an instance of {@code exception3}
+	 * @throws T4 if the runnable throws an unchecked exception whose cause is an instance of {@code exception4}
+	 * @throws T5 if the runnable throws an unchecked exception whose cause is an instance of {@code exception5}
+	 * @throws T6 if the runnable throws an unchecked exception whose cause is an instance of {@code exception6}
+	 * @throws T7 if the runnable throws an unchecked exception whose cause is an instance of {@code exception7}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <S1 extends Exception, T1 extends Exception, S2 extends Exception, T2 extends Exception, S3 extends Exception, T3 extends Exception, S4 extends Exception, T4 extends Exception, S5 extends Exception, T5 extends Exception, S6 extends Exception, T6 extends Exception, S7 extends Exception, T7 extends Exception>
+			void check(Class<? extends S1> exception1, ExceptionReplacer<? super S1, ? extends T1> replacer1, Class<? extends S2> exception2, ExceptionReplacer<? super S2, ? extends T2> replacer2, Class<? extends S3> exception3, ExceptionReplacer<? super S3, ? extends T3> replacer3, Class<? extends S4> exception4, ExceptionReplacer<? super S4, ? extends T4> replacer4, Class<? extends S5> exception5, ExceptionReplacer<? super S5, ? extends T5> replacer5, Class<? extends S6> exception6, ExceptionReplacer<? super S6, ? extends T6> replacer6, Class<? extends S7> exception7, ExceptionReplacer<? super S7, ? extends T7> replacer7, Runnable runnable) throws T1, T2, T3, T4, T5, T6, T7 {
+
+		try {
+			runnable.run();
+		}
+		catch (UncheckedException e) {
+			var cause = e.getCause();
+			if (exception1.isInstance(cause))
+				throw replacer1.apply((S1) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6, exception7));
+			else if (exception2.isInstance(cause))
+				throw replacer2.apply((S2) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6, exception7));
+			else if (exception3.isInstance(cause))
+				throw replacer3.apply((S3) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6, exception7));
+			else if (exception4.isInstance(cause))
+				throw replacer4.apply((S4) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6, exception7));
+			else if (exception5.isInstance(cause))
+				throw replacer5.apply((S5) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6, exception7));
+			else if (exception6.isInstance(cause))
+				throw replacer6.apply((S6) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6, exception7));
+			else if (exception7.isInstance(cause))
+				throw replacer7.apply((S7) Instrumentation.recovered(cause, exception1, exception2, exception3, exception4, exception5, exception6, exception7));
+			else
+				throw Instrumentation.escaped(e, exception1, exception2, exception3, exception4, exception5, exception6, exception7);
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A circuit breaker around the execution of suppliers and functions with exceptions.
+ * It counts the failures of the executions in a sliding window of time and, if they
+ * reach a threshold, it opens: subsequent executions are rejected immediately, without being run,
+ * by throwing an exception of type {@code E}. After a cool-down period, the breaker
+ * half-opens and lets a single trial execution through: if that succeeds, the breaker closes again,
+ * otherwise it reopens for another cool-down period.
+ * 
+ * @param <E> the type of the exception thrown when an execution is rejected
+ */
+public final class CircuitBreaker<E extends Exception> extends Guard<E> {
+
+	/**
+	 * The states of a circuit breaker.
+	 */
+	public enum State {
+
+		/**
+		 * Executions are allowed.
+		 */
+		CLOSED,
+
+		/**
+		 * Executions are rejected.
+		 */
+		OPEN,
+
+		/**
+		 * A single trial execution is allowed, that decides if the breaker closes or reopens.
+		 */
+		HALF_OPEN
+	}
+
+	/**
+	 * The number of buckets of the sliding window of failures.
+	 */
+	private final static int BUCKETS = 10;
+
+	/**
+	 * The token of the trial execution in state {@link State#HALF_OPEN}.
+	 */
+	private final static long TRIAL = 1L;
+
+	/**
+	 * The token of a normal execution in state {@link State#CLOSED}.
+	 */
+	private final static long NORMAL = 0L;
+
+	/**
+	 * The number of failures in the sliding window that opens the breaker.
+	 */
+	private final long maxFailures;
+
+	/**
+	 * The cool-down period, in nanoseconds, before an open breaker half-opens.
+	 */
+	private final long coolDownNanos;
+
+	/**
+	 * The generator of the exception thrown when an execution is rejected.
+	 */
+	private final ExceptionSupplierFromMessage<? extends E> onOpen;
+
+	/**
+	 * The types of the exceptions that count as failures. If empty, all exceptions count as failures.
+	 */
+	private final Class<?>[] failures;
+
+	/**
+	 * The failures in the sliding window.
+	 */
+	private final SlidingWindow window;
+
+	/**
+	 * The current status of the breaker.
+	 */
+	private final AtomicReference<Status> status = new AtomicReference<>(Status.CLOSED);
+
+	/**
+	 * The status of a breaker: its state and, if open, the time when it was opened.
+	 */
+	private final static class Status {
+		private final static Status CLOSED = new Status(State.CLOSED, 0L);
+		private final static Status HALF_OPEN = new Status(State.HALF_OPEN, 0L);
+
+		private final State state;
+		private final long openedAt;
+
+		private Status(State state, long openedAt) {
+			this.state = state;
+			this.openedAt = openedAt;
+		}
+	}
+
+	private CircuitBreaker(long maxFailures, Duration window, Duration coolDown, ExceptionSupplierFromMessage<? extends E> onOpen, Class<?>[] failures) {
+		if (maxFailures < 1)
+			throw new IllegalArgumentException("maxFailures must be positive");
+
+		if (window.isNegative() || window.isZero())
+			throw new IllegalArgumentException("The window must be positive");
+
+		if (coolDown.isNegative())
+			throw new IllegalArgumentException("The cool-down period cannot be negative");
+
+		this.maxFailures = maxFailures;
+		this.coolDownNanos = coolDown.toNanos();
+		this.onOpen = java.util.Objects.requireNonNull(onOpen, "onOpen cannot be null");
+		this.failures = failures;
+		this.window = new SlidingWindow(window.toNanos(), BUCKETS);
+
+		for (var failure: this.failures)
+			java.util.Objects.requireNonNull(failure, "failures cannot hold null");
+	}
+
+	/**
+	 * Yields a circuit breaker.
+	 * 
+	 * @param <E> the type of the exception thrown when an execution is rejected
+	 * @param maxFailures the number of failures in the sliding window that opens the breaker
+	 * @param window the duration of the sliding window where failures are counted
+	 * @param coolDown the time after which an open breaker half-opens
+	 * @param onOpen the generator of the exception thrown when an execution is rejected
+	 * @param failures the types of the exceptions that count as failures; if none is specified,
+	 *                 all exceptions count as failures
+	 * @return the circuit breaker, initially closed
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <E extends Exception> CircuitBreaker<E> of(long maxFailures, Duration window, Duration coolDown, ExceptionSupplierFromMessage<? extends E> onOpen, Class<? extends Throwable>... failures) {
+		return new CircuitBreaker<>(maxFailures, window, coolDown, onOpen, failures.clone());
+	}
+
+	/**
+	 * Yields the current state of this breaker.
+	 * 
+	 * @return the current state
+	 */
+	public State getState() {
+		return status.get().state;
+	}
+
+	@Override
+	long enter() throws E {
+		var current = status.get();
+		if (current == Status.CLOSED)
+			return NORMAL;
+		else if (current != Status.HALF_OPEN && System.nanoTime() - current.openedAt >= coolDownNanos && status.compareAndSet(current, Status.HALF_OPEN))
+			return TRIAL;
+		else
+			throw onOpen.apply("The circuit breaker is open");
+	}
+
+	@Override
+	void exit(long token, Throwable failure) {
+		boolean failed = failure != null && countsAsFailure(failure);
+
+		if (token == TRIAL) {
+			if (failed)
+				status.set(new Status(State.OPEN, System.nanoTime()));
+			else {
+				window.clear();
+				status.set(Status.CLOSED);
+			}
+		}
+		else if (failed) {
+			long now = System.nanoTime();
+			window.record(now);
+			if (window.count(now) >= maxFailures)
+				status.compareAndSet(Status.CLOSED, new Status(State.OPEN, now));
+		}
+	}
+
+	private boolean countsAsFailure(Throwable failure) {
+		if (failures.length == 0)
+			return true;
+
+		for (var type: failures)
+			if (type.isInstance(failure))
+				return true;
+
+		return false;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,206 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A limiter of the number of concurrent executions of suppliers and functions with exceptions
+ * (a bulkhead). An execution that would exceed the limit is rejected immediately,
+ * without being run, by throwing an exception of type {@code E}. The limit can be fixed or adaptive.
+ * An adaptive limit follows an additive-increase/multiplicative-decrease policy: it grows slowly
+ * while executions are fast and succeed, and it shrinks quickly when an execution is slower than a
+ * latency threshold or fails with one of the exceptions that signal an overload.
+ * 
+ * @param <E> the type of the exception thrown when an execution is rejected
+ */
+public final class ConcurrencyLimiter<E extends Exception> extends Guard<E> {
+
+	/**
+	 * The factor applied to an adaptive limit when it shrinks.
+	 */
+	private final static double BACKOFF = 0.9;
+
+	/**
+	 * The types of the exceptions that signal an overload, for a fixed limit.
+	 */
+	private final static Class<?>[] NO_OVERLOADS = new Class<?>[0];
+
+	/**
+	 * The permits of the executions.
+	 */
+	private final Permits permits;
+
+	/**
+	 * The generator of the exception thrown when an execution is rejected.
+	 */
+	private final ExceptionSupplierFromMessage<? extends E> onReject;
+
+	/**
+	 * The current limit, as the bits of a {@code double}. This is {@code null} if the limit is fixed.
+	 */
+	private final AtomicLong limit;
+
+	/**
+	 * The minimal value of an adaptive limit.
+	 */
+	private final int minLimit;
+
+	/**
+	 * The maximal value of an adaptive limit.
+	 */
+	private final int maxLimit;
+
+	/**
+	 * The latency threshold of an adaptive limit, in nanoseconds.
+	 */
+	private final long latencyThresholdNanos;
+
+	/**
+	 * The types of the exceptions that signal an overload, for an adaptive limit.
+	 */
+	private final Class<?>[] overloads;
+
+	/**
+	 * A semaphore whose number of permits can be reduced.
+	 */
+	private final static class Permits extends Semaphore {
+		private static final long serialVersionUID = 1L;
+
+		private Permits(int permits) {
+			super(permits);
+		}
+
+		private void reduce(int reduction) {
+			reducePermits(reduction);
+		}
+	}
+
+	private ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, boolean adaptive, ExceptionSupplierFromMessage<? extends E> onReject, Class<?>[] overloads) {
+		if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit)
+			throw new IllegalArgumentException("The limits must be positive and satisfy minLimit <= initialLimit <= maxLimit");
+
+		// a zero threshold would signal an overload at each execution, hence the limit would only shrink
+		if (adaptive && (latencyThreshold.isNegative() || latencyThreshold.isZero()))
+			throw new IllegalArgumentException("The latency threshold must be positive");
+
+		this.onReject = java.util.Objects.requireNonNull(onReject, "onReject cannot be null");
+		this.permits = new Permits(initialLimit);
+		this.limit = adaptive ? new AtomicLong(Double.doubleToRawLongBits(initialLimit)) : null;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.latencyThresholdNanos = latencyThreshold.toNanos();
+		this.overloads = overloads;
+
+		for (var overload: this.overloads)
+			java.util.Objects.requireNonNull(overload, "overloads cannot hold null");
+	}
+
+	/**
+	 * Yields a limiter with a fixed limit.
+	 * 
+	 * @param <E> the type of the exception thrown when an execution is rejected
+	 * @param limit the maximal number of concurrent executions
+	 * @param onReject the generator of the exception thrown when an execution is rejected
+	 * @return the limiter
+	 */
+	public static <E extends Exception> ConcurrencyLimiter<E> of(int limit, ExceptionSupplierFromMessage<? extends E> onReject) {
+		return new ConcurrencyLimiter<>(limit, limit, limit, Duration.ZERO, false, onReject, NO_OVERLOADS);
+	}
+
+	/**
+	 * Yields a limiter with an adaptive limit.
+	 * 
+	 * @param <E> the type of the exception thrown when an execution is rejected
+	 * @param initialLimit the initial maximal number of concurrent executions
+	 * @param minLimit the value below which the limit never shrinks
+	 * @param maxLimit the value above which the limit never grows
+	 * @param latencyThreshold the latency above which an execution signals an overload; this must be positive
+	 * @param onReject the generator of the exception thrown when an execution is rejected
+	 * @param overloads the types of the exceptions that, thrown by an execution, signal an overload
+	 * @return the limiter
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <E extends Exception> ConcurrencyLimiter<E> adaptive(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, ExceptionSupplierFromMessage<? extends E> onReject, Class<? extends Throwable>... overloads) {
+		return new ConcurrencyLimiter<>(initialLimit, minLimit, maxLimit, latencyThreshold, true, onReject, overloads.clone());
+	}
+
+	/**
+	 * Yields the current limit of concurrent executions.
+	 * 
+	 * @return the current limit
+	 */
+	public int getLimit() {
+		return limit == null ? maxLimit : (int) Double.longBitsToDouble(limit.get());
+	}
+
+	/**
+	 * Yields the number of executions currently running.
+	 * 
+	 * @return the number of executions currently running
+	 */
+	public int getInFlight() {
+		return Math.max(0, getLimit() - permits.availablePermits());
+	}
+
+	@Override
+	long enter() throws E {
+		if (!permits.tryAcquire())
+			throw onReject.apply("Too many concurrent executions: the limit is " + getLimit());
+
+		return limit == null ? 0L : System.nanoTime();
+	}
+
+	@Override
+	void exit(long token, Throwable failure) {
+		if (limit != null)
+			adapt(failure != null && isOverload(failure) || System.nanoTime() - token > latencyThresholdNanos);
+
+		permits.release();
+	}
+
+	private void adapt(boolean overloaded) {
+		long oldBits, newBits;
+		double oldLimit, newLimit;
+
+		do {
+			oldBits = limit.get();
+			oldLimit = Double.longBitsToDouble(oldBits);
+			newLimit = overloaded ? Math.max(minLimit, oldLimit * BACKOFF) : Math.min(maxLimit, oldLimit + 1.0 / oldLimit);
+			newBits = Double.doubleToRawLongBits(newLimit);
+		}
+		while (oldBits != newBits && !limit.compareAndSet(oldBits, newBits));
+
+		// each successful update applies its own delta, hence the permits follow the limit also under concurrent updates
+		int delta = (int) newLimit - (int) oldLimit;
+		if (delta > 0)
+			permits.release(delta);
+		else if (delta < 0)
+			permits.reduce(-delta);
+	}
+
+	private boolean isOverload(Throwable failure) {
+		for (var type: overloads)
+			if (type.isInstance(failure))
+				return true;
+
+		return false;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,336 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions;
+
+/**
+ * An aggregator of exceptions, that groups them by fingerprint, that is, by class and
+ * topmost frames of their stack trace, and counts them. Each group keeps only its first exception,
+ * as representative. The number of groups is bounded: exceptions that would create a new group
+ * beyond that bound are only counted as overflow. The aggregator can be used concurrently.
+ * Recording an exception does not compute its fingerprint, which requires its stack trace:
+ * the recorded exceptions are kept aside and grouped in batches, when the batch is full
+ * or when the groups are queried.
+ */
+public final class ExceptionAggregator {
+
+	/**
+	 * The groups, indexed by fingerprint.
+	 */
+	private final ConcurrentMap<Long, Group> groups = new ConcurrentHashMap<>();
+
+	/**
+	 * The number of groups created so far.
+	 */
+	private final AtomicInteger size = new AtomicInteger();
+
+	/**
+	 * The number of exceptions that did not fit into any group.
+	 */
+	private final LongAdder overflow = new LongAdder();
+
+	/**
+	 * The maximal number of exceptions recorded but not yet grouped.
+	 */
+	private final static int MAX_PENDING = 256;
+
+	/**
+	 * The exceptions recorded but not yet grouped.
+	 */
+	private final ConcurrentLinkedQueue<Pending> pending = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * The number of exceptions in {@link #pending}.
+	 */
+	private final AtomicInteger pendingSize = new AtomicInteger();
+
+	/**
+	 * The maximal number of groups.
+	 */
+	private final int maxGroups;
+
+	/**
+	 * The number of topmost frames of the stack trace that contribute to the fingerprints.
+	 */
+	private final int frames;
+
+	/**
+	 * Creates an aggregator.
+	 * 
+	 * @param maxGroups the maximal number of groups
+	 * @param frames the number of topmost frames of the stack trace that contribute to the fingerprints
+	 *               of the exceptions; exceptions with the same class and the same such frames
+	 *               belong to the same group
+	 * @throws IllegalArgumentException if {@code maxGroups} is not positive or {@code frames} is negative
+	 */
+	public ExceptionAggregator(int maxGroups, int frames) {
+		if (maxGroups <= 0)
+			throw new IllegalArgumentException("maxGroups must be positive");
+
+		if (frames < 0)
+			throw new IllegalArgumentException("frames cannot be negative");
+
+		this.maxGroups = maxGroups;
+		this.frames = frames;
+	}
+
+	/**
+	 * Creates an aggregator whose fingerprints use a default number of topmost frames.
+	 * 
+	 * @param maxGroups the maximal number of groups
+	 * @throws IllegalArgumentException if {@code maxGroups} is not positive
+	 */
+	public ExceptionAggregator(int maxGroups) {
+		this(maxGroups, StackFingerprints.DEFAULT_FRAMES);
+	}
+
+	/**
+	 * An exception recorded but not yet grouped.
+	 */
+	private final static class Pending {
+		private final Throwable throwable;
+		private final long time;
+
+		private Pending(Throwable throwable, long time) {
+			this.throwable = throwable;
+			this.time = time;
+		}
+	}
+
+	/**
+	 * A group of exceptions with the same fingerprint.
+	 */
+	public final static class Group {
+
+		/**
+		 * The fingerprint of the exceptions in the group.
+		 */
+		private final long fingerprint;
+
+		/**
+		 * The first exception of the group.
+		 */
+		private final Throwable representative;
+
+		/**
+		 * The number of exceptions in the group.
+		 */
+		private final LongAdder count = new LongAdder();
+
+		/**
+		 * The time when the first exception of the group has been recorded.
+		 */
+		private final long firstSeen;
+
+		/**
+		 * The time when the last exception of the group has been recorded.
+		 */
+		private volatile long lastSeen;
+
+		private Group(long fingerprint, Throwable representative, long now) {
+			this.fingerprint = fingerprint;
+			this.representative = representative;
+			this.firstSeen = now;
+			this.lastSeen = now;
+		}
+
+		/**
+		 * Yields the fingerprint of the exceptions in this group.
+		 * 
+		 * @return the fingerprint
+		 */
+		public long getFingerprint() {
+			return fingerprint;
+		}
+
+		/**
+		 * Yields the first exception recorded in this group.
+		 * 
+		 * @return the first exception recorded in this group
+		 */
+		public Throwable getRepresentative() {
+			return representative;
+		}
+
+		/**
+		 * Yields the number of exceptions recorded in this group.
+		 * 
+		 * @return the number of exceptions
+		 */
+		public long getCount() {
+			return count.sum();
+		}
+
+		/**
+		 * Yields the time when the first exception of this group has been recorded.
+		 * 
+		 * @return the time, in milliseconds from the epoch
+		 */
+		public long getFirstSeen() {
+			return firstSeen;
+		}
+
+		/**
+		 * Yields the time when the last exception of this group has been recorded.
+		 * 
+		 * @return the time, in milliseconds from the epoch
+		 */
+		public long getLastSeen() {
+			return lastSeen;
+		}
+
+		@Override
+		public String toString() {
+			return getCount() + " x " + representative + " #" + Long.toHexString(fingerprint)
+				+ " [" + Instant.ofEpochMilli(firstSeen) + ", " + Instant.ofEpochMilli(lastSeen) + "]";
+		}
+	}
+
+	/**
+	 * Records the given exception. If it is an {@link UncheckedException}, its cause is recorded instead.
+	 * 
+	 * @param throwable the exception
+	 */
+	public void record(Throwable throwable) {
+		if (throwable instanceof UncheckedException && throwable.getCause() != null)
+			throwable = throwable.getCause();
+
+		pending.add(new Pending(throwable, System.currentTimeMillis()));
+		if (pendingSize.incrementAndGet() >= MAX_PENDING)
+			group();
+	}
+
+	/**
+	 * Moves the exceptions recorded so far into their groups.
+	 */
+	private void group() {
+		for (Pending next; (next = pending.poll()) != null; ) {
+			pendingSize.decrementAndGet();
+			group(next.throwable, next.time);
+		}
+	}
+
+	private void group(Throwable throwable, long time) {
+		var group = groups.computeIfAbsent(StackFingerprints.of(throwable, frames), fingerprint -> {
+			if (size.incrementAndGet() <= maxGroups)
+				return new Group(fingerprint, throwable, time);
+
+			size.decrementAndGet();
+			return null;
+		});
+
+		if (group == null)
+			overflow.increment();
+		else {
+			group.count.increment();
+			if (group.lastSeen < time)
+				group.lastSeen = time;
+		}
+	}
+
+	/**
+	 * Yields a consumer that runs the given consumer and records in this aggregator the exceptions
+	 * that it throws, instead of propagating them. It is meant for bulk processing, where a failure
+	 * for an element should not stop the processing of the others. Errors and the exit from
+	 * a traversal of {@link Traversals}, through an {@link Exit}, are propagated instead.
+	 * The interrupted status of the thread is restored if the consumer throws an {@link InterruptedException}.
+	 * 
+	 * @param <T> the type of the consumed elements
+	 * @param consumer the consumer
+	 * @return the resulting consumer
+	 */
+	public <T> Consumer<T> recording(ConsumerWithExceptions<? super T> consumer) {
+		return t -> {
+			try {
+				consumer.accept(t);
+			}
+			catch (Error e) {
+				throw e;
+			}
+			catch (Throwable e) {
+				if (Exit.isSignal(e))
+					throw (RuntimeException) e;
+
+				if (e instanceof InterruptedException || e instanceof UncheckedException && e.getCause() instanceof InterruptedException)
+					Thread.currentThread().interrupt();
+
+				record(e);
+			}
+		};
+	}
+
+	/**
+	 * Yields the groups of exceptions recorded so far, from the most frequent to the least frequent.
+	 * 
+	 * @return the groups
+	 */
+	public List<Group> groups() {
+		group();
+		var result = new ArrayList<>(groups.values());
+		result.sort(Comparator.comparingLong(Group::getCount).reversed());
+		return result;
+	}
+
+	/**
+	 * Yields the number of exceptions that have been recorded but did not fit in any group,
+	 * since the maximal number of groups was reached.
+	 * 
+	 * @return the number of such exceptions
+	 */
+	public long getOverflow() {
+		group();
+		return overflow.sum();
+	}
+
+	/**
+	 * Forgets all groups recorded so far.
+	 */
+	public void clear() {
+		while (pending.poll() != null)
+			pendingSize.decrementAndGet();
+
+		groups.clear();
+		size.set(0);
+		overflow.reset();
+	}
+
+	/**
+	 * Yields a summary of the groups, one per line, from the most frequent to the least frequent.
+	 */
+	@Override
+	public String toString() {
+		var sb = new StringBuilder();
+		groups().forEach(group -> sb.append(group).append('\n'));
+		long overflow = getOverflow();
+		if (overflow > 0)
+			sb.append(overflow).append(" x other exceptions\n");
+
+		return sb.toString();
+	}
+}
\ No newline at end of file
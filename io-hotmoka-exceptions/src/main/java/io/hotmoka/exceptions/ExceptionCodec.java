@@ -0,0 +1,499 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An encoder and decoder of exceptions into a compact binary format, meant for exceptions
+ * that cross process boundaries. An exception is encoded as the identifier of its class,
+ * taken from a registry shared by the encoding and the decoding side, its message, its
+ * stack trace, truncated to a maximal number of frames, and its chain of causes, truncated
+ * to a maximal depth. Exceptions whose class is not in the registry are encoded with the name
+ * of their class and decoded through a fallback supplier.
+ * Instances of this class are immutable and can be shared across threads.
+ */
+public final class ExceptionCodec {
+
+	/**
+	 * The identifier used for the classes that are not in the registry.
+	 */
+	private final static int UNKNOWN = 0;
+
+	/**
+	 * The identifiers of the classes in the registry.
+	 */
+	private final Map<Class<?>, Integer> ids;
+
+	/**
+	 * The suppliers of the exceptions in the registry, indexed by identifier.
+	 */
+	private final Map<Integer, ExceptionSupplierFromMessage<?>> suppliers;
+
+	/**
+	 * The supplier of the exceptions whose class is not in the registry.
+	 */
+	private final ExceptionSupplierFromMessage<?> fallback;
+
+	/**
+	 * The maximal number of frames of the stack trace that get encoded.
+	 */
+	private final int maxFrames;
+
+	/**
+	 * The maximal number of causes that get encoded.
+	 */
+	private final int maxDepth;
+
+	/**
+	 * The maximal length, in bytes, of the strings that get encoded or decoded.
+	 */
+	private final int maxStringLength;
+
+	private ExceptionCodec(Builder builder) {
+		this.ids = new HashMap<>(builder.ids);
+		this.suppliers = new HashMap<>(builder.suppliers);
+		this.fallback = builder.fallback;
+		this.maxFrames = builder.maxFrames;
+		this.maxDepth = builder.maxDepth;
+		this.maxStringLength = builder.maxStringLength;
+	}
+
+	/**
+	 * Yields a builder of a codec.
+	 * 
+	 * @return the builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * A builder of a codec.
+	 */
+	public final static class Builder {
+		private final Map<Class<?>, Integer> ids = new HashMap<>();
+		private final Map<Integer, ExceptionSupplierFromMessage<?>> suppliers = new HashMap<>();
+		private ExceptionSupplierFromMessage<?> fallback = RuntimeException::new;
+		private int maxFrames = 0;
+		private int maxDepth = 4;
+		private int maxStringLength = 64 * 1024;
+
+		private Builder() {}
+
+		/**
+		 * Registers a class of exceptions. The encoding and the decoding side must register the
+		 * same classes with the same identifiers.
+		 * 
+		 * @param <E> the type of the registered exceptions
+		 * @param id the identifier of the class; this must be positive
+		 * @param type the class
+		 * @param supplier the supplier used to rebuild the exceptions of the class from their message
+		 * @return this builder
+		 * @throws IllegalArgumentException if {@code id} is not positive or if {@code id} or {@code type} are already registered
+		 */
+		public <E extends Exception> Builder register(int id, Class<E> type, ExceptionSupplierFromMessage<? extends E> supplier) {
+			java.util.Objects.requireNonNull(type);
+			java.util.Objects.requireNonNull(supplier);
+
+			if (id <= UNKNOWN)
+				throw new IllegalArgumentException("The identifier of a class of exceptions must be positive");
+
+			if (suppliers.containsKey(id))
+				throw new IllegalArgumentException("Identifier " + id + " is already registered");
+
+			if (ids.containsKey(type))
+				throw new IllegalArgumentException(type.getName() + " is already registered");
+
+			ids.put(type, id);
+			suppliers.put(id, supplier);
+
+			return this;
+		}
+
+		/**
+		 * Sets the supplier used to decode the exceptions whose class is not in the registry.
+		 * It receives the name of the class of the encoded exception, followed by its message.
+		 * It defaults to {@link RuntimeException#RuntimeException(String)}.
+		 * 
+		 * @param fallback the supplier
+		 * @return this builder
+		 */
+		public Builder onUnknown(ExceptionSupplierFromMessage<?> fallback) {
+			this.fallback = java.util.Objects.requireNonNull(fallback);
+			return this;
+		}
+
+		/**
+		 * Sets the maximal number of frames of the stack trace that get encoded. It defaults to 0.
+		 * 
+		 * @param maxFrames the maximal number of frames
+		 * @return this builder
+		 * @throws IllegalArgumentException if {@code maxFrames} is negative
+		 */
+		public Builder maxFrames(int maxFrames) {
+			if (maxFrames < 0)
+				throw new IllegalArgumentException("maxFrames cannot be negative");
+
+			this.maxFrames = maxFrames;
+			return this;
+		}
+
+		/**
+		 * Sets the maximal number of causes that get encoded. It defaults to 4.
+		 * 
+		 * @param maxDepth the maximal number of causes
+		 * @return this builder
+		 * @throws IllegalArgumentException if {@code maxDepth} is negative
+		 */
+		public Builder maxDepth(int maxDepth) {
+			if (maxDepth < 0)
+				throw new IllegalArgumentException("maxDepth cannot be negative");
+
+			this.maxDepth = maxDepth;
+			return this;
+		}
+
+		/**
+		 * Sets the maximal length, in bytes, of the strings that get encoded, such as the messages
+		 * of the exceptions. Longer strings get truncated when encoded and rejected when decoded.
+		 * It defaults to 64 KiB.
+		 * 
+		 * @param maxStringLength the maximal length of the strings
+		 * @return this builder
+		 * @throws IllegalArgumentException if {@code maxStringLength} is negative
+		 */
+		public Builder maxStringLength(int maxStringLength) {
+			if (maxStringLength < 0)
+				throw new IllegalArgumentException("maxStringLength cannot be negative");
+
+			this.maxStringLength = maxStringLength;
+			return this;
+		}
+
+		/**
+		 * Builds the codec.
+		 * 
+		 * @return the codec
+		 */
+		public ExceptionCodec build() {
+			return new ExceptionCodec(this);
+		}
+	}
+
+	/**
+	 * Encodes the given exception into the given output.
+	 * 
+	 * @param throwable the exception
+	 * @param out the output
+	 * @throws IOException if the output cannot be written
+	 */
+	public void encode(Throwable throwable, DataOutput out) throws IOException {
+		encode(throwable, new Sink<IOException>() {
+
+			@Override
+			public void write(int b) throws IOException {
+				out.write(b);
+			}
+
+			@Override
+			public void write(byte[] bytes) throws IOException {
+				out.write(bytes);
+			}
+		});
+	}
+
+	/**
+	 * Encodes the given exception into the given buffer, starting at its current position.
+	 * 
+	 * @param throwable the exception
+	 * @param buffer the buffer
+	 * @throws java.nio.BufferOverflowException if the buffer has not enough space for the encoding
+	 */
+	public void encode(Throwable throwable, ByteBuffer buffer) {
+		encode(throwable, new Sink<RuntimeException>() {
+
+			@Override
+			public void write(int b) {
+				buffer.put((byte) b);
+			}
+
+			@Override
+			public void write(byte[] bytes) {
+				buffer.put(bytes);
+			}
+		});
+	}
+
+	/**
+	 * Decodes an exception from the given input.
+	 * 
+	 * @param in the input
+	 * @return the exception
+	 * @throws IOException if the input cannot be read or does not contain an encoded exception
+	 */
+	public Exception decode(DataInput in) throws IOException {
+		return decode(new Source<IOException>() {
+
+			@Override
+			public int read() throws IOException {
+				return in.readUnsignedByte();
+			}
+
+			@Override
+			public byte[] read(int length) throws IOException {
+				var bytes = new byte[length];
+				in.readFully(bytes);
+				return bytes;
+			}
+
+			@Override
+			public IOException malformed(String message) {
+				return new IOException(message);
+			}
+		});
+	}
+
+	/**
+	 * Decodes an exception from the given buffer, starting at its current position.
+	 * 
+	 * @param buffer the buffer
+	 * @return the exception
+	 * @throws IllegalArgumentException if the buffer does not contain an encoded exception
+	 * @throws java.nio.BufferUnderflowException if the buffer ends before the encoded exception
+	 */
+	public Exception decode(ByteBuffer buffer) {
+		return decode(new Source<IllegalArgumentException>() {
+
+			@Override
+			public int read() {
+				return buffer.get() & 0xff;
+			}
+
+			@Override
+			public byte[] read(int length) {
+				if (length > buffer.remaining())
+					throw malformed("Length " + length + " exceeds the remaining " + buffer.remaining() + " bytes");
+
+				var bytes = new byte[length];
+				buffer.get(bytes);
+				return bytes;
+			}
+
+			@Override
+			public IllegalArgumentException malformed(String message) {
+				return new IllegalArgumentException(message);
+			}
+		});
+	}
+
+	/**
+	 * A destination of bytes.
+	 * 
+	 * @param <X> the type of the exceptions thrown when writing
+	 */
+	private interface Sink<X extends Exception> {
+		void write(int b) throws X;
+		void write(byte[] bytes) throws X;
+
+		default void writeVarInt(int value) throws X {
+			while ((value & ~0x7f) != 0) {
+				write((value & 0x7f) | 0x80);
+				value >>>= 7;
+			}
+
+			write(value);
+		}
+
+		/**
+		 * Writes a string, possibly {@code null}, as its length plus one, followed by its bytes in UTF-8.
+		 * The bytes are truncated to {@code maxLength}, at the start of a character.
+		 */
+		default void writeString(String s, int maxLength) throws X {
+			if (s == null)
+				writeVarInt(0);
+			else {
+				var bytes = s.getBytes(StandardCharsets.UTF_8);
+				if (bytes.length > maxLength) {
+					int length = maxLength;
+					// continuation bytes of UTF-8 have the form 10xxxxxx
+					while (length > 0 && (bytes[length] & 0xc0) == 0x80)
+						length--;
+
+					bytes = Arrays.copyOf(bytes, length);
+				}
+
+				writeVarInt(bytes.length + 1);
+				write(bytes);
+			}
+		}
+	}
+
+	/**
+	 * A source of bytes.
+	 * 
+	 * @param <X> the type of the exceptions thrown when reading
+	 */
+	private interface Source<X extends Exception> {
+		int read() throws X;
+		byte[] read(int length) throws X;
+		X malformed(String message);
+
+		default int readVarInt() throws X {
+			int result = 0;
+			for (int shift = 0; shift < 32; shift += 7) {
+				int b = read();
+				result |= (b & 0x7f) << shift;
+				if ((b & 0x80) == 0)
+					return result;
+			}
+
+			throw malformed("Malformed variable-length integer");
+		}
+
+		default int readLength() throws X {
+			int length = readVarInt();
+			if (length < 0)
+				throw malformed("Negative length " + length);
+
+			return length;
+		}
+
+		/**
+		 * Reads a string written by {@link Sink#writeString(String, int)}. The length is checked
+		 * before allocating the bytes, so that a malformed input cannot exhaust the memory.
+		 */
+		default String readString(int maxLength) throws X {
+			int length = readLength();
+			if (length == 0)
+				return null;
+			else if (length - 1 > maxLength)
+				throw malformed("String too long: " + (length - 1) + " bytes");
+			else
+				return new String(read(length - 1), StandardCharsets.UTF_8);
+		}
+	}
+
+	private <X extends Exception> void encode(Throwable throwable, Sink<X> sink) throws X {
+		for (int depth = 0; ; depth++) {
+			Integer id = ids.get(throwable.getClass());
+			if (id != null)
+				sink.writeVarInt(id);
+			else {
+				sink.writeVarInt(UNKNOWN);
+				sink.writeString(throwable.getClass().getName(), maxStringLength);
+			}
+
+			sink.writeString(throwable.getMessage(), maxStringLength);
+
+			if (maxFrames > 0) {
+				var trace = throwable.getStackTrace();
+				int frames = Math.min(maxFrames, trace.length);
+				sink.writeVarInt(frames);
+				for (int pos = 0; pos < frames; pos++) {
+					var element = trace[pos];
+					sink.writeString(element.getClassName(), maxStringLength);
+					sink.writeString(element.getMethodName(), maxStringLength);
+					sink.writeString(element.getFileName(), maxStringLength);
+					// zigzag encoding, since line numbers can be negative
+					int line = element.getLineNumber();
+					sink.writeVarInt((line << 1) ^ (line >> 31));
+				}
+			}
+			else
+				sink.writeVarInt(0);
+
+			var cause = throwable.getCause();
+			if (cause == null || cause == throwable || depth >= maxDepth) {
+				sink.write(0);
+				return;
+			}
+
+			sink.write(1);
+			throwable = cause;
+		}
+	}
+
+	private <X extends Exception> Exception decode(Source<X> source) throws X {
+		var exceptions = new ArrayList<Exception>();
+		exceptions.add(decodeOne(source));
+
+		for (int hasCause = source.read(); hasCause != 0; hasCause = source.read()) {
+			if (hasCause != 1 || exceptions.size() > maxDepth)
+				throw source.malformed("Malformed chain of causes");
+
+			exceptions.add(decodeOne(source));
+		}
+
+		for (int pos = exceptions.size() - 1; pos > 0; pos--) {
+			var exception = exceptions.get(pos - 1);
+			var cause = exceptions.get(pos);
+
+			try {
+				exception.initCause(cause);
+			}
+			catch (IllegalStateException e) {
+				// the supplier has already set a cause: the decoded one is kept as suppressed
+				exception.addSuppressed(cause);
+			}
+		}
+
+		return exceptions.get(0);
+	}
+
+	private <X extends Exception> Exception decodeOne(Source<X> source) throws X {
+		int id = source.readVarInt();
+		Exception exception;
+
+		if (id == UNKNOWN) {
+			String className = source.readString(maxStringLength);
+			String message = source.readString(maxStringLength);
+			exception = fallback.apply(message == null ? className : className + ": " + message);
+		}
+		else {
+			var supplier = suppliers.get(id);
+			String message = source.readString(maxStringLength);
+			exception = supplier != null ? supplier.apply(message) : fallback.apply("unknown exception #" + id + (message == null ? "" : ": " + message));
+		}
+
+		int frames = source.readLength();
+		if (frames > maxFrames)
+			throw source.malformed("Too many frames: " + frames);
+
+		var trace = new StackTraceElement[frames];
+		for (int pos = 0; pos < frames; pos++) {
+			String className = source.readString(maxStringLength), methodName = source.readString(maxStringLength), fileName = source.readString(maxStringLength);
+			int line = source.readVarInt();
+			if (className == null || methodName == null)
+				throw source.malformed("Malformed stack trace element");
+
+			trace[pos] = new StackTraceElement(className, methodName, fileName, (line >>> 1) ^ -(line & 1));
+		}
+
+		exception.setStackTrace(trace);
+
+		return exception;
+	}
+}
\ No newline at end of file
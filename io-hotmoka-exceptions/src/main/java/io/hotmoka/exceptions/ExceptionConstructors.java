@@ -0,0 +1,237 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * The public constructors of a class of exceptions, resolved once into method handles.
+ * They are used to derive exception suppliers and replacers from the class of the
+ * exceptions that they create, without reflection at each creation. The method handles
+ * are captured by the lambdas of the suppliers, whose fields the just-in-time compiler
+ * trusts as constants, so that the invocation of the constructors can be inlined.
+ */
+final class ExceptionConstructors {
+
+	/**
+	 * The constructors of each class, resolved on demand.
+	 */
+	private final static ClassValue<ExceptionConstructors> CACHE = new ClassValue<>() {
+
+		@Override
+		protected ExceptionConstructors computeValue(Class<?> type) {
+			return new ExceptionConstructors(type);
+		}
+	};
+
+	/**
+	 * The class of the exceptions.
+	 */
+	private final Class<?> type;
+
+	/**
+	 * The supplier of exceptions without message, or {@code null} if no constructor allows that.
+	 */
+	private final ExceptionSupplier<Exception> empty;
+
+	/**
+	 * The supplier of exceptions from their message, or {@code null} if no constructor allows that.
+	 */
+	private final ExceptionSupplierFromMessage<Exception> message;
+
+	private ExceptionConstructors(Class<?> type) {
+		this.type = type;
+
+		if (Modifier.isAbstract(type.getModifiers()) || !Exception.class.isAssignableFrom(type))
+			throw new IllegalArgumentException(type.getName() + " is not a concrete class of exceptions");
+
+		var empty = find(type);
+		var message = find(type, String.class);
+		var messageAndCause = find(type, String.class, Throwable.class);
+
+		this.empty = empty(empty, message, messageAndCause);
+		this.message = message(message, messageAndCause);
+	}
+
+	/**
+	 * Yields the constructors of the given class of exceptions.
+	 * 
+	 * @param type the class
+	 * @return the constructors of {@code type}
+	 * @throws IllegalArgumentException if {@code type} is not a concrete class of exceptions
+	 */
+	static ExceptionConstructors of(Class<?> type) {
+		return CACHE.get(java.util.Objects.requireNonNull(type));
+	}
+
+	/**
+	 * Yields a supplier of exceptions without message. It is the same object at each call.
+	 * 
+	 * @return the supplier
+	 * @throws IllegalArgumentException if exceptions of this class cannot be created without message
+	 */
+	ExceptionSupplier<Exception> empty() {
+		if (empty == null)
+			throw missing("()");
+
+		return empty;
+	}
+
+	/**
+	 * Yields a supplier of exceptions from their message. It is the same object at each call.
+	 * 
+	 * @return the supplier
+	 * @throws IllegalArgumentException if exceptions of this class cannot be created from their message
+	 */
+	ExceptionSupplierFromMessage<Exception> message() {
+		if (message == null)
+			throw missing("(String)");
+
+		return message;
+	}
+
+	private static ExceptionSupplier<Exception> empty(MethodHandle empty, MethodHandle message, MethodHandle messageAndCause) {
+		MethodHandle handle;
+		if (empty != null)
+			handle = empty;
+		else if (message != null)
+			handle = MethodHandles.insertArguments(message, 0, (String) null);
+		else if (messageAndCause != null)
+			handle = MethodHandles.insertArguments(messageAndCause, 0, null, null);
+		else
+			return null;
+
+		return () -> {
+			try {
+				return (Exception) handle.invokeExact();
+			}
+			catch (RuntimeException | Error e) {
+				throw e;
+			}
+			catch (Throwable t) {
+				throw new RuntimeException("Unexpected exception", t);
+			}
+		};
+	}
+
+	private static ExceptionSupplierFromMessage<Exception> message(MethodHandle message, MethodHandle messageAndCause) {
+		MethodHandle handle;
+		if (message != null)
+			handle = message;
+		else if (messageAndCause != null)
+			handle = MethodHandles.insertArguments(messageAndCause, 1, (Throwable) null);
+		else
+			return null;
+
+		return text -> {
+			try {
+				return (Exception) handle.invokeExact(text);
+			}
+			catch (RuntimeException | Error e) {
+				throw e;
+			}
+			catch (Throwable t) {
+				throw new RuntimeException("Unexpected exception", t);
+			}
+		};
+	}
+
+	/**
+	 * Yields a function that creates an exception with the same message as a given exception,
+	 * and having it as cause. It uses the public constructor from the message and the cause or,
+	 * if missing, from the message only, or from the cause only, where the cause can be declared
+	 * of any superclass of {@code replaced}.
+	 * 
+	 * @param replaced the class of the replaced exceptions
+	 * @return the function
+	 * @throws IllegalArgumentException if no such constructor exists
+	 */
+	Function<Throwable, Exception> replacer(Class<?> replaced) {
+		for (Class<?> declared = replaced; declared != null; declared = declared.getSuperclass()) {
+			var handle = find(type, String.class, declared);
+			if (handle != null) {
+				var messageAndCause = handle.asType(MethodType.methodType(Exception.class, String.class, Throwable.class));
+				return e -> {
+					try {
+						return (Exception) messageAndCause.invokeExact(e.getMessage(), e);
+					}
+					catch (RuntimeException | Error t) {
+						throw t;
+					}
+					catch (Throwable t) {
+						throw new RuntimeException("Unexpected exception", t);
+					}
+				};
+			}
+		}
+
+		if (message != null) {
+			var message = this.message;
+			return e -> {
+				var result = message.apply(e.getMessage());
+
+				try {
+					result.initCause(e);
+				}
+				catch (IllegalStateException t) {
+					// the constructor has already set a cause: the replaced exception is kept as suppressed
+					result.addSuppressed(e);
+				}
+
+				return result;
+			};
+		}
+
+		for (Class<?> declared = replaced; declared != null; declared = declared.getSuperclass()) {
+			var handle = find(type, declared);
+			if (handle != null) {
+				var cause = handle.asType(MethodType.methodType(Exception.class, Throwable.class));
+				return e -> {
+					try {
+						return (Exception) cause.invokeExact(e);
+					}
+					catch (RuntimeException | Error t) {
+						throw t;
+					}
+					catch (Throwable t) {
+						throw new RuntimeException("Unexpected exception", t);
+					}
+				};
+			}
+		}
+
+		throw missing("(String, " + replaced.getSimpleName() + ")");
+	}
+
+	private IllegalArgumentException missing(String signature) {
+		return new IllegalArgumentException(type.getName() + " has no accessible constructor " + signature + " or equivalent");
+	}
+
+	private static MethodHandle find(Class<?> type, Class<?>... parameters) {
+		try {
+			var handle = MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class, parameters));
+			return handle.asType(MethodType.methodType(Exception.class, parameters));
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+}
\ No newline at end of file
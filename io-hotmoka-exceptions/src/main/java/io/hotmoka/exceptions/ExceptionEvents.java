@@ -0,0 +1,129 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Flight Recorder events emitted by the library. They are disabled by default and can be
+ * enabled by starting the JVM with {@code -Dio.hotmoka.exceptions.jfr=true}, provided that the
+ * {@code jdk.jfr} module is available. They are cheap when no recording is active
+ * and can be sampled, by starting the JVM with {@code -Dio.hotmoka.exceptions.jfr.sampling=N}:
+ * in that case, only one event out of {@code N}, on average, gets committed.
+ * Their stack trace is not recorded by default, but it can be enabled in the settings of the recording.
+ */
+final class ExceptionEvents {
+
+	/**
+	 * The system property that enables the events.
+	 */
+	final static String ENABLED_PROPERTY = "io.hotmoka.exceptions.jfr";
+
+	/**
+	 * The sampling rate of the events: one event out of this number, on average, gets committed.
+	 */
+	private final static int SAMPLING = Math.max(1, Integer.getInteger(ENABLED_PROPERTY + ".sampling", 1));
+
+	private ExceptionEvents() {}
+
+	/**
+	 * The event emitted when a checked exception gets wrapped into an {@link UncheckedException}.
+	 */
+	@Name("io.hotmoka.exceptions.Wrap")
+	@Label("Exception Wrapped")
+	@Description("A checked exception has been wrapped into an UncheckedException")
+	@Category({ "Hotmoka", "Exceptions" })
+	@StackTrace(false)
+	final static class WrapEvent extends Event {
+
+		@Label("Cause Class")
+		Class<?> causeClass;
+
+		@Label("Cause Message")
+		String message;
+
+		@Label("Target Types")
+		@Description("The exception types declared by the function that threw the cause, if known")
+		String targets;
+	}
+
+	/**
+	 * The event emitted when a check method of {@link CheckRunnable} or {@link CheckSupplier}
+	 * catches an {@link UncheckedException}, that it either recovers or rethrows.
+	 */
+	@Name("io.hotmoka.exceptions.Check")
+	@Label("Exception Checked")
+	@Description("An UncheckedException has been caught by a check method and its cause recovered or escaped")
+	@Category({ "Hotmoka", "Exceptions" })
+	@StackTrace(false)
+	final static class CheckEvent extends Event {
+
+		@Label("Cause Class")
+		Class<?> causeClass;
+
+		@Label("Target Types")
+		@Description("The exception types that the check method was asked to recover")
+		String targets;
+
+		@Label("Escaped")
+		@Description("True if the cause was none of the target types, hence the UncheckedException was rethrown")
+		boolean escaped;
+	}
+
+	static void wrapped(Throwable cause, Class<?>[] targets) {
+		var event = new WrapEvent();
+		if (event.isEnabled() && sampled()) {
+			event.causeClass = cause == null ? null : cause.getClass();
+			event.message = cause == null ? null : cause.getMessage();
+			event.targets = namesOf(targets);
+			event.commit();
+		}
+	}
+
+	static void checked(Throwable cause, Class<?>[] targets, boolean escaped) {
+		var event = new CheckEvent();
+		if (event.isEnabled() && sampled()) {
+			event.causeClass = cause == null ? null : cause.getClass();
+			event.targets = namesOf(targets);
+			event.escaped = escaped;
+			event.commit();
+		}
+	}
+
+	private static boolean sampled() {
+		return SAMPLING == 1 || ThreadLocalRandom.current().nextInt(SAMPLING) == 0;
+	}
+
+	private static String namesOf(Class<?>[] targets) {
+		var sb = new StringBuilder();
+		for (var target: targets) {
+			if (sb.length() > 0)
+				sb.append(", ");
+
+			sb.append(target.getName());
+		}
+
+		return sb.toString();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,407 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.hotmoka.exceptions.RecentExceptions.Kind;
+
+/**
+ * A journal of the exceptions wrapped into an {@link UncheckedException} and recovered or
+ * rethrown by the check methods of {@link CheckRunnable} and {@link CheckSupplier}, kept
+ * in a memory-mapped file used as a ring of fixed-size records. Since writing a record
+ * is just a sequence of memory stores into the mapped file, it requires no system calls and
+ * the records survive a crash of the JVM. The journal is disabled by default and can be enabled
+ * by starting the JVM with {@code -Dio.hotmoka.exceptions.journal=path}; the number of records
+ * in the ring can be specified with {@code -Dio.hotmoka.exceptions.journal.records=N}.
+ * The journal can be decoded with {@link #read(Path)}. Each record carries a checksum of its content,
+ * so that records torn by a crash in the middle of their writing, or by two threads writing the same
+ * record after the ring has wrapped around, are detected and skipped when decoding the journal.
+ */
+public final class ExceptionJournal {
+
+	/**
+	 * The system property that enables the journal, by specifying the path of its file.
+	 */
+	public final static String PATH_PROPERTY = "io.hotmoka.exceptions.journal";
+
+	/**
+	 * The system property that specifies the number of records in the journal.
+	 */
+	public final static String RECORDS_PROPERTY = "io.hotmoka.exceptions.journal.records";
+
+	private final static Logger LOGGER = System.getLogger(ExceptionJournal.class.getName());
+
+	/**
+	 * The magic number at the beginning of the file of a journal.
+	 */
+	private final static int MAGIC = 0x484a524e;
+
+	/**
+	 * The version of the format of the journal.
+	 */
+	private final static int VERSION = 2;
+
+	/**
+	 * The size of the header of the file, in bytes: magic number, version, record size and number of records.
+	 */
+	private final static int HEADER_SIZE = 64;
+
+	/**
+	 * The size of each record, in bytes. A record contains the sequence number (0 for a free record),
+	 * the timestamp, the fingerprint, the checksum of the record, the kind, the length of the class name,
+	 * the length of the message (-1 for a {@code null} message), the class name and the message, both
+	 * in UTF-8 and truncated to the available space.
+	 */
+	private final static int RECORD_SIZE = 256;
+
+	/**
+	 * The offset, inside a record, of the bytes of the class name.
+	 */
+	private final static int NAME_OFFSET = 36;
+
+	/**
+	 * The maximal length of the class name, in bytes.
+	 */
+	private final static int MAX_NAME_LENGTH = 104;
+
+	/**
+	 * The default number of records in the journal.
+	 */
+	private final static int DEFAULT_RECORDS = 4096;
+
+	/**
+	 * The bytes of the truncated class names, computed once per class.
+	 */
+	private final static ClassValue<byte[]> NAMES = new ClassValue<>() {
+
+		@Override
+		protected byte[] computeValue(Class<?> type) {
+			return truncate(type.getName().getBytes(StandardCharsets.UTF_8), MAX_NAME_LENGTH);
+		}
+	};
+
+	/**
+	 * The mapped file of the journal, or {@code null} if the journal is disabled.
+	 */
+	private final static MappedByteBuffer BUFFER;
+
+	/**
+	 * The number of records in the journal.
+	 */
+	private final static int RECORDS;
+
+	/**
+	 * The last sequence number used so far.
+	 */
+	private final static AtomicLong SEQUENCE = new AtomicLong();
+
+	static {
+		MappedByteBuffer buffer = null;
+		int records = Math.max(1, Integer.getInteger(RECORDS_PROPERTY, DEFAULT_RECORDS));
+		String path = System.getProperty(PATH_PROPERTY);
+
+		if (path != null) {
+			try {
+				buffer = open(Path.of(path), records);
+			}
+			catch (IOException | RuntimeException e) {
+				LOGGER.log(Level.WARNING, "Cannot open the exception journal " + path, e);
+			}
+		}
+
+		BUFFER = buffer;
+		RECORDS = records;
+	}
+
+	/**
+	 * A record of the journal.
+	 */
+	public final static class Record {
+		private final long sequence;
+		private final long timestamp;
+		private final long fingerprint;
+		private final Kind kind;
+		private final String className;
+		private final String message;
+
+		private Record(long sequence, long timestamp, long fingerprint, Kind kind, String className, String message) {
+			this.sequence = sequence;
+			this.timestamp = timestamp;
+			this.fingerprint = fingerprint;
+			this.kind = kind;
+			this.className = className;
+			this.message = message;
+		}
+
+		/**
+		 * Yields the sequence number of the record. Records with larger sequence numbers are more recent.
+		 * 
+		 * @return the sequence number
+		 */
+		public long getSequence() {
+			return sequence;
+		}
+
+		/**
+		 * Yields the time of the event.
+		 * 
+		 * @return the time of the event, in milliseconds from the epoch
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		/**
+		 * Yields a hash of the class of the exception and of the topmost frames of its stack trace.
+		 * 
+		 * @return the hash
+		 */
+		public long getFingerprint() {
+			return fingerprint;
+		}
+
+		/**
+		 * Yields the kind of the event.
+		 * 
+		 * @return the kind of the event
+		 */
+		public Kind getKind() {
+			return kind;
+		}
+
+		/**
+		 * Yields the name of the class of the exception, possibly truncated.
+		 * 
+		 * @return the name of the class of the exception
+		 */
+		public String getClassName() {
+			return className;
+		}
+
+		/**
+		 * Yields the message of the exception, possibly truncated.
+		 * 
+		 * @return the message of the exception, possibly {@code null}
+		 */
+		public String getMessage() {
+			return message;
+		}
+
+		@Override
+		public String toString() {
+			return sequence + " " + Instant.ofEpochMilli(timestamp) + " " + kind + " " + className
+				+ (message != null ? ": " + message : "") + " #" + Long.toHexString(fingerprint);
+		}
+	}
+
+	private ExceptionJournal() {}
+
+	/**
+	 * Determines if the journal is enabled.
+	 * 
+	 * @return true if and only if the journal is enabled
+	 */
+	public static boolean isEnabled() {
+		return BUFFER != null;
+	}
+
+	/**
+	 * Decodes the journal in the given file.
+	 * 
+	 * @param path the path of the file of the journal
+	 * @return the records in the journal, from the oldest to the most recent
+	 * @throws IOException if the file cannot be read or does not contain a journal
+	 */
+	public static List<Record> read(Path path) throws IOException {
+		ByteBuffer buffer;
+		try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		int records = readHeader(buffer);
+		if (records < 0)
+			throw new IOException(path + " does not contain an exception journal");
+
+		var result = new ArrayList<Record>();
+		var kinds = Kind.values();
+
+		for (int pos = 0; pos < records; pos++) {
+			int base = HEADER_SIZE + pos * RECORD_SIZE;
+			long sequence = buffer.getLong(base);
+			int kind = buffer.get(base + 32);
+			int nameLength = buffer.get(base + 33) & 0xff;
+			int messageLength = buffer.getShort(base + 34);
+
+			if (sequence > 0 && kind >= 0 && kind < kinds.length && nameLength <= MAX_NAME_LENGTH && messageLength <= RECORD_SIZE - NAME_OFFSET - nameLength) {
+				var name = new byte[nameLength];
+				buffer.get(base + NAME_OFFSET, name);
+				byte[] bytes = null;
+				if (messageLength >= 0) {
+					bytes = new byte[messageLength];
+					buffer.get(base + NAME_OFFSET + nameLength, bytes);
+				}
+
+				long timestamp = buffer.getLong(base + 8);
+				long fingerprint = buffer.getLong(base + 16);
+
+				if (buffer.getLong(base + 24) == checksum(sequence, timestamp, fingerprint, kind, name, bytes))
+					result.add(new Record(sequence, timestamp, fingerprint, kinds[kind], new String(name, StandardCharsets.UTF_8), bytes == null ? null : new String(bytes, StandardCharsets.UTF_8)));
+			}
+		}
+
+		result.sort(Comparator.comparingLong(Record::getSequence));
+
+		return result;
+	}
+
+	/**
+	 * Writes a record in the journal, if enabled.
+	 * 
+	 * @param kind the kind of event
+	 * @param throwable the exception
+	 */
+	static void record(Kind kind, Throwable throwable) {
+		if (BUFFER != null && throwable != null) {
+			long sequence = SEQUENCE.incrementAndGet();
+			int base = HEADER_SIZE + (int) ((sequence - 1) % RECORDS) * RECORD_SIZE;
+			byte[] name = NAMES.get(throwable.getClass());
+			String message = throwable.getMessage();
+			byte[] bytes = message == null ? null : truncate(message.getBytes(StandardCharsets.UTF_8), RECORD_SIZE - NAME_OFFSET - name.length);
+
+			long timestamp = System.currentTimeMillis();
+			long fingerprint = StackFingerprints.of(throwable, StackFingerprints.DEFAULT_FRAMES);
+
+			// the sequence number is written last, so that a record interrupted by a crash is free;
+			// the checksum detects the records whose writing got interleaved with that of another thread
+			BUFFER.putLong(base, 0L);
+			BUFFER.putLong(base + 8, timestamp);
+			BUFFER.putLong(base + 16, fingerprint);
+			BUFFER.putLong(base + 24, checksum(sequence, timestamp, fingerprint, kind.ordinal(), name, bytes));
+			BUFFER.put(base + 32, (byte) kind.ordinal());
+			BUFFER.put(base + 33, (byte) name.length);
+			BUFFER.putShort(base + 34, (short) (bytes == null ? -1 : bytes.length));
+			BUFFER.put(base + NAME_OFFSET, name);
+			if (bytes != null)
+				BUFFER.put(base + NAME_OFFSET + name.length, bytes);
+
+			BUFFER.putLong(base, sequence);
+		}
+	}
+
+	/**
+	 * Maps the file of the journal in memory, creating it if it does not exist or if it has
+	 * a different format. If it exists, the sequence numbers continue after those already in the file.
+	 */
+	private static MappedByteBuffer open(Path path, int records) throws IOException {
+		long size = HEADER_SIZE + (long) records * RECORD_SIZE;
+		if (size > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("The exception journal cannot be larger than 2GB");
+
+		try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			boolean reuse = channel.size() == size;
+			if (!reuse)
+				channel.truncate(0);
+
+			var buffer = channel.map(MapMode.READ_WRITE, 0, size);
+
+			if (reuse && readHeader(buffer) == records) {
+				long last = 0L;
+				for (int pos = 0; pos < records; pos++)
+					last = Math.max(last, buffer.getLong(HEADER_SIZE + pos * RECORD_SIZE));
+
+				SEQUENCE.set(last);
+			}
+			else {
+				for (int pos = 0; pos < size; pos += 8)
+					buffer.putLong(pos, 0L);
+
+				buffer.putInt(0, MAGIC);
+				buffer.putInt(4, VERSION);
+				buffer.putInt(8, RECORD_SIZE);
+				buffer.putInt(12, records);
+			}
+
+			return buffer;
+		}
+	}
+
+	/**
+	 * Yields the number of records of the journal in the given buffer.
+	 * 
+	 * @return the number of records, or -1 if the buffer does not contain a journal
+	 */
+	private static int readHeader(ByteBuffer buffer) {
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != RECORD_SIZE)
+			return -1;
+
+		int records = buffer.getInt(12);
+		return records > 0 && HEADER_SIZE + (long) records * RECORD_SIZE <= buffer.capacity() ? records : -1;
+	}
+
+	/**
+	 * Yields the checksum of a record with the given content.
+	 */
+	private static long checksum(long sequence, long timestamp, long fingerprint, int kind, byte[] name, byte[] message) {
+		long hash = 31L * sequence + timestamp;
+		hash = 31L * hash + fingerprint;
+		hash = 31L * hash + kind;
+
+		for (byte b: name)
+			hash = 31L * hash + b;
+
+		if (message == null)
+			hash = 31L * hash - 1L;
+		else {
+			hash = 31L * hash + message.length;
+			for (byte b: message)
+				hash = 31L * hash + b;
+		}
+
+		return StackFingerprints.mix(hash);
+	}
+
+	/**
+	 * Truncates the given UTF-8 bytes to at most {@code max} bytes, without splitting a character.
+	 */
+	private static byte[] truncate(byte[] bytes, int max) {
+		if (bytes.length <= max)
+			return bytes;
+
+		// continuation bytes of UTF-8 have the form 10xxxxxx
+		while (max > 0 && (bytes[max] & 0xc0) == 0x80)
+			max--;
+
+		var result = new byte[max];
+		System.arraycopy(bytes, 0, result, 0, max);
+		return result;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.util.List;
+
+/**
+ * A listener to the exceptions that flow through the library. Implementations are discovered
+ * at start-up through the {@link java.util.ServiceLoader} mechanism: a module provides a listener by declaring
+ * <blockquote><pre>
+ * provides io.hotmoka.exceptions.ExceptionListener with my.package.MyListener;
+ * </pre></blockquote>
+ * in its {@code module-info.java}, or through a {@code META-INF/services/io.hotmoka.exceptions.ExceptionListener}
+ * file if it lives in the class path. If no listener is installed, notifying them costs nothing
+ * beyond the check of a constant. Listeners are called synchronously, in the thread where the exception
+ * flows, hence they should be fast; exceptions thrown by listeners are ignored.
+ */
+public interface ExceptionListener {
+
+	/**
+	 * Called when a checked exception gets wrapped into an {@link UncheckedException}.
+	 * 
+	 * @param cause the wrapped exception
+	 */
+	default void onWrapped(Throwable cause) {}
+
+	/**
+	 * Called when a check method of {@link CheckRunnable} or {@link CheckSupplier} recovers
+	 * the cause of an {@link UncheckedException}.
+	 * 
+	 * @param cause the recovered exception
+	 * @param targets the exception types that the check method was asked to recover
+	 */
+	default void onRecovered(Throwable cause, List<Class<?>> targets) {}
+
+	/**
+	 * Called when a check method of {@link CheckRunnable} or {@link CheckSupplier} rethrows
+	 * an {@link UncheckedException}, since its cause is none of the exception types that it was asked to recover.
+	 * 
+	 * @param exception the rethrown exception
+	 * @param targets the exception types that the check method was asked to recover
+	 */
+	default void onEscaped(UncheckedException exception, List<Class<?>> targets) {}
+}
\ No newline at end of file
@@ -0,0 +1,264 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counters of the exceptions that flow through the library, for each exception class:
+ * how many get wrapped into an {@link UncheckedException}, how many get recovered by
+ * the check methods of {@link CheckRunnable} and {@link CheckSupplier} and how many
+ * escape those check methods, since they were not among the exceptions to recover.
+ * The counters are disabled by default and can be enabled by starting the JVM with
+ * {@code -Dio.hotmoka.exceptions.metrics=true}. If enabled, they are also exported
+ * through JMX, as an {@link ExceptionMetricsMXBean}, provided that the {@code java.management}
+ * module is available. An {@link UncheckedException}
+ * without cause is counted under its own class.
+ */
+public final class ExceptionMetrics {
+
+	/**
+	 * The system property that enables the counters.
+	 */
+	public final static String ENABLED_PROPERTY = "io.hotmoka.exceptions.metrics";
+
+	/**
+	 * The name of the MBean of the counters.
+	 */
+	public final static String MBEAN_NAME = "io.hotmoka.exceptions:type=ExceptionMetrics";
+
+	/**
+	 * All counters created so far, for enumeration. They are only weakly reachable from here,
+	 * so that the counters of a class do not prevent the unloading of that class: as long as
+	 * the class is alive, its counters are kept alive by {@link #COUNTERS}.
+	 */
+	private final static ConcurrentLinkedQueue<WeakReference<ExceptionMetrics>> ALL = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Fast access to the counters of each exception class.
+	 */
+	private final static ClassValue<ExceptionMetrics> COUNTERS = new ClassValue<>() {
+
+		@Override
+		protected ExceptionMetrics computeValue(Class<?> type) {
+			var counters = new ExceptionMetrics(type);
+			ALL.add(new WeakReference<>(counters));
+			return counters;
+		}
+	};
+
+	static {
+		// the management classes are only loaded if their module is available
+		if (isEnabled() && Instrumentation.isAvailable("java.management"))
+			MXBean.register();
+	}
+
+	/**
+	 * The exception class whose exceptions are counted.
+	 */
+	private final Class<?> type;
+
+	/**
+	 * The number of exceptions wrapped into an {@link UncheckedException}.
+	 */
+	private final LongAdder wrapped = new LongAdder();
+
+	/**
+	 * The number of exceptions recovered by a check method.
+	 */
+	private final LongAdder recovered = new LongAdder();
+
+	/**
+	 * The number of exceptions that escaped a check method.
+	 */
+	private final LongAdder escaped = new LongAdder();
+
+	private ExceptionMetrics(Class<?> type) {
+		this.type = type;
+	}
+
+	/**
+	 * Determines if the counters are enabled.
+	 * 
+	 * @return true if and only if the counters are enabled
+	 */
+	public static boolean isEnabled() {
+		return Instrumentation.METRICS;
+	}
+
+	/**
+	 * Yields a snapshot of the counters, one for each exception class met so far.
+	 * 
+	 * @return the snapshot; this is empty if the counters are disabled
+	 */
+	public static List<ExceptionMetrics> snapshot() {
+		var result = new ArrayList<ExceptionMetrics>();
+		for (var counters: registered()) {
+			var copy = new ExceptionMetrics(counters.type);
+			copy.wrapped.add(counters.wrapped.sum());
+			copy.recovered.add(counters.recovered.sum());
+			copy.escaped.add(counters.escaped.sum());
+			result.add(copy);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Resets all counters to zero.
+	 */
+	public static void reset() {
+		for (var counters: registered()) {
+			counters.wrapped.reset();
+			counters.recovered.reset();
+			counters.escaped.reset();
+		}
+	}
+
+	/**
+	 * Yields the exception class counted by these counters.
+	 * 
+	 * @return the exception class
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * Yields the number of exceptions wrapped into an {@link UncheckedException}.
+	 * 
+	 * @return the number of exceptions
+	 */
+	public long getWrapped() {
+		return wrapped.sum();
+	}
+
+	/**
+	 * Yields the number of exceptions recovered from an {@link UncheckedException} by a check method.
+	 * 
+	 * @return the number of exceptions
+	 */
+	public long getRecovered() {
+		return recovered.sum();
+	}
+
+	/**
+	 * Yields the number of {@link UncheckedException}s rethrown by a check method,
+	 * whose cause was not among the exceptions to recover.
+	 * 
+	 * @return the number of exceptions
+	 */
+	public long getEscaped() {
+		return escaped.sum();
+	}
+
+	@Override
+	public String toString() {
+		return type.getName() + ": wrapped = " + getWrapped() + ", recovered = " + getRecovered() + ", escaped = " + getEscaped();
+	}
+
+	static void wrapped(Throwable cause) {
+		COUNTERS.get(cause == null ? UncheckedException.class : cause.getClass()).wrapped.increment();
+	}
+
+	static void recovered(Throwable cause) {
+		COUNTERS.get(cause == null ? UncheckedException.class : cause.getClass()).recovered.increment();
+	}
+
+	static void escaped(UncheckedException exception) {
+		var cause = exception.getCause();
+		COUNTERS.get(cause == null ? exception.getClass() : cause.getClass()).escaped.increment();
+	}
+
+	/**
+	 * Yields the counters of the classes that are still alive, dropping those of the unloaded classes.
+	 * 
+	 * @return the counters
+	 */
+	private static List<ExceptionMetrics> registered() {
+		var result = new ArrayList<ExceptionMetrics>();
+
+		for (var it = ALL.iterator(); it.hasNext(); ) {
+			var counters = it.next().get();
+			if (counters == null)
+				it.remove();
+			// the class value might have computed and discarded some counters under contention
+			else if (COUNTERS.get(counters.type) == counters)
+				result.add(counters);
+		}
+
+		return result;
+	}
+
+	/**
+	 * The implementation of the management interface.
+	 */
+	private final static class MXBean implements ExceptionMetricsMXBean {
+
+		private static void register() {
+			try {
+				ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), new ObjectName(MBEAN_NAME));
+			}
+			catch (JMException e) {
+				// the counters remain available through snapshot()
+				System.getLogger(ExceptionMetrics.class.getName()).log(System.Logger.Level.WARNING, "Cannot register the MBean of the exception metrics", e);
+			}
+		}
+
+		@Override
+		public Map<String, Long> getWrapped() {
+			return collect(counters -> counters.wrapped);
+		}
+
+		@Override
+		public Map<String, Long> getRecovered() {
+			return collect(counters -> counters.recovered);
+		}
+
+		@Override
+		public Map<String, Long> getEscaped() {
+			return collect(counters -> counters.escaped);
+		}
+
+		@Override
+		public void reset() {
+			ExceptionMetrics.reset();
+		}
+
+		private static Map<String, Long> collect(Function<ExceptionMetrics, LongAdder> selector) {
+			var result = new TreeMap<String, Long>();
+			for (var counters: registered()) {
+				long value = selector.apply(counters).sum();
+				if (value > 0L)
+					result.put(counters.type.getName(), value);
+			}
+
+			return result;
+		}
+	}
+}
\ No newline at end of file
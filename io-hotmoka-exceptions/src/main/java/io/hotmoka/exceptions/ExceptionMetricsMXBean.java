@@ -0,0 +1,55 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.util.Map;
+
+/**
+ * The management interface of the counters of {@link ExceptionMetrics}.
+ * It is registered with the name {@code io.hotmoka.exceptions:type=ExceptionMetrics}
+ * in the platform MBean server, if the counters are enabled.
+ */
+public interface ExceptionMetricsMXBean {
+
+	/**
+	 * Yields the number of exceptions wrapped into an {@link UncheckedException}, for each exception class.
+	 * 
+	 * @return the map from the name of each exception class to its counter
+	 */
+	Map<String, Long> getWrapped();
+
+	/**
+	 * Yields the number of exceptions recovered from an {@link UncheckedException} by a check method,
+	 * for each exception class.
+	 * 
+	 * @return the map from the name of each exception class to its counter
+	 */
+	Map<String, Long> getRecovered();
+
+	/**
+	 * Yields the number of {@link UncheckedException}s rethrown by a check method since their cause
+	 * was not among those to recover, for each class of the cause.
+	 * 
+	 * @return the map from the name of each exception class to its counter
+	 */
+	Map<String, Long> getEscaped();
+
+	/**
+	 * Resets all counters to zero.
+	 */
+	void reset();
+}
\ No newline at end of file
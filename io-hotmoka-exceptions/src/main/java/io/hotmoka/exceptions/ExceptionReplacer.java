@@ -10,4 +10,25 @@ import java.util.function.Function;
  * @param <Replacement> the type of the replacing exception
  */
 public interface ExceptionReplacer<Replaced extends Exception, Replacement extends Exception> extends Function<Replaced, Replacement> {
+
+	/**
+	 * Yields a replacer that creates exceptions of the given class through its
+	 * public constructor from the message and the cause or, if missing, from the
+	 * message only, or from the cause only, where the cause can be declared of any
+	 * superclass of {@code replaced}. The constructor is resolved only once per class.
+	 * For instance, {@code ExceptionReplacer.of(IOException.class, NodeException.class)}
+	 * replaces {@code IOException}s with {@code NodeException}s.
+	 * 
+	 * @param <Replaced> the type of the replaced exceptions
+	 * @param <Replacement> the type of the replacing exceptions
+	 * @param replaced the class of the replaced exceptions
+	 * @param replacement the class of the replacing exceptions
+	 * @return the replacer
+	 * @throws IllegalArgumentException if {@code replacement} has no such constructor
+	 */
+	@SuppressWarnings("unchecked")
+	static <Replaced extends Exception, Replacement extends Exception> ExceptionReplacer<Replaced, Replacement> of(Class<Replaced> replaced, Class<Replacement> replacement) {
+		var replacer = ExceptionConstructors.of(replacement).replacer(java.util.Objects.requireNonNull(replaced));
+		return e -> (Replacement) replacer.apply(e);
+	}
 }
\ No newline at end of file
@@ -8,4 +8,19 @@ import java.util.function.Supplier;
  * @param <E> the type of the supplied exception
  */
 public interface ExceptionSupplier<E extends Exception> extends Supplier<E> {
+
+	/**
+	 * Yields a supplier that creates exceptions of the given class through its
+	 * public constructor without parameters or, if missing, from a {@code null} message.
+	 * The constructor is resolved only once per class.
+	 * 
+	 * @param <E> the type of the supplied exceptions
+	 * @param type the class of the supplied exceptions
+	 * @return the supplier
+	 * @throws IllegalArgumentException if {@code type} has no such constructor
+	 */
+	@SuppressWarnings("unchecked")
+	static <E extends Exception> ExceptionSupplier<E> of(Class<E> type) {
+		return (ExceptionSupplier<E>) ExceptionConstructors.of(type).empty();
+	}
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package io.hotmoka.exceptions;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * A supplier of an exception from its message.
@@ -8,4 +9,30 @@ import java.util.function.Function;
  * @param <E> the type of the supplied exception
  */
 public interface ExceptionSupplierFromMessage<E extends Exception> extends Function<String, E> {
+
+	/**
+	 * Yields a supplier of exceptions whose message is computed only when an exception gets supplied.
+	 * 
+	 * @param message the supplier of the message
+	 * @return the supplier of exceptions
+	 */
+	default ExceptionSupplier<E> withMessage(Supplier<String> message) {
+		java.util.Objects.requireNonNull(message);
+		return () -> apply(message.get());
+	}
+
+	/**
+	 * Yields a supplier that creates exceptions of the given class through its
+	 * public constructor from the message or, if missing, from the message and
+	 * a {@code null} cause. The constructor is resolved only once per class.
+	 * 
+	 * @param <E> the type of the supplied exceptions
+	 * @param type the class of the supplied exceptions
+	 * @return the supplier
+	 * @throws IllegalArgumentException if {@code type} has no such constructor
+	 */
+	@SuppressWarnings("unchecked")
+	static <E extends Exception> ExceptionSupplierFromMessage<E> of(Class<E> type) {
+		return (ExceptionSupplierFromMessage<E>) ExceptionConstructors.of(type).message();
+	}
 }
\ No newline at end of file
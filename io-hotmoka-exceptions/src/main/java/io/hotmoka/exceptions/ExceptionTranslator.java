@@ -0,0 +1,147 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A translator of exceptions into exceptions of a given type. It is a table of replacers,
+ * each registered for a class of exceptions: an exception gets translated through the replacer
+ * registered for its most specific superclass, or through a default replacer if no superclass
+ * of the exception is registered. The replacer for each class of exceptions is resolved once and cached.
+ * Instances of this class are immutable and can be shared across threads.
+ * 
+ * @param <T> the type of the translated exceptions
+ */
+public final class ExceptionTranslator<T extends Exception> implements ExceptionReplacer<Exception, T> {
+
+	/**
+	 * The replacers, for each registered class of exceptions.
+	 */
+	private final Map<Class<?>, ExceptionReplacer<Exception, ? extends T>> replacers;
+
+	/**
+	 * The replacer used if no superclass of an exception is registered.
+	 */
+	private final ExceptionReplacer<Exception, ? extends T> fallback;
+
+	/**
+	 * The replacer for each class of exceptions, resolved on demand.
+	 */
+	private final ClassValue<ExceptionReplacer<Exception, ? extends T>> resolved = new ClassValue<>() {
+
+		@Override
+		protected ExceptionReplacer<Exception, ? extends T> computeValue(Class<?> type) {
+			for (Class<?> superclass = type; superclass != null; superclass = superclass.getSuperclass()) {
+				var replacer = replacers.get(superclass);
+				if (replacer != null)
+					return replacer;
+			}
+
+			return fallback;
+		}
+	};
+
+	private ExceptionTranslator(Builder<T> builder) {
+		this.replacers = new HashMap<>(builder.replacers);
+		this.fallback = builder.fallback;
+	}
+
+	/**
+	 * Yields a builder of a translator.
+	 * 
+	 * @param <T> the type of the translated exceptions
+	 * @param fallback the replacer used for the exceptions none of whose superclasses is registered
+	 * @return the builder
+	 */
+	public static <T extends Exception> Builder<T> builder(ExceptionReplacer<? super Exception, ? extends T> fallback) {
+		return new Builder<>(fallback);
+	}
+
+	/**
+	 * Yields a builder of a translator, that translates the exceptions none of whose superclasses
+	 * is registered through {@link ExceptionReplacer#of(Class, Class)}.
+	 * 
+	 * @param <T> the type of the translated exceptions
+	 * @param type the class of the translated exceptions
+	 * @return the builder
+	 * @throws IllegalArgumentException if {@code type} has no constructor usable for replacing exceptions
+	 */
+	public static <T extends Exception> Builder<T> builder(Class<T> type) {
+		return new Builder<>(ExceptionReplacer.of(Exception.class, type));
+	}
+
+	/**
+	 * A builder of a translator.
+	 * 
+	 * @param <T> the type of the translated exceptions
+	 */
+	public final static class Builder<T extends Exception> {
+		private final Map<Class<?>, ExceptionReplacer<Exception, ? extends T>> replacers = new HashMap<>();
+		private final ExceptionReplacer<Exception, ? extends T> fallback;
+
+		private Builder(ExceptionReplacer<? super Exception, ? extends T> fallback) {
+			java.util.Objects.requireNonNull(fallback);
+			this.fallback = fallback::apply;
+		}
+
+		/**
+		 * Registers the replacer for the given class of exceptions and its subclasses,
+		 * unless a replacer is registered for a more specific subclass.
+		 * 
+		 * @param <S> the type of the exceptions translated by the replacer
+		 * @param type the class of the exceptions translated by the replacer
+		 * @param replacer the replacer
+		 * @return this builder
+		 * @throws IllegalArgumentException if a replacer is already registered for {@code type}
+		 */
+		@SuppressWarnings("unchecked")
+		public <S extends Exception> Builder<T> register(Class<S> type, ExceptionReplacer<? super S, ? extends T> replacer) {
+			java.util.Objects.requireNonNull(replacer);
+
+			if (replacers.containsKey(java.util.Objects.requireNonNull(type)))
+				throw new IllegalArgumentException("A replacer is already registered for " + type.getName());
+
+			// the replacer gets only applied to instances of type
+			replacers.put(type, e -> replacer.apply((S) e));
+
+			return this;
+		}
+
+		/**
+		 * Builds the translator.
+		 * 
+		 * @return the translator
+		 */
+		public ExceptionTranslator<T> build() {
+			return new ExceptionTranslator<>(this);
+		}
+	}
+
+	/**
+	 * Translates the given exception through the replacer registered for its most specific superclass
+	 * or, if none, through the default replacer.
+	 * 
+	 * @param exception the exception to translate
+	 * @return the translation of {@code exception}
+	 */
+	@Override
+	public T apply(Exception exception) {
+		return resolved.get(exception.getClass()).apply(exception);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+/**
+ * A handle that allows the body of a traversal of {@link Traversals} to stop the traversal early,
+ * possibly providing its result. Stopping the traversal throws a shared control-flow signal,
+ * without stack trace, hence no exception is allocated at each stop. Since methods {@link #with(Object)} and {@link #now()}
+ * never return normally, it is possible to use them as {@code throw exit.with(value)}, to make
+ * the control flow explicit to the compiler.
+ * 
+ * @param <R> the type of the result of the traversal
+ */
+public final class Exit<R> {
+
+	/**
+	 * The signal thrown to stop a traversal. It is shared by all traversals: each traversal
+	 * recognizes its own exits from the state of its {@link Exit}.
+	 */
+	final static class Signal extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The only instance of this class.
+		 */
+		final static Signal INSTANCE = new Signal();
+
+		private Signal() {
+			super("exit from a traversal outside that traversal", null, false, false);
+		}
+	}
+
+	/**
+	 * True if and only if the traversal has been exited.
+	 */
+	private boolean exited;
+
+	/**
+	 * The result of the traversal, if it has been exited.
+	 */
+	private R result;
+
+	/**
+	 * Creates the handle of a traversal.
+	 */
+	Exit() {}
+
+	/**
+	 * Stops the traversal, with the given result. If the traversal is run in parallel,
+	 * the first result provided wins.
+	 * 
+	 * @param result the result of the traversal
+	 * @return never returns normally
+	 */
+	public synchronized RuntimeException with(R result) {
+		if (!exited) {
+			this.exited = true;
+			this.result = result;
+		}
+
+		throw Signal.INSTANCE;
+	}
+
+	/**
+	 * Stops the traversal, without a result.
+	 * 
+	 * @return never returns normally
+	 */
+	public RuntimeException now() {
+		return with(null);
+	}
+
+	/**
+	 * Determines if the given exception is the signal thrown to stop a traversal.
+	 * That signal is control flow, hence it is not a failure and it must be propagated.
+	 * 
+	 * @param throwable the exception
+	 * @return true if and only if {@code throwable} is that signal
+	 */
+	static boolean isSignal(Throwable throwable) {
+		return throwable == Signal.INSTANCE;
+	}
+
+	/**
+	 * Determines if the traversal has been exited.
+	 * 
+	 * @return true if and only if the traversal has been exited
+	 */
+	synchronized boolean isExited() {
+		return exited;
+	}
+
+	/**
+	 * Yields the result of the traversal, if it has been exited.
+	 * 
+	 * @return the result of the traversal
+	 */
+	synchronized R getResult() {
+		return result;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,637 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import io.hotmoka.exceptions.functions.FunctionWithExceptions;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions1;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions2;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions3;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions4;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions5;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions6;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions7;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions1;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions2;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions3;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions4;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions5;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions6;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions7;
+
+/**
+ * A guard around the execution of suppliers and functions with exceptions.
+ * It can reject an execution, by throwing an exception of type {@code E},
+ * and it is informed about the outcome of each execution that it allowed.
+ * Each execution takes place in the thread of the caller.
+ * 
+ * @param <E> the type of the exception thrown when an execution is rejected
+ */
+public abstract class Guard<E extends Exception> {
+
+	/**
+	 * Creates the guard.
+	 */
+	Guard() {}
+
+	/**
+	 * Called before an execution, in order to decide if it is allowed.
+	 * 
+	 * @return a token that gets passed to {@link #exit(long, Throwable)} at the end of the execution
+	 * @throws E if the execution is rejected
+	 */
+	abstract long enter() throws E;
+
+	/**
+	 * Called at the end of an execution allowed by {@link #enter()}.
+	 * 
+	 * @param token the token returned by {@link #enter()} for the execution
+	 * @param failure the exception thrown by the execution; this is {@code null} if the execution succeeded
+	 *                or if it stopped a traversal through an {@link Exit}, which is control flow and not a failure
+	 */
+	abstract void exit(long token, Throwable failure);
+
+	/**
+	 * Calls the given supplier, if this guard allows it.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if this guard rejects the call
+	 * @throws Throwable if the supplier throws it
+	 */
+	public final <R> R call(SupplierWithExceptions<? extends R> supplier) throws Throwable {
+		long token = enter();
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+
+	/**
+	 * Calls the given supplier, if this guard allows it.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the type of exceptions thrown by the supplier
+	 * @param exception the exception tag of {@code E1}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if this guard rejects the call
+	 * @throws E1 if the supplier throws it
+	 */
+	public final <R, E1 extends Throwable> R call(Class<E1> exception, SupplierWithExceptions1<? extends R, E1> supplier) throws E, E1 {
+		long token = enter();
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+
+	/**
+	 * Calls the given supplier, if this guard allows it.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if this guard rejects the call
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 */
+	public final <R, E1 extends Throwable, E2 extends Throwable> R call(Class<E1> exception1, Class<E2> exception2, SupplierWithExceptions2<? extends R, E1, E2> supplier) throws E, E1, E2 {
+		long token = enter();
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+
+	/**
+	 * Calls the given supplier, if this guard allows it.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if this guard rejects the call
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 * @throws E3 if the supplier throws it
+	 */
+	public final <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> R call(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, SupplierWithExceptions3<? extends R, E1, E2, E3> supplier) throws E, E1, E2, E3 {
+		long token = enter();
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+
+	/**
+	 * Calls the given supplier, if this guard allows it.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if this guard rejects the call
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 * @throws E3 if the supplier throws it
+	 * @throws E4 if the supplier throws it
+	 */
+	public final <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> R call(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, SupplierWithExceptions4<? extends R, E1, E2, E3, E4> supplier) throws E, E1, E2, E3, E4 {
+		long token = enter();
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+
+	/**
+	 * Calls the given supplier, if this guard allows it.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param <E5> the fifth type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if this guard rejects the call
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 * @throws E3 if the supplier throws it
+	 * @throws E4 if the supplier throws it
+	 * @throws E5 if the supplier throws it
+	 */
+	public final <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> R call(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, SupplierWithExceptions5<? extends R, E1, E2, E3, E4, E5> supplier) throws E, E1, E2, E3, E4, E5 {
+		long token = enter();
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+
+	/**
+	 * Calls the given supplier, if this guard allows it.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param <E5> the fifth type of exceptions thrown by the supplier
+	 * @param <E6> the sixth type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if this guard rejects the call
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 * @throws E3 if the supplier throws it
+	 * @throws E4 if the supplier throws it
+	 * @throws E5 if the supplier throws it
+	 * @throws E6 if the supplier throws it
+	 */
+	public final <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> R call(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, SupplierWithExceptions6<? extends R, E1, E2, E3, E4, E5, E6> supplier) throws E, E1, E2, E3, E4, E5, E6 {
+		long token = enter();
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+
+	/**
+	 * Calls the given supplier, if this guard allows it.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param <E5> the fifth type of exceptions thrown by the supplier
+	 * @param <E6> the sixth type of exceptions thrown by the supplier
+	 * @param <E7> the seventh type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if this guard rejects the call
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 * @throws E3 if the supplier throws it
+	 * @throws E4 if the supplier throws it
+	 * @throws E5 if the supplier throws it
+	 * @throws E6 if the supplier throws it
+	 * @throws E7 if the supplier throws it
+	 */
+	public final <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> R call(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, SupplierWithExceptions7<? extends R, E1, E2, E3, E4, E5, E6, E7> supplier) throws E, E1, E2, E3, E4, E5, E6, E7 {
+		long token = enter();
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+
+	/**
+	 * Applies the given function to the given argument, if this guard allows it.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param function the function
+	 * @param argument the argument passed to {@code function}
+	 * @return the result of {@code function}
+	 * @throws E if this guard rejects the call
+	 * @throws Throwable if the function throws it
+	 */
+	public final <T, R> R apply(FunctionWithExceptions<? super T, ? extends R> function, T argument) throws Throwable {
+		long token = enter();
+		R result;
+
+		try {
+			result = function.apply(argument);
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+
+	/**
+	 * Applies the given function to the given argument, if this guard allows it.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param <E1> the type of exceptions thrown by the function
+	 * @param exception the exception tag of {@code E1}
+	 * @param function the function
+	 * @param argument the argument passed to {@code function}
+	 * @return the result of {@code function}
+	 * @throws E if this guard rejects the call
+	 * @throws E1 if the function throws it
+	 */
+	public final <T, R, E1 extends Throwable> R apply(Class<E1> exception, FunctionWithExceptions1<? super T, ? extends R, E1> function, T argument) throws E, E1 {
+		long token = enter();
+		R result;
+
+		try {
+			result = function.apply(argument);
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+
+	/**
+	 * Applies the given function to the given argument, if this guard allows it.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param function the function
+	 * @param argument the argument passed to {@code function}
+	 * @return the result of {@code function}
+	 * @throws E if this guard rejects the call
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 */
+	public final <T, R, E1 extends Throwable, E2 extends Throwable> R apply(Class<E1> exception1, Class<E2> exception2, FunctionWithExceptions2<? super T, ? extends R, E1, E2> function, T argument) throws E, E1, E2 {
+		long token = enter();
+		R result;
+
+		try {
+			result = function.apply(argument);
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+
+	/**
+	 * Applies the given function to the given argument, if this guard allows it.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param function the function
+	 * @param argument the argument passed to {@code function}
+	 * @return the result of {@code function}
+	 * @throws E if this guard rejects the call
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 */
+	public final <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> R apply(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, FunctionWithExceptions3<? super T, ? extends R, E1, E2, E3> function, T argument) throws E, E1, E2, E3 {
+		long token = enter();
+		R result;
+
+		try {
+			result = function.apply(argument);
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+
+	/**
+	 * Applies the given function to the given argument, if this guard allows it.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param function the function
+	 * @param argument the argument passed to {@code function}
+	 * @return the result of {@code function}
+	 * @throws E if this guard rejects the call
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 */
+	public final <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> R apply(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, FunctionWithExceptions4<? super T, ? extends R, E1, E2, E3, E4> function, T argument) throws E, E1, E2, E3, E4 {
+		long token = enter();
+		R result;
+
+		try {
+			result = function.apply(argument);
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+
+	/**
+	 * Applies the given function to the given argument, if this guard allows it.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param <E5> the fifth type of exceptions thrown by the function
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param function the function
+	 * @param argument the argument passed to {@code function}
+	 * @return the result of {@code function}
+	 * @throws E if this guard rejects the call
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 * @throws E5 if the function throws it
+	 */
+	public final <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> R apply(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, FunctionWithExceptions5<? super T, ? extends R, E1, E2, E3, E4, E5> function, T argument) throws E, E1, E2, E3, E4, E5 {
+		long token = enter();
+		R result;
+
+		try {
+			result = function.apply(argument);
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+
+	/**
+	 * Applies the given function to the given argument, if this guard allows it.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param <E5> the fifth type of exceptions thrown by the function
+	 * @param <E6> the sixth type of exceptions thrown by the function
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param function the function
+	 * @param argument the argument passed to {@code function}
+	 * @return the result of {@code function}
+	 * @throws E if this guard rejects the call
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 * @throws E5 if the function throws it
+	 * @throws E6 if the function throws it
+	 */
+	public final <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> R apply(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, FunctionWithExceptions6<? super T, ? extends R, E1, E2, E3, E4, E5, E6> function, T argument) throws E, E1, E2, E3, E4, E5, E6 {
+		long token = enter();
+		R result;
+
+		try {
+			result = function.apply(argument);
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+
+	/**
+	 * Applies the given function to the given argument, if this guard allows it.
+	 * 
+	 * @param <T> the type of the parameter of the function
+	 * @param <R> the type of the result of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param <E5> the fifth type of exceptions thrown by the function
+	 * @param <E6> the sixth type of exceptions thrown by the function
+	 * @param <E7> the seventh type of exceptions thrown by the function
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param function the function
+	 * @param argument the argument passed to {@code function}
+	 * @return the result of {@code function}
+	 * @throws E if this guard rejects the call
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 * @throws E5 if the function throws it
+	 * @throws E6 if the function throws it
+	 * @throws E7 if the function throws it
+	 */
+	public final <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> R apply(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, FunctionWithExceptions7<? super T, ? extends R, E1, E2, E3, E4, E5, E6, E7> function, T argument) throws E, E1, E2, E3, E4, E5, E6, E7 {
+		long token = enter();
+		R result;
+
+		try {
+			result = function.apply(argument);
+		}
+		catch (Throwable t) {
+			exit(token, Exit.isSignal(t) ? null : t);
+			throw t;
+		}
+
+		exit(token, null);
+		return result;
+	}
+}
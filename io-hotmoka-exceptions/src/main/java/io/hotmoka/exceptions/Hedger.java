@@ -0,0 +1,569 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import io.hotmoka.exceptions.functions.SupplierWithExceptions;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions1;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions2;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions3;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions4;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions5;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions6;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions7;
+
+/**
+ * A hedger of suppliers with exceptions. It starts a supplier in an executor and,
+ * if that does not complete within a latency threshold, it starts a backup attempt
+ * of the same supplier, and so on, up to a maximal number of attempts. An attempt that fails
+ * causes the immediate start of the next attempt. The value of the first attempt
+ * that succeeds is returned and the other attempts are cancelled. If all attempts fail,
+ * the first failure is thrown, as {@link CheckSupplier} would throw it, with the subsequent
+ * failures attached as suppressed exceptions, up to a bound.
+ * The threshold is either fixed or a percentile of the latencies observed so far.
+ */
+public final class Hedger {
+
+	/**
+	 * The number of latencies that must be observed before a percentile threshold is used.
+	 */
+	private final static long MIN_SAMPLES = 100L;
+
+	/**
+	 * The executor of the attempts.
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * The maximal number of attempts for each call.
+	 */
+	private final int maxAttempts;
+
+	/**
+	 * The maximal number of failures attached as suppressed exceptions to the thrown failure.
+	 */
+	private final int maxSuppressed;
+
+	/**
+	 * The percentile of the observed latencies used as threshold; this is negative for a fixed threshold.
+	 */
+	private final double percentile;
+
+	/**
+	 * The latencies of the successful attempts observed so far, if the threshold is a percentile.
+	 */
+	private final LatencyHistogram latencies;
+
+	/**
+	 * The threshold, in nanoseconds. If the threshold is a percentile, this is recomputed from time to time.
+	 */
+	private volatile long thresholdNanos;
+
+	private Hedger(ExecutorService executor, int maxAttempts, Duration threshold, double percentile, int maxSuppressed) {
+		if (maxAttempts < 1)
+			throw new IllegalArgumentException("maxAttempts must be positive");
+
+		if (maxSuppressed < 0)
+			throw new IllegalArgumentException("maxSuppressed cannot be negative");
+
+		if (threshold.isNegative())
+			throw new IllegalArgumentException("The threshold cannot be negative");
+
+		this.executor = java.util.Objects.requireNonNull(executor, "executor cannot be null");
+		this.maxAttempts = maxAttempts;
+		this.maxSuppressed = maxSuppressed;
+		this.percentile = percentile;
+		this.latencies = percentile >= 0.0 ? new LatencyHistogram() : null;
+		this.thresholdNanos = threshold.toNanos();
+	}
+
+	/**
+	 * Yields a hedger with a fixed latency threshold.
+	 * 
+	 * @param executor the executor of the attempts
+	 * @param maxAttempts the maximal number of attempts for each call
+	 * @param threshold the time after which a backup attempt is started
+	 * @param maxSuppressed the maximal number of failures attached as suppressed exceptions to the thrown failure
+	 * @return the hedger
+	 */
+	public static Hedger of(ExecutorService executor, int maxAttempts, Duration threshold, int maxSuppressed) {
+		return new Hedger(executor, maxAttempts, threshold, -1.0, maxSuppressed);
+	}
+
+	/**
+	 * Yields a hedger whose latency threshold is a percentile of the latencies of the successful attempts
+	 * observed so far.
+	 * 
+	 * @param executor the executor of the attempts
+	 * @param maxAttempts the maximal number of attempts for each call
+	 * @param percentile the percentile, between 0 and 100
+	 * @param initialThreshold the threshold used until enough latencies have been observed
+	 * @param maxSuppressed the maximal number of failures attached as suppressed exceptions to the thrown failure
+	 * @return the hedger
+	 */
+	public static Hedger ofPercentile(ExecutorService executor, int maxAttempts, double percentile, Duration initialThreshold, int maxSuppressed) {
+		if (!(percentile >= 0.0 && percentile <= 100.0))
+			throw new IllegalArgumentException("The percentile must be between 0 and 100");
+
+		return new Hedger(executor, maxAttempts, initialThreshold, percentile, maxSuppressed);
+	}
+
+	/**
+	 * Calls the given supplier, hedging it with backup attempts if it is slow or fails.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param supplier the supplier
+	 * @return the value supplied by the first attempt that succeeds
+	 * @throws InterruptedException if the current thread gets interrupted while waiting for the attempts
+	 * @throws Throwable if all attempts fail, with the first failure
+	 */
+	public <R> R call(SupplierWithExceptions<? extends R> supplier) throws Throwable {
+		return hedge(supplier);
+	}
+
+	/**
+	 * Calls the given supplier, hedging it with backup attempts if it is slow or fails.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the type of exceptions thrown by the supplier
+	 * @param exception the exception tag of {@code E1}
+	 * @param supplier the supplier
+	 * @return the value supplied by the first attempt that succeeds
+	 * @throws InterruptedException if the current thread gets interrupted while waiting for the attempts
+	 * @throws E1 if all attempts fail and the first failure is of this type
+	 */
+	@SuppressWarnings("unchecked")
+	public <R, E1 extends Throwable> R call(Class<E1> exception, SupplierWithExceptions1<? extends R, E1> supplier) throws InterruptedException, E1 {
+		try {
+			return hedge(supplier::get);
+		}
+		catch (RuntimeException | Error | InterruptedException e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			if (exception.isInstance(e))
+				throw (E1) e;
+			else
+				throw new RuntimeException("Unexpected exception", e);
+		}
+	}
+
+	/**
+	 * Calls the given supplier, hedging it with backup attempts if it is slow or fails.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param supplier the supplier
+	 * @return the value supplied by the first attempt that succeeds
+	 * @throws InterruptedException if the current thread gets interrupted while waiting for the attempts
+	 * @throws E1 if all attempts fail and the first failure is of this type
+	 * @throws E2 if all attempts fail and the first failure is of this type
+	 */
+	@SuppressWarnings("unchecked")
+	public <R, E1 extends Throwable, E2 extends Throwable> R call(Class<E1> exception1, Class<E2> exception2, SupplierWithExceptions2<? extends R, E1, E2> supplier) throws InterruptedException, E1, E2 {
+		try {
+			return hedge(supplier::get);
+		}
+		catch (RuntimeException | Error | InterruptedException e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			if (exception1.isInstance(e))
+				throw (E1) e;
+			else if (exception2.isInstance(e))
+				throw (E2) e;
+			else
+				throw new RuntimeException("Unexpected exception", e);
+		}
+	}
+
+	/**
+	 * Calls the given supplier, hedging it with backup attempts if it is slow or fails.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param supplier the supplier
+	 * @return the value supplied by the first attempt that succeeds
+	 * @throws InterruptedException if the current thread gets interrupted while waiting for the attempts
+	 * @throws E1 if all attempts fail and the first failure is of this type
+	 * @throws E2 if all attempts fail and the first failure is of this type
+	 * @throws E3 if all attempts fail and the first failure is of this type
+	 */
+	@SuppressWarnings("unchecked")
+	public <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> R call(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, SupplierWithExceptions3<? extends R, E1, E2, E3> supplier) throws InterruptedException, E1, E2, E3 {
+		try {
+			return hedge(supplier::get);
+		}
+		catch (RuntimeException | Error | InterruptedException e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			if (exception1.isInstance(e))
+				throw (E1) e;
+			else if (exception2.isInstance(e))
+				throw (E2) e;
+			else if (exception3.isInstance(e))
+				throw (E3) e;
+			else
+				throw new RuntimeException("Unexpected exception", e);
+		}
+	}
+
+	/**
+	 * Calls the given supplier, hedging it with backup attempts if it is slow or fails.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param supplier the supplier
+	 * @return the value supplied by the first attempt that succeeds
+	 * @throws InterruptedException if the current thread gets interrupted while waiting for the attempts
+	 * @throws E1 if all attempts fail and the first failure is of this type
+	 * @throws E2 if all attempts fail and the first failure is of this type
+	 * @throws E3 if all attempts fail and the first failure is of this type
+	 * @throws E4 if all attempts fail and the first failure is of this type
+	 */
+	@SuppressWarnings("unchecked")
+	public <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> R call(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, SupplierWithExceptions4<? extends R, E1, E2, E3, E4> supplier) throws InterruptedException, E1, E2, E3, E4 {
+		try {
+			return hedge(supplier::get);
+		}
+		catch (RuntimeException | Error | InterruptedException e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			if (exception1.isInstance(e))
+				throw (E1) e;
+			else if (exception2.isInstance(e))
+				throw (E2) e;
+			else if (exception3.isInstance(e))
+				throw (E3) e;
+			else if (exception4.isInstance(e))
+				throw (E4) e;
+			else
+				throw new RuntimeException("Unexpected exception", e);
+		}
+	}
+
+	/**
+	 * Calls the given supplier, hedging it with backup attempts if it is slow or fails.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param <E5> the fifth type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param supplier the supplier
+	 * @return the value supplied by the first attempt that succeeds
+	 * @throws InterruptedException if the current thread gets interrupted while waiting for the attempts
+	 * @throws E1 if all attempts fail and the first failure is of this type
+	 * @throws E2 if all attempts fail and the first failure is of this type
+	 * @throws E3 if all attempts fail and the first failure is of this type
+	 * @throws E4 if all attempts fail and the first failure is of this type
+	 * @throws E5 if all attempts fail and the first failure is of this type
+	 */
+	@SuppressWarnings("unchecked")
+	public <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> R call(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, SupplierWithExceptions5<? extends R, E1, E2, E3, E4, E5> supplier) throws InterruptedException, E1, E2, E3, E4, E5 {
+		try {
+			return hedge(supplier::get);
+		}
+		catch (RuntimeException | Error | InterruptedException e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			if (exception1.isInstance(e))
+				throw (E1) e;
+			else if (exception2.isInstance(e))
+				throw (E2) e;
+			else if (exception3.isInstance(e))
+				throw (E3) e;
+			else if (exception4.isInstance(e))
+				throw (E4) e;
+			else if (exception5.isInstance(e))
+				throw (E5) e;
+			else
+				throw new RuntimeException("Unexpected exception", e);
+		}
+	}
+
+	/**
+	 * Calls the given supplier, hedging it with backup attempts if it is slow or fails.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param <E5> the fifth type of exceptions thrown by the supplier
+	 * @param <E6> the sixth type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param supplier the supplier
+	 * @return the value supplied by the first attempt that succeeds
+	 * @throws InterruptedException if the current thread gets interrupted while waiting for the attempts
+	 * @throws E1 if all attempts fail and the first failure is of this type
+	 * @throws E2 if all attempts fail and the first failure is of this type
+	 * @throws E3 if all attempts fail and the first failure is of this type
+	 * @throws E4 if all attempts fail and the first failure is of this type
+	 * @throws E5 if all attempts fail and the first failure is of this type
+	 * @throws E6 if all attempts fail and the first failure is of this type
+	 */
+	@SuppressWarnings("unchecked")
+	public <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> R call(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, SupplierWithExceptions6<? extends R, E1, E2, E3, E4, E5, E6> supplier) throws InterruptedException, E1, E2, E3, E4, E5, E6 {
+		try {
+			return hedge(supplier::get);
+		}
+		catch (RuntimeException | Error | InterruptedException e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			if (exception1.isInstance(e))
+				throw (E1) e;
+			else if (exception2.isInstance(e))
+				throw (E2) e;
+			else if (exception3.isInstance(e))
+				throw (E3) e;
+			else if (exception4.isInstance(e))
+				throw (E4) e;
+			else if (exception5.isInstance(e))
+				throw (E5) e;
+			else if (exception6.isInstance(e))
+				throw (E6) e;
+			else
+				throw new RuntimeException("Unexpected exception", e);
+		}
+	}
+
+	/**
+	 * Calls the given supplier, hedging it with backup attempts if it is slow or fails.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param <E5> the fifth type of exceptions thrown by the supplier
+	 * @param <E6> the sixth type of exceptions thrown by the supplier
+	 * @param <E7> the seventh type of exceptions thrown by the supplier
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param supplier the supplier
+	 * @return the value supplied by the first attempt that succeeds
+	 * @throws InterruptedException if the current thread gets interrupted while waiting for the attempts
+	 * @throws E1 if all attempts fail and the first failure is of this type
+	 * @throws E2 if all attempts fail and the first failure is of this type
+	 * @throws E3 if all attempts fail and the first failure is of this type
+	 * @throws E4 if all attempts fail and the first failure is of this type
+	 * @throws E5 if all attempts fail and the first failure is of this type
+	 * @throws E6 if all attempts fail and the first failure is of this type
+	 * @throws E7 if all attempts fail and the first failure is of this type
+	 */
+	@SuppressWarnings("unchecked")
+	public <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> R call(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, SupplierWithExceptions7<? extends R, E1, E2, E3, E4, E5, E6, E7> supplier) throws InterruptedException, E1, E2, E3, E4, E5, E6, E7 {
+		try {
+			return hedge(supplier::get);
+		}
+		catch (RuntimeException | Error | InterruptedException e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			if (exception1.isInstance(e))
+				throw (E1) e;
+			else if (exception2.isInstance(e))
+				throw (E2) e;
+			else if (exception3.isInstance(e))
+				throw (E3) e;
+			else if (exception4.isInstance(e))
+				throw (E4) e;
+			else if (exception5.isInstance(e))
+				throw (E5) e;
+			else if (exception6.isInstance(e))
+				throw (E6) e;
+			else if (exception7.isInstance(e))
+				throw (E7) e;
+			else
+				throw new RuntimeException("Unexpected exception", e);
+		}
+	}
+
+	private <R> R hedge(SupplierWithExceptions<? extends R> supplier) throws Throwable {
+		var race = new Race<R>(supplier);
+		long threshold = threshold();
+
+		try {
+			synchronized (race) {
+				race.launch();
+				long nextLaunch = System.nanoTime() + threshold;
+
+				while (true) {
+					if (race.succeeded)
+						return race.result;
+					else if (race.failures == race.launched) {
+						if (race.launched == maxAttempts)
+							throw race.failure;
+
+						race.launch();
+						nextLaunch = System.nanoTime() + threshold;
+					}
+					else if (race.launched < maxAttempts) {
+						long remaining = nextLaunch - System.nanoTime();
+						if (remaining > 0L)
+							TimeUnit.NANOSECONDS.timedWait(race, remaining);
+						else {
+							race.launch();
+							nextLaunch = System.nanoTime() + threshold;
+						}
+					}
+					else
+						race.wait();
+				}
+			}
+		}
+		finally {
+			race.cancel();
+		}
+	}
+
+	private long threshold() {
+		// the percentile is recomputed only once every 64 calls on average, since it requires a scan of the histogram
+		if (latencies != null && latencies.count() >= MIN_SAMPLES && ThreadLocalRandom.current().nextInt(64) == 0)
+			thresholdNanos = latencies.percentile(percentile);
+
+		return thresholdNanos;
+	}
+
+	/**
+	 * The attempts of a single call. Its fields are guarded by its monitor.
+	 * 
+	 * @param <R> the type of the supplied value
+	 */
+	private class Race<R> {
+		private final SupplierWithExceptions<? extends R> supplier;
+		private final Future<?>[] attempts = new Future<?>[maxAttempts];
+		private int launched;
+		private int failures;
+		private int suppressed;
+		private boolean succeeded;
+		private boolean cancelled;
+		private R result;
+		private Throwable failure;
+
+		private Race(SupplierWithExceptions<? extends R> supplier) {
+			this.supplier = supplier;
+		}
+
+		private void launch() {
+			attempts[launched++] = executor.submit(this::attempt);
+		}
+
+		private void attempt() {
+			long start = System.nanoTime();
+
+			try {
+				R result = supplier.get();
+				if (latencies != null)
+					latencies.record(System.nanoTime() - start);
+
+				succeed(result);
+			}
+			catch (Throwable t) {
+				fail(t);
+			}
+		}
+
+		private synchronized void succeed(R result) {
+			if (!succeeded && !cancelled) {
+				this.succeeded = true;
+				this.result = result;
+				notifyAll();
+			}
+		}
+
+		private synchronized void fail(Throwable t) {
+			if (succeeded || cancelled)
+				return;
+
+			try {
+				if (failures++ == 0)
+					failure = t;
+				else if (suppressed < maxSuppressed && !isSuppressed(t)) {
+					suppressed++;
+					failure.addSuppressed(t);
+				}
+			}
+			finally {
+				notifyAll();
+			}
+		}
+
+		/**
+		 * Determines if the given exception is already the failure of this race or among its suppressed
+		 * exceptions. This happens when attempts throw a cached or static exception, that cannot suppress itself.
+		 */
+		private boolean isSuppressed(Throwable t) {
+			if (t == failure)
+				return true;
+
+			for (var other: failure.getSuppressed())
+				if (other == t)
+					return true;
+
+			return false;
+		}
+
+		private synchronized void cancel() {
+			cancelled = true;
+
+			for (int pos = 0; pos < launched; pos++)
+				attempts[pos].cancel(true);
+		}
+	}
+}
@@ -0,0 +1,507 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * The hooks called by the library when it wraps a checked exception into an {@link UncheckedException}
+ * and when it recovers, or fails to recover, the cause of an {@link UncheckedException}.
+ * Each kind of instrumentation is enabled through a system property read once, at class initialization,
+ * into a static final field, so that disabled instrumentations cost nothing after just-in-time compilation.
+ */
+final class Instrumentation {
+
+	private final static Logger LOGGER = System.getLogger(Instrumentation.class.getName());
+
+	/**
+	 * True if and only if the counters of {@link ExceptionMetrics} are enabled.
+	 */
+	final static boolean METRICS = Boolean.getBoolean(ExceptionMetrics.ENABLED_PROPERTY);
+
+	/**
+	 * True if and only if the Flight Recorder events of {@link ExceptionEvents} are enabled.
+	 */
+	final static boolean EVENTS = Boolean.getBoolean(ExceptionEvents.ENABLED_PROPERTY) && isAvailable("jdk.jfr");
+
+	/**
+	 * True if and only if the recorder of {@link RecentExceptions} is enabled.
+	 */
+	final static boolean RECENT = Integer.getInteger(RecentExceptions.CAPACITY_PROPERTY, 0) > 0;
+
+	/**
+	 * True if and only if the {@link ExceptionJournal} is enabled.
+	 */
+	final static boolean JOURNAL = System.getProperty(ExceptionJournal.PATH_PROPERTY) != null;
+
+	/**
+	 * The listeners installed through the {@link ServiceLoader} mechanism.
+	 */
+	private final static ExceptionListener[] LISTENERS = loadListeners();
+
+	/**
+	 * True if and only if at least a listener is installed.
+	 */
+	private final static boolean LISTENING = LISTENERS.length > 0;
+
+	/**
+	 * True if and only if at least an instrumentation is enabled. If false, the hooks
+	 * do not even allocate the array of the exception types.
+	 */
+	private final static boolean ENABLED = METRICS || EVENTS || RECENT || JOURNAL || LISTENING;
+
+	/**
+	 * The exception types of a cause wrapped without knowing the types declared by the function that threw it.
+	 */
+	private final static Class<?>[] NO_TARGETS = new Class<?>[0];
+
+	private Instrumentation() {}
+
+	/**
+	 * Called when a cause gets wrapped into an {@link UncheckedException}.
+	 * 
+	 * @param cause the cause
+	 */
+	static void wrapped(Throwable cause) {
+		if (ENABLED)
+			wrapped(cause, NO_TARGETS);
+	}
+
+	/**
+	 * Called when a cause gets wrapped into an {@link UncheckedException} by an adapter
+	 * of a function with exceptions, such as those of {@link UncheckFunction}.
+	 * 
+	 * @param cause the cause
+	 * @param target1 the exception type declared by the function that threw {@code cause}
+	 */
+	static void wrapped(Throwable cause, Class<?> target1) {
+		if (ENABLED)
+			wrapped(cause, new Class<?>[] { target1 });
+	}
+
+	/**
+	 * Called when a cause gets wrapped into an {@link UncheckedException} by an adapter
+	 * of a function with exceptions, such as those of {@link UncheckFunction}.
+	 * 
+	 * @param cause the cause
+	 * @param target1 the first exception type declared by the function that threw {@code cause}
+	 * @param target2 the second exception type declared by the function that threw {@code cause}
+	 */
+	static void wrapped(Throwable cause, Class<?> target1, Class<?> target2) {
+		if (ENABLED)
+			wrapped(cause, new Class<?>[] { target1, target2 });
+	}
+
+	/**
+	 * Called when a cause gets wrapped into an {@link UncheckedException} by an adapter
+	 * of a function with exceptions, such as those of {@link UncheckFunction}.
+	 * 
+	 * @param cause the cause
+	 * @param target1 the first exception type declared by the function that threw {@code cause}
+	 * @param target2 the second exception type declared by the function that threw {@code cause}
+	 * @param target3 the third exception type declared by the function that threw {@code cause}
+	 */
+	static void wrapped(Throwable cause, Class<?> target1, Class<?> target2, Class<?> target3) {
+		if (ENABLED)
+			wrapped(cause, new Class<?>[] { target1, target2, target3 });
+	}
+
+	/**
+	 * Called when a cause gets wrapped into an {@link UncheckedException} by an adapter
+	 * of a function with exceptions, such as those of {@link UncheckFunction}.
+	 * 
+	 * @param cause the cause
+	 * @param target1 the first exception type declared by the function that threw {@code cause}
+	 * @param target2 the second exception type declared by the function that threw {@code cause}
+	 * @param target3 the third exception type declared by the function that threw {@code cause}
+	 * @param target4 the fourth exception type declared by the function that threw {@code cause}
+	 */
+	static void wrapped(Throwable cause, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4) {
+		if (ENABLED)
+			wrapped(cause, new Class<?>[] { target1, target2, target3, target4 });
+	}
+
+	/**
+	 * Called when a cause gets wrapped into an {@link UncheckedException} by an adapter
+	 * of a function with exceptions, such as those of {@link UncheckFunction}.
+	 * 
+	 * @param cause the cause
+	 * @param target1 the first exception type declared by the function that threw {@code cause}
+	 * @param target2 the second exception type declared by the function that threw {@code cause}
+	 * @param target3 the third exception type declared by the function that threw {@code cause}
+	 * @param target4 the fourth exception type declared by the function that threw {@code cause}
+	 * @param target5 the fifth exception type declared by the function that threw {@code cause}
+	 */
+	static void wrapped(Throwable cause, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4, Class<?> target5) {
+		if (ENABLED)
+			wrapped(cause, new Class<?>[] { target1, target2, target3, target4, target5 });
+	}
+
+	/**
+	 * Called when a cause gets wrapped into an {@link UncheckedException} by an adapter
+	 * of a function with exceptions, such as those of {@link UncheckFunction}.
+	 * 
+	 * @param cause the cause
+	 * @param target1 the first exception type declared by the function that threw {@code cause}
+	 * @param target2 the second exception type declared by the function that threw {@code cause}
+	 * @param target3 the third exception type declared by the function that threw {@code cause}
+	 * @param target4 the fourth exception type declared by the function that threw {@code cause}
+	 * @param target5 the fifth exception type declared by the function that threw {@code cause}
+	 * @param target6 the sixth exception type declared by the function that threw {@code cause}
+	 */
+	static void wrapped(Throwable cause, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4, Class<?> target5, Class<?> target6) {
+		if (ENABLED)
+			wrapped(cause, new Class<?>[] { target1, target2, target3, target4, target5, target6 });
+	}
+
+	/**
+	 * Called when a cause gets wrapped into an {@link UncheckedException} by an adapter
+	 * of a function with exceptions, such as those of {@link UncheckFunction}.
+	 * 
+	 * @param cause the cause
+	 * @param target1 the first exception type declared by the function that threw {@code cause}
+	 * @param target2 the second exception type declared by the function that threw {@code cause}
+	 * @param target3 the third exception type declared by the function that threw {@code cause}
+	 * @param target4 the fourth exception type declared by the function that threw {@code cause}
+	 * @param target5 the fifth exception type declared by the function that threw {@code cause}
+	 * @param target6 the sixth exception type declared by the function that threw {@code cause}
+	 * @param target7 the seventh exception type declared by the function that threw {@code cause}
+	 */
+	static void wrapped(Throwable cause, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4, Class<?> target5, Class<?> target6, Class<?> target7) {
+		if (ENABLED)
+			wrapped(cause, new Class<?>[] { target1, target2, target3, target4, target5, target6, target7 });
+	}
+
+	private static void wrapped(Throwable cause, Class<?>[] targets) {
+		if (METRICS)
+			ExceptionMetrics.wrapped(cause);
+
+		if (EVENTS)
+			ExceptionEvents.wrapped(cause, targets);
+
+		if (RECENT)
+			RecentExceptions.record(RecentExceptions.Kind.WRAPPED, cause);
+
+		if (JOURNAL)
+			ExceptionJournal.record(RecentExceptions.Kind.WRAPPED, cause);
+
+		if (LISTENING)
+			for (var listener: LISTENERS)
+				try {
+					listener.onWrapped(cause);
+				}
+				catch (RuntimeException e) {
+					// exceptions thrown by the listeners are ignored
+				}
+	}
+
+	/**
+	 * Called when a check method recovers the cause of an {@link UncheckedException}.
+	 * 
+	 * @param cause the cause
+	 * @param target1 the exception type that the check method was asked to recover
+	 * @return {@code cause} itself
+	 */
+	static Throwable recovered(Throwable cause, Class<?> target1) {
+		return ENABLED ? recovered(cause, new Class<?>[] { target1 }) : cause;
+	}
+
+	/**
+	 * Called when a check method recovers the cause of an {@link UncheckedException}.
+	 * 
+	 * @param cause the cause
+	 * @param target1 the first exception type that the check method was asked to recover
+	 * @param target2 the second exception type that the check method was asked to recover
+	 * @return {@code cause} itself
+	 */
+	static Throwable recovered(Throwable cause, Class<?> target1, Class<?> target2) {
+		return ENABLED ? recovered(cause, new Class<?>[] { target1, target2 }) : cause;
+	}
+
+	/**
+	 * Called when a check method recovers the cause of an {@link UncheckedException}.
+	 * 
+	 * @param cause the cause
+	 * @param target1 the first exception type that the check method was asked to recover
+	 * @param target2 the second exception type that the check method was asked to recover
+	 * @param target3 the third exception type that the check method was asked to recover
+	 * @return {@code cause} itself
+	 */
+	static Throwable recovered(Throwable cause, Class<?> target1, Class<?> target2, Class<?> target3) {
+		return ENABLED ? recovered(cause, new Class<?>[] { target1, target2, target3 }) : cause;
+	}
+
+	/**
+	 * Called when a check method recovers the cause of an {@link UncheckedException}.
+	 * 
+	 * @param cause the cause
+	 * @param target1 the first exception type that the check method was asked to recover
+	 * @param target2 the second exception type that the check method was asked to recover
+	 * @param target3 the third exception type that the check method was asked to recover
+	 * @param target4 the fourth exception type that the check method was asked to recover
+	 * @return {@code cause} itself
+	 */
+	static Throwable recovered(Throwable cause, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4) {
+		return ENABLED ? recovered(cause, new Class<?>[] { target1, target2, target3, target4 }) : cause;
+	}
+
+	/**
+	 * Called when a check method recovers the cause of an {@link UncheckedException}.
+	 * 
+	 * @param cause the cause
+	 * @param target1 the first exception type that the check method was asked to recover
+	 * @param target2 the second exception type that the check method was asked to recover
+	 * @param target3 the third exception type that the check method was asked to recover
+	 * @param target4 the fourth exception type that the check method was asked to recover
+	 * @param target5 the fifth exception type that the check method was asked to recover
+	 * @return {@code cause} itself
+	 */
+	static Throwable recovered(Throwable cause, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4, Class<?> target5) {
+		return ENABLED ? recovered(cause, new Class<?>[] { target1, target2, target3, target4, target5 }) : cause;
+	}
+
+	/**
+	 * Called when a check method recovers the cause of an {@link UncheckedException}.
+	 * 
+	 * @param cause the cause
+	 * @param target1 the first exception type that the check method was asked to recover
+	 * @param target2 the second exception type that the check method was asked to recover
+	 * @param target3 the third exception type that the check method was asked to recover
+	 * @param target4 the fourth exception type that the check method was asked to recover
+	 * @param target5 the fifth exception type that the check method was asked to recover
+	 * @param target6 the sixth exception type that the check method was asked to recover
+	 * @return {@code cause} itself
+	 */
+	static Throwable recovered(Throwable cause, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4, Class<?> target5, Class<?> target6) {
+		return ENABLED ? recovered(cause, new Class<?>[] { target1, target2, target3, target4, target5, target6 }) : cause;
+	}
+
+	/**
+	 * Called when a check method recovers the cause of an {@link UncheckedException}.
+	 * 
+	 * @param cause the cause
+	 * @param target1 the first exception type that the check method was asked to recover
+	 * @param target2 the second exception type that the check method was asked to recover
+	 * @param target3 the third exception type that the check method was asked to recover
+	 * @param target4 the fourth exception type that the check method was asked to recover
+	 * @param target5 the fifth exception type that the check method was asked to recover
+	 * @param target6 the sixth exception type that the check method was asked to recover
+	 * @param target7 the seventh exception type that the check method was asked to recover
+	 * @return {@code cause} itself
+	 */
+	static Throwable recovered(Throwable cause, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4, Class<?> target5, Class<?> target6, Class<?> target7) {
+		return ENABLED ? recovered(cause, new Class<?>[] { target1, target2, target3, target4, target5, target6, target7 }) : cause;
+	}
+
+	private static Throwable recovered(Throwable cause, Class<?>[] targets) {
+		if (METRICS)
+			ExceptionMetrics.recovered(cause);
+
+		if (EVENTS)
+			ExceptionEvents.checked(cause, targets, false);
+
+		if (RECENT)
+			RecentExceptions.record(RecentExceptions.Kind.RECOVERED, cause);
+
+		if (JOURNAL)
+			ExceptionJournal.record(RecentExceptions.Kind.RECOVERED, cause);
+
+		if (LISTENING) {
+			var list = List.of(targets);
+			for (var listener: LISTENERS)
+				try {
+					listener.onRecovered(cause, list);
+				}
+				catch (RuntimeException e) {
+					// exceptions thrown by the listeners are ignored
+				}
+		}
+
+		return cause;
+	}
+
+	/**
+	 * Called when a check method rethrows an {@link UncheckedException} whose cause
+	 * is none of the exceptions that it was asked to recover.
+	 * 
+	 * @param exception the rethrown exception
+	 * @param target1 the exception type that the check method was asked to recover
+	 * @return {@code exception} itself
+	 */
+	static UncheckedException escaped(UncheckedException exception, Class<?> target1) {
+		return ENABLED ? escaped(exception, new Class<?>[] { target1 }) : exception;
+	}
+
+	/**
+	 * Called when a check method rethrows an {@link UncheckedException} whose cause
+	 * is none of the exceptions that it was asked to recover.
+	 * 
+	 * @param exception the rethrown exception
+	 * @param target1 the first exception type that the check method was asked to recover
+	 * @param target2 the second exception type that the check method was asked to recover
+	 * @return {@code exception} itself
+	 */
+	static UncheckedException escaped(UncheckedException exception, Class<?> target1, Class<?> target2) {
+		return ENABLED ? escaped(exception, new Class<?>[] { target1, target2 }) : exception;
+	}
+
+	/**
+	 * Called when a check method rethrows an {@link UncheckedException} whose cause
+	 * is none of the exceptions that it was asked to recover.
+	 * 
+	 * @param exception the rethrown exception
+	 * @param target1 the first exception type that the check method was asked to recover
+	 * @param target2 the second exception type that the check method was asked to recover
+	 * @param target3 the third exception type that the check method was asked to recover
+	 * @return {@code exception} itself
+	 */
+	static UncheckedException escaped(UncheckedException exception, Class<?> target1, Class<?> target2, Class<?> target3) {
+		return ENABLED ? escaped(exception, new Class<?>[] { target1, target2, target3 }) : exception;
+	}
+
+	/**
+	 * Called when a check method rethrows an {@link UncheckedException} whose cause
+	 * is none of the exceptions that it was asked to recover.
+	 * 
+	 * @param exception the rethrown exception
+	 * @param target1 the first exception type that the check method was asked to recover
+	 * @param target2 the second exception type that the check method was asked to recover
+	 * @param target3 the third exception type that the check method was asked to recover
+	 * @param target4 the fourth exception type that the check method was asked to recover
+	 * @return {@code exception} itself
+	 */
+	static UncheckedException escaped(UncheckedException exception, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4) {
+		return ENABLED ? escaped(exception, new Class<?>[] { target1, target2, target3, target4 }) : exception;
+	}
+
+	/**
+	 * Called when a check method rethrows an {@link UncheckedException} whose cause
+	 * is none of the exceptions that it was asked to recover.
+	 * 
+	 * @param exception the rethrown exception
+	 * @param target1 the first exception type that the check method was asked to recover
+	 * @param target2 the second exception type that the check method was asked to recover
+	 * @param target3 the third exception type that the check method was asked to recover
+	 * @param target4 the fourth exception type that the check method was asked to recover
+	 * @param target5 the fifth exception type that the check method was asked to recover
+	 * @return {@code exception} itself
+	 */
+	static UncheckedException escaped(UncheckedException exception, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4, Class<?> target5) {
+		return ENABLED ? escaped(exception, new Class<?>[] { target1, target2, target3, target4, target5 }) : exception;
+	}
+
+	/**
+	 * Called when a check method rethrows an {@link UncheckedException} whose cause
+	 * is none of the exceptions that it was asked to recover.
+	 * 
+	 * @param exception the rethrown exception
+	 * @param target1 the first exception type that the check method was asked to recover
+	 * @param target2 the second exception type that the check method was asked to recover
+	 * @param target3 the third exception type that the check method was asked to recover
+	 * @param target4 the fourth exception type that the check method was asked to recover
+	 * @param target5 the fifth exception type that the check method was asked to recover
+	 * @param target6 the sixth exception type that the check method was asked to recover
+	 * @return {@code exception} itself
+	 */
+	static UncheckedException escaped(UncheckedException exception, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4, Class<?> target5, Class<?> target6) {
+		return ENABLED ? escaped(exception, new Class<?>[] { target1, target2, target3, target4, target5, target6 }) : exception;
+	}
+
+	/**
+	 * Called when a check method rethrows an {@link UncheckedException} whose cause
+	 * is none of the exceptions that it was asked to recover.
+	 * 
+	 * @param exception the rethrown exception
+	 * @param target1 the first exception type that the check method was asked to recover
+	 * @param target2 the second exception type that the check method was asked to recover
+	 * @param target3 the third exception type that the check method was asked to recover
+	 * @param target4 the fourth exception type that the check method was asked to recover
+	 * @param target5 the fifth exception type that the check method was asked to recover
+	 * @param target6 the sixth exception type that the check method was asked to recover
+	 * @param target7 the seventh exception type that the check method was asked to recover
+	 * @return {@code exception} itself
+	 */
+	static UncheckedException escaped(UncheckedException exception, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4, Class<?> target5, Class<?> target6, Class<?> target7) {
+		return ENABLED ? escaped(exception, new Class<?>[] { target1, target2, target3, target4, target5, target6, target7 }) : exception;
+	}
+
+	private static UncheckedException escaped(UncheckedException exception, Class<?>[] targets) {
+		if (METRICS)
+			ExceptionMetrics.escaped(exception);
+
+		if (EVENTS)
+			ExceptionEvents.checked(exception.getCause(), targets, true);
+
+		if (RECENT)
+			RecentExceptions.record(RecentExceptions.Kind.ESCAPED, exception.getCause());
+
+		if (JOURNAL)
+			ExceptionJournal.record(RecentExceptions.Kind.ESCAPED, exception.getCause());
+
+		if (LISTENING) {
+			var list = List.of(targets);
+			for (var listener: LISTENERS)
+				try {
+					listener.onEscaped(exception, list);
+				}
+				catch (RuntimeException e) {
+					// exceptions thrown by the listeners are ignored
+				}
+		}
+
+		return exception;
+	}
+
+	/**
+	 * Determines if the given module is available at run time. Since this module only requires it
+	 * statically, this module is made to read it, if it is available but not yet read.
+	 * 
+	 * @param name the name of the module
+	 * @return true if and only if the module is available
+	 */
+	static boolean isAvailable(String name) {
+		var module = ModuleLayer.boot().findModule(name);
+		module.ifPresent(Instrumentation.class.getModule()::addReads);
+		return module.isPresent();
+	}
+
+	private static ExceptionListener[] loadListeners() {
+		var listeners = new ArrayList<ExceptionListener>();
+
+		// a broken provider must not prevent the use of the library
+		try {
+			ServiceLoader.load(ExceptionListener.class).stream().forEach(provider -> {
+				try {
+					listeners.add(provider.get());
+				}
+				catch (ServiceConfigurationError e) {
+					LOGGER.log(Level.WARNING, "Cannot instantiate an exception listener", e);
+				}
+			});
+		}
+		catch (ServiceConfigurationError e) {
+			LOGGER.log(Level.WARNING, "Cannot load the exception listeners", e);
+		}
+
+		return listeners.toArray(ExceptionListener[]::new);
+	}
+}
\ No newline at end of file
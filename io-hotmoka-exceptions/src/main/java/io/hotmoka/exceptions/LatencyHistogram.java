@@ -0,0 +1,133 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies, in nanoseconds. It uses a fixed amount of memory,
+ * by splitting each power of two into 16 linear sub-buckets, hence with a relative
+ * error of at most 1/16. Recording is lock-free and does not allocate,
+ * nor does the computation of the percentiles.
+ */
+public final class LatencyHistogram {
+
+	/**
+	 * The number of bits of the sub-buckets of each power of two.
+	 */
+	private final static int SUB_BITS = 4;
+
+	/**
+	 * The number of sub-buckets of each power of two.
+	 */
+	private final static int SUB_BUCKETS = 1 << SUB_BITS;
+
+	/**
+	 * The counters of the buckets.
+	 */
+	private final AtomicLongArray counts = new AtomicLongArray((64 - SUB_BITS) * SUB_BUCKETS);
+
+	/**
+	 * The total number of recorded latencies.
+	 */
+	private final LongAdder total = new LongAdder();
+
+	/**
+	 * Creates an empty histogram.
+	 */
+	public LatencyHistogram() {}
+
+	/**
+	 * Records a latency.
+	 * 
+	 * @param nanos the latency, in nanoseconds; negative values are recorded as zero
+	 */
+	public void record(long nanos) {
+		counts.incrementAndGet(indexOf(Math.max(0L, nanos)));
+		total.increment();
+	}
+
+	/**
+	 * Yields the number of recorded latencies.
+	 * 
+	 * @return the number of recorded latencies
+	 */
+	public long count() {
+		return total.sum();
+	}
+
+	/**
+	 * Yields an approximation of the given percentile of the recorded latencies.
+	 * 
+	 * @param percentile the percentile, between 0 and 100
+	 * @return the percentile, in nanoseconds; this is 0 if no latency has been recorded
+	 * @throws IllegalArgumentException if {@code percentile} is not between 0 and 100
+	 */
+	public long percentile(double percentile) {
+		if (percentile < 0.0 || percentile > 100.0)
+			throw new IllegalArgumentException("The percentile must be between 0 and 100");
+
+		long total = 0L;
+		for (int pos = 0; pos < counts.length(); pos++)
+			total += counts.get(pos);
+
+		long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * total));
+		long seen = 0L;
+		for (int pos = 0; pos < counts.length(); pos++) {
+			seen += counts.get(pos);
+			if (seen >= rank)
+				return highestOf(pos);
+		}
+
+		return 0L;
+	}
+
+	/**
+	 * Forgets all recorded latencies.
+	 */
+	public void clear() {
+		for (int pos = 0; pos < counts.length(); pos++)
+			counts.set(pos, 0L);
+
+		total.reset();
+	}
+
+	@Override
+	public String toString() {
+		return "count = " + count() + ", p50 = " + percentile(50.0) + "ns, p90 = " + percentile(90.0) + "ns, p99 = " + percentile(99.0) + "ns";
+	}
+
+	private static int indexOf(long value) {
+		if (value < SUB_BUCKETS)
+			return (int) value;
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	private static long highestOf(int index) {
+		if (index < SUB_BUCKETS)
+			return index;
+
+		int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+		long sub = index % SUB_BUCKETS;
+		long width = 1L << (exponent - SUB_BITS);
+		return ((SUB_BUCKETS + sub) << (exponent - SUB_BITS)) + width - 1;
+	}
+}
\ No newline at end of file
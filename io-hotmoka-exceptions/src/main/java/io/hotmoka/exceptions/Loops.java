@@ -0,0 +1,1171 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions;
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions1;
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions2;
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions3;
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions4;
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions5;
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions6;
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions7;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions1;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions2;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions3;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions4;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions5;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions6;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions7;
+import io.hotmoka.exceptions.functions.IntConsumerWithExceptions;
+import io.hotmoka.exceptions.functions.IntConsumerWithExceptions1;
+import io.hotmoka.exceptions.functions.IntConsumerWithExceptions2;
+import io.hotmoka.exceptions.functions.IntConsumerWithExceptions3;
+import io.hotmoka.exceptions.functions.IntConsumerWithExceptions4;
+import io.hotmoka.exceptions.functions.IntConsumerWithExceptions5;
+import io.hotmoka.exceptions.functions.IntConsumerWithExceptions6;
+import io.hotmoka.exceptions.functions.IntConsumerWithExceptions7;
+
+/**
+ * Methods that loop over arrays, lists and ranges of integers with a body that might throw exceptions.
+ * They use plain indexed loops whenever possible and declare the exceptions of the body directly,
+ * hence they create no stream, no iterator for arrays and lists with random access,
+ * and no {@link UncheckedException}.
+ */
+public abstract class Loops {
+
+	private Loops() {}
+
+	/**
+	 * Applies the given consumer to each element of the given array, in order, with an indexed loop.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param array the array
+	 * @param consumer the consumer
+	 * @throws Throwable if the consumer throws it
+	 */
+	public static <T> void forEach(T[] array, ConsumerWithExceptions<? super T> consumer) throws Throwable {
+		for (int pos = 0; pos < array.length; pos++)
+			consumer.accept(array[pos]);
+	}
+
+	/**
+	 * Applies the given consumer to each element of the given array, in order, with an indexed loop.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param <E1> the type of exceptions thrown by the consumer
+	 * @param array the array
+	 * @param exception the exception tag of {@code E1}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 */
+	public static <T, E1 extends Throwable> void forEach(T[] array, Class<E1> exception, ConsumerWithExceptions1<? super T, E1> consumer) throws E1 {
+		for (int pos = 0; pos < array.length; pos++)
+			consumer.accept(array[pos]);
+	}
+
+	/**
+	 * Applies the given consumer to each element of the given array, in order, with an indexed loop.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param array the array
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable> void forEach(T[] array, Class<E1> exception1, Class<E2> exception2, ConsumerWithExceptions2<? super T, E1, E2> consumer) throws E1, E2 {
+		for (int pos = 0; pos < array.length; pos++)
+			consumer.accept(array[pos]);
+	}
+
+	/**
+	 * Applies the given consumer to each element of the given array, in order, with an indexed loop.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param array the array
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 * @throws E3 if the consumer throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> void forEach(T[] array, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, ConsumerWithExceptions3<? super T, E1, E2, E3> consumer) throws E1, E2, E3 {
+		for (int pos = 0; pos < array.length; pos++)
+			consumer.accept(array[pos]);
+	}
+
+	/**
+	 * Applies the given consumer to each element of the given array, in order, with an indexed loop.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param array the array
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 * @throws E3 if the consumer throws it
+	 * @throws E4 if the consumer throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> void forEach(T[] array, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, ConsumerWithExceptions4<? super T, E1, E2, E3, E4> consumer) throws E1, E2, E3, E4 {
+		for (int pos = 0; pos < array.length; pos++)
+			consumer.accept(array[pos]);
+	}
+
+	/**
+	 * Applies the given consumer to each element of the given array, in order, with an indexed loop.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param <E5> the fifth type of exceptions thrown by the consumer
+	 * @param array the array
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 * @throws E3 if the consumer throws it
+	 * @throws E4 if the consumer throws it
+	 * @throws E5 if the consumer throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> void forEach(T[] array, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, ConsumerWithExceptions5<? super T, E1, E2, E3, E4, E5> consumer) throws E1, E2, E3, E4, E5 {
+		for (int pos = 0; pos < array.length; pos++)
+			consumer.accept(array[pos]);
+	}
+
+	/**
+	 * Applies the given consumer to each element of the given array, in order, with an indexed loop.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param <E5> the fifth type of exceptions thrown by the consumer
+	 * @param <E6> the sixth type of exceptions thrown by the consumer
+	 * @param array the array
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 * @throws E3 if the consumer throws it
+	 * @throws E4 if the consumer throws it
+	 * @throws E5 if the consumer throws it
+	 * @throws E6 if the consumer throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> void forEach(T[] array, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, ConsumerWithExceptions6<? super T, E1, E2, E3, E4, E5, E6> consumer) throws E1, E2, E3, E4, E5, E6 {
+		for (int pos = 0; pos < array.length; pos++)
+			consumer.accept(array[pos]);
+	}
+
+	/**
+	 * Applies the given consumer to each element of the given array, in order, with an indexed loop.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param <E5> the fifth type of exceptions thrown by the consumer
+	 * @param <E6> the sixth type of exceptions thrown by the consumer
+	 * @param <E7> the seventh type of exceptions thrown by the consumer
+	 * @param array the array
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 * @throws E3 if the consumer throws it
+	 * @throws E4 if the consumer throws it
+	 * @throws E5 if the consumer throws it
+	 * @throws E6 if the consumer throws it
+	 * @throws E7 if the consumer throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> void forEach(T[] array, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, ConsumerWithExceptions7<? super T, E1, E2, E3, E4, E5, E6, E7> consumer) throws E1, E2, E3, E4, E5, E6, E7 {
+		for (int pos = 0; pos < array.length; pos++)
+			consumer.accept(array[pos]);
+	}
+
+	/**
+	 * Applies the given consumer to each element of the given list, in order. Lists with random access
+	 * are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param list the list
+	 * @param consumer the consumer
+	 * @throws Throwable if the consumer throws it
+	 */
+	public static <T> void forEach(List<? extends T> list, ConsumerWithExceptions<? super T> consumer) throws Throwable {
+		if (list instanceof RandomAccess) {
+			for (int pos = 0, size = list.size(); pos < size; pos++)
+				consumer.accept(list.get(pos));
+		}
+		else
+			for (T t: list)
+				consumer.accept(t);
+	}
+
+	/**
+	 * Applies the given consumer to each element of the given list, in order. Lists with random access
+	 * are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <E1> the type of exceptions thrown by the consumer
+	 * @param list the list
+	 * @param exception the exception tag of {@code E1}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 */
+	public static <T, E1 extends Throwable> void forEach(List<? extends T> list, Class<E1> exception, ConsumerWithExceptions1<? super T, E1> consumer) throws E1 {
+		if (list instanceof RandomAccess) {
+			for (int pos = 0, size = list.size(); pos < size; pos++)
+				consumer.accept(list.get(pos));
+		}
+		else
+			for (T t: list)
+				consumer.accept(t);
+	}
+
+	/**
+	 * Applies the given consumer to each element of the given list, in order. Lists with random access
+	 * are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable> void forEach(List<? extends T> list, Class<E1> exception1, Class<E2> exception2, ConsumerWithExceptions2<? super T, E1, E2> consumer) throws E1, E2 {
+		if (list instanceof RandomAccess) {
+			for (int pos = 0, size = list.size(); pos < size; pos++)
+				consumer.accept(list.get(pos));
+		}
+		else
+			for (T t: list)
+				consumer.accept(t);
+	}
+
+	/**
+	 * Applies the given consumer to each element of the given list, in order. Lists with random access
+	 * are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 * @throws E3 if the consumer throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> void forEach(List<? extends T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, ConsumerWithExceptions3<? super T, E1, E2, E3> consumer) throws E1, E2, E3 {
+		if (list instanceof RandomAccess) {
+			for (int pos = 0, size = list.size(); pos < size; pos++)
+				consumer.accept(list.get(pos));
+		}
+		else
+			for (T t: list)
+				consumer.accept(t);
+	}
+
+	/**
+	 * Applies the given consumer to each element of the given list, in order. Lists with random access
+	 * are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 * @throws E3 if the consumer throws it
+	 * @throws E4 if the consumer throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> void forEach(List<? extends T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, ConsumerWithExceptions4<? super T, E1, E2, E3, E4> consumer) throws E1, E2, E3, E4 {
+		if (list instanceof RandomAccess) {
+			for (int pos = 0, size = list.size(); pos < size; pos++)
+				consumer.accept(list.get(pos));
+		}
+		else
+			for (T t: list)
+				consumer.accept(t);
+	}
+
+	/**
+	 * Applies the given consumer to each element of the given list, in order. Lists with random access
+	 * are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param <E5> the fifth type of exceptions thrown by the consumer
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 * @throws E3 if the consumer throws it
+	 * @throws E4 if the consumer throws it
+	 * @throws E5 if the consumer throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> void forEach(List<? extends T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, ConsumerWithExceptions5<? super T, E1, E2, E3, E4, E5> consumer) throws E1, E2, E3, E4, E5 {
+		if (list instanceof RandomAccess) {
+			for (int pos = 0, size = list.size(); pos < size; pos++)
+				consumer.accept(list.get(pos));
+		}
+		else
+			for (T t: list)
+				consumer.accept(t);
+	}
+
+	/**
+	 * Applies the given consumer to each element of the given list, in order. Lists with random access
+	 * are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param <E5> the fifth type of exceptions thrown by the consumer
+	 * @param <E6> the sixth type of exceptions thrown by the consumer
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 * @throws E3 if the consumer throws it
+	 * @throws E4 if the consumer throws it
+	 * @throws E5 if the consumer throws it
+	 * @throws E6 if the consumer throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> void forEach(List<? extends T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, ConsumerWithExceptions6<? super T, E1, E2, E3, E4, E5, E6> consumer) throws E1, E2, E3, E4, E5, E6 {
+		if (list instanceof RandomAccess) {
+			for (int pos = 0, size = list.size(); pos < size; pos++)
+				consumer.accept(list.get(pos));
+		}
+		else
+			for (T t: list)
+				consumer.accept(t);
+	}
+
+	/**
+	 * Applies the given consumer to each element of the given list, in order. Lists with random access
+	 * are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param <E5> the fifth type of exceptions thrown by the consumer
+	 * @param <E6> the sixth type of exceptions thrown by the consumer
+	 * @param <E7> the seventh type of exceptions thrown by the consumer
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 * @throws E3 if the consumer throws it
+	 * @throws E4 if the consumer throws it
+	 * @throws E5 if the consumer throws it
+	 * @throws E6 if the consumer throws it
+	 * @throws E7 if the consumer throws it
+	 */
+	public static <T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> void forEach(List<? extends T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, ConsumerWithExceptions7<? super T, E1, E2, E3, E4, E5, E6, E7> consumer) throws E1, E2, E3, E4, E5, E6, E7 {
+		if (list instanceof RandomAccess) {
+			for (int pos = 0, size = list.size(); pos < size; pos++)
+				consumer.accept(list.get(pos));
+		}
+		else
+			for (T t: list)
+				consumer.accept(t);
+	}
+
+	/**
+	 * Applies the given consumer to each integer from {@code from} (inclusive) to {@code to} (exclusive), in increasing order.
+	 * 
+	 * @param from the first integer (inclusive)
+	 * @param to the last integer (exclusive)
+	 * @param consumer the consumer
+	 * @throws Throwable if the consumer throws it
+	 */
+	public static void forEach(int from, int to, IntConsumerWithExceptions consumer) throws Throwable {
+		for (int i = from; i < to; i++)
+			consumer.accept(i);
+	}
+
+	/**
+	 * Applies the given consumer to each integer from {@code from} (inclusive) to {@code to} (exclusive), in increasing order.
+	 * 
+	 * @param <E1> the type of exceptions thrown by the consumer
+	 * @param from the first integer (inclusive)
+	 * @param to the last integer (exclusive)
+	 * @param exception the exception tag of {@code E1}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 */
+	public static <E1 extends Throwable> void forEach(int from, int to, Class<E1> exception, IntConsumerWithExceptions1<E1> consumer) throws E1 {
+		for (int i = from; i < to; i++)
+			consumer.accept(i);
+	}
+
+	/**
+	 * Applies the given consumer to each integer from {@code from} (inclusive) to {@code to} (exclusive), in increasing order.
+	 * 
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param from the first integer (inclusive)
+	 * @param to the last integer (exclusive)
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 */
+	public static <E1 extends Throwable, E2 extends Throwable> void forEach(int from, int to, Class<E1> exception1, Class<E2> exception2, IntConsumerWithExceptions2<E1, E2> consumer) throws E1, E2 {
+		for (int i = from; i < to; i++)
+			consumer.accept(i);
+	}
+
+	/**
+	 * Applies the given consumer to each integer from {@code from} (inclusive) to {@code to} (exclusive), in increasing order.
+	 * 
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param from the first integer (inclusive)
+	 * @param to the last integer (exclusive)
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 * @throws E3 if the consumer throws it
+	 */
+	public static <E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> void forEach(int from, int to, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, IntConsumerWithExceptions3<E1, E2, E3> consumer) throws E1, E2, E3 {
+		for (int i = from; i < to; i++)
+			consumer.accept(i);
+	}
+
+	/**
+	 * Applies the given consumer to each integer from {@code from} (inclusive) to {@code to} (exclusive), in increasing order.
+	 * 
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param from the first integer (inclusive)
+	 * @param to the last integer (exclusive)
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 * @throws E3 if the consumer throws it
+	 * @throws E4 if the consumer throws it
+	 */
+	public static <E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> void forEach(int from, int to, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, IntConsumerWithExceptions4<E1, E2, E3, E4> consumer) throws E1, E2, E3, E4 {
+		for (int i = from; i < to; i++)
+			consumer.accept(i);
+	}
+
+	/**
+	 * Applies the given consumer to each integer from {@code from} (inclusive) to {@code to} (exclusive), in increasing order.
+	 * 
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param <E5> the fifth type of exceptions thrown by the consumer
+	 * @param from the first integer (inclusive)
+	 * @param to the last integer (exclusive)
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 * @throws E3 if the consumer throws it
+	 * @throws E4 if the consumer throws it
+	 * @throws E5 if the consumer throws it
+	 */
+	public static <E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> void forEach(int from, int to, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, IntConsumerWithExceptions5<E1, E2, E3, E4, E5> consumer) throws E1, E2, E3, E4, E5 {
+		for (int i = from; i < to; i++)
+			consumer.accept(i);
+	}
+
+	/**
+	 * Applies the given consumer to each integer from {@code from} (inclusive) to {@code to} (exclusive), in increasing order.
+	 * 
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param <E5> the fifth type of exceptions thrown by the consumer
+	 * @param <E6> the sixth type of exceptions thrown by the consumer
+	 * @param from the first integer (inclusive)
+	 * @param to the last integer (exclusive)
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 * @throws E3 if the consumer throws it
+	 * @throws E4 if the consumer throws it
+	 * @throws E5 if the consumer throws it
+	 * @throws E6 if the consumer throws it
+	 */
+	public static <E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> void forEach(int from, int to, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, IntConsumerWithExceptions6<E1, E2, E3, E4, E5, E6> consumer) throws E1, E2, E3, E4, E5, E6 {
+		for (int i = from; i < to; i++)
+			consumer.accept(i);
+	}
+
+	/**
+	 * Applies the given consumer to each integer from {@code from} (inclusive) to {@code to} (exclusive), in increasing order.
+	 * 
+	 * @param <E1> the first type of exceptions thrown by the consumer
+	 * @param <E2> the second type of exceptions thrown by the consumer
+	 * @param <E3> the third type of exceptions thrown by the consumer
+	 * @param <E4> the fourth type of exceptions thrown by the consumer
+	 * @param <E5> the fifth type of exceptions thrown by the consumer
+	 * @param <E6> the sixth type of exceptions thrown by the consumer
+	 * @param <E7> the seventh type of exceptions thrown by the consumer
+	 * @param from the first integer (inclusive)
+	 * @param to the last integer (exclusive)
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param consumer the consumer
+	 * @throws E1 if the consumer throws it
+	 * @throws E2 if the consumer throws it
+	 * @throws E3 if the consumer throws it
+	 * @throws E4 if the consumer throws it
+	 * @throws E5 if the consumer throws it
+	 * @throws E6 if the consumer throws it
+	 * @throws E7 if the consumer throws it
+	 */
+	public static <E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> void forEach(int from, int to, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, IntConsumerWithExceptions7<E1, E2, E3, E4, E5, E6, E7> consumer) throws E1, E2, E3, E4, E5, E6, E7 {
+		for (int i = from; i < to; i++)
+			consumer.accept(i);
+	}
+
+	/**
+	 * Applies the given function to each element of the given array, in order, with an indexed loop,
+	 * and collects the results into a new array.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param <R> the type of the results of the function
+	 * @param array the array
+	 * @param generator the generator of the resulting array, from its length
+	 * @param function the function
+	 * @return the array of the results
+	 * @throws Throwable if the function throws it
+	 */
+	public static <T, R> R[] map(T[] array, IntFunction<R[]> generator, FunctionWithExceptions<? super T, ? extends R> function) throws Throwable {
+		var result = generator.apply(array.length);
+		for (int pos = 0; pos < array.length; pos++)
+			result[pos] = function.apply(array[pos]);
+
+		return result;
+	}
+
+	/**
+	 * Applies the given function to each element of the given array, in order, with an indexed loop,
+	 * and collects the results into a new array.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param <R> the type of the results of the function
+	 * @param <E1> the type of exceptions thrown by the function
+	 * @param array the array
+	 * @param generator the generator of the resulting array, from its length
+	 * @param exception the exception tag of {@code E1}
+	 * @param function the function
+	 * @return the array of the results
+	 * @throws E1 if the function throws it
+	 */
+	public static <T, R, E1 extends Throwable> R[] map(T[] array, IntFunction<R[]> generator, Class<E1> exception, FunctionWithExceptions1<? super T, ? extends R, E1> function) throws E1 {
+		var result = generator.apply(array.length);
+		for (int pos = 0; pos < array.length; pos++)
+			result[pos] = function.apply(array[pos]);
+
+		return result;
+	}
+
+	/**
+	 * Applies the given function to each element of the given array, in order, with an indexed loop,
+	 * and collects the results into a new array.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param <R> the type of the results of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param array the array
+	 * @param generator the generator of the resulting array, from its length
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param function the function
+	 * @return the array of the results
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable> R[] map(T[] array, IntFunction<R[]> generator, Class<E1> exception1, Class<E2> exception2, FunctionWithExceptions2<? super T, ? extends R, E1, E2> function) throws E1, E2 {
+		var result = generator.apply(array.length);
+		for (int pos = 0; pos < array.length; pos++)
+			result[pos] = function.apply(array[pos]);
+
+		return result;
+	}
+
+	/**
+	 * Applies the given function to each element of the given array, in order, with an indexed loop,
+	 * and collects the results into a new array.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param <R> the type of the results of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param array the array
+	 * @param generator the generator of the resulting array, from its length
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param function the function
+	 * @return the array of the results
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> R[] map(T[] array, IntFunction<R[]> generator, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, FunctionWithExceptions3<? super T, ? extends R, E1, E2, E3> function) throws E1, E2, E3 {
+		var result = generator.apply(array.length);
+		for (int pos = 0; pos < array.length; pos++)
+			result[pos] = function.apply(array[pos]);
+
+		return result;
+	}
+
+	/**
+	 * Applies the given function to each element of the given array, in order, with an indexed loop,
+	 * and collects the results into a new array.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param <R> the type of the results of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param array the array
+	 * @param generator the generator of the resulting array, from its length
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param function the function
+	 * @return the array of the results
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> R[] map(T[] array, IntFunction<R[]> generator, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, FunctionWithExceptions4<? super T, ? extends R, E1, E2, E3, E4> function) throws E1, E2, E3, E4 {
+		var result = generator.apply(array.length);
+		for (int pos = 0; pos < array.length; pos++)
+			result[pos] = function.apply(array[pos]);
+
+		return result;
+	}
+
+	/**
+	 * Applies the given function to each element of the given array, in order, with an indexed loop,
+	 * and collects the results into a new array.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param <R> the type of the results of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param <E5> the fifth type of exceptions thrown by the function
+	 * @param array the array
+	 * @param generator the generator of the resulting array, from its length
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param function the function
+	 * @return the array of the results
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 * @throws E5 if the function throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> R[] map(T[] array, IntFunction<R[]> generator, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, FunctionWithExceptions5<? super T, ? extends R, E1, E2, E3, E4, E5> function) throws E1, E2, E3, E4, E5 {
+		var result = generator.apply(array.length);
+		for (int pos = 0; pos < array.length; pos++)
+			result[pos] = function.apply(array[pos]);
+
+		return result;
+	}
+
+	/**
+	 * Applies the given function to each element of the given array, in order, with an indexed loop,
+	 * and collects the results into a new array.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param <R> the type of the results of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param <E5> the fifth type of exceptions thrown by the function
+	 * @param <E6> the sixth type of exceptions thrown by the function
+	 * @param array the array
+	 * @param generator the generator of the resulting array, from its length
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param function the function
+	 * @return the array of the results
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 * @throws E5 if the function throws it
+	 * @throws E6 if the function throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> R[] map(T[] array, IntFunction<R[]> generator, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, FunctionWithExceptions6<? super T, ? extends R, E1, E2, E3, E4, E5, E6> function) throws E1, E2, E3, E4, E5, E6 {
+		var result = generator.apply(array.length);
+		for (int pos = 0; pos < array.length; pos++)
+			result[pos] = function.apply(array[pos]);
+
+		return result;
+	}
+
+	/**
+	 * Applies the given function to each element of the given array, in order, with an indexed loop,
+	 * and collects the results into a new array.
+	 * 
+	 * @param <T> the type of the elements of the array
+	 * @param <R> the type of the results of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param <E5> the fifth type of exceptions thrown by the function
+	 * @param <E6> the sixth type of exceptions thrown by the function
+	 * @param <E7> the seventh type of exceptions thrown by the function
+	 * @param array the array
+	 * @param generator the generator of the resulting array, from its length
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param function the function
+	 * @return the array of the results
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 * @throws E5 if the function throws it
+	 * @throws E6 if the function throws it
+	 * @throws E7 if the function throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> R[] map(T[] array, IntFunction<R[]> generator, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, FunctionWithExceptions7<? super T, ? extends R, E1, E2, E3, E4, E5, E6, E7> function) throws E1, E2, E3, E4, E5, E6, E7 {
+		var result = generator.apply(array.length);
+		for (int pos = 0; pos < array.length; pos++)
+			result[pos] = function.apply(array[pos]);
+
+		return result;
+	}
+
+	/**
+	 * Applies the given function to each element of the given list, in order, and collects the results
+	 * into a new list. Lists with random access are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <R> the type of the results of the function
+	 * @param list the list
+	 * @param function the function
+	 * @return the list of the results, in the same order
+	 * @throws Throwable if the function throws it
+	 */
+	public static <T, R> List<R> map(List<? extends T> list, FunctionWithExceptions<? super T, ? extends R> function) throws Throwable {
+		int size = list.size();
+		var result = new ArrayList<R>(size);
+
+		if (list instanceof RandomAccess) {
+			for (int pos = 0; pos < size; pos++)
+				result.add(function.apply(list.get(pos)));
+		}
+		else
+			for (T t: list)
+				result.add(function.apply(t));
+
+		return result;
+	}
+
+	/**
+	 * Applies the given function to each element of the given list, in order, and collects the results
+	 * into a new list. Lists with random access are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <R> the type of the results of the function
+	 * @param <E1> the type of exceptions thrown by the function
+	 * @param list the list
+	 * @param exception the exception tag of {@code E1}
+	 * @param function the function
+	 * @return the list of the results, in the same order
+	 * @throws E1 if the function throws it
+	 */
+	public static <T, R, E1 extends Throwable> List<R> map(List<? extends T> list, Class<E1> exception, FunctionWithExceptions1<? super T, ? extends R, E1> function) throws E1 {
+		int size = list.size();
+		var result = new ArrayList<R>(size);
+
+		if (list instanceof RandomAccess) {
+			for (int pos = 0; pos < size; pos++)
+				result.add(function.apply(list.get(pos)));
+		}
+		else
+			for (T t: list)
+				result.add(function.apply(t));
+
+		return result;
+	}
+
+	/**
+	 * Applies the given function to each element of the given list, in order, and collects the results
+	 * into a new list. Lists with random access are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <R> the type of the results of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param function the function
+	 * @return the list of the results, in the same order
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable> List<R> map(List<? extends T> list, Class<E1> exception1, Class<E2> exception2, FunctionWithExceptions2<? super T, ? extends R, E1, E2> function) throws E1, E2 {
+		int size = list.size();
+		var result = new ArrayList<R>(size);
+
+		if (list instanceof RandomAccess) {
+			for (int pos = 0; pos < size; pos++)
+				result.add(function.apply(list.get(pos)));
+		}
+		else
+			for (T t: list)
+				result.add(function.apply(t));
+
+		return result;
+	}
+
+	/**
+	 * Applies the given function to each element of the given list, in order, and collects the results
+	 * into a new list. Lists with random access are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <R> the type of the results of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param function the function
+	 * @return the list of the results, in the same order
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> List<R> map(List<? extends T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, FunctionWithExceptions3<? super T, ? extends R, E1, E2, E3> function) throws E1, E2, E3 {
+		int size = list.size();
+		var result = new ArrayList<R>(size);
+
+		if (list instanceof RandomAccess) {
+			for (int pos = 0; pos < size; pos++)
+				result.add(function.apply(list.get(pos)));
+		}
+		else
+			for (T t: list)
+				result.add(function.apply(t));
+
+		return result;
+	}
+
+	/**
+	 * Applies the given function to each element of the given list, in order, and collects the results
+	 * into a new list. Lists with random access are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <R> the type of the results of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param function the function
+	 * @return the list of the results, in the same order
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> List<R> map(List<? extends T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, FunctionWithExceptions4<? super T, ? extends R, E1, E2, E3, E4> function) throws E1, E2, E3, E4 {
+		int size = list.size();
+		var result = new ArrayList<R>(size);
+
+		if (list instanceof RandomAccess) {
+			for (int pos = 0; pos < size; pos++)
+				result.add(function.apply(list.get(pos)));
+		}
+		else
+			for (T t: list)
+				result.add(function.apply(t));
+
+		return result;
+	}
+
+	/**
+	 * Applies the given function to each element of the given list, in order, and collects the results
+	 * into a new list. Lists with random access are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <R> the type of the results of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param <E5> the fifth type of exceptions thrown by the function
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param function the function
+	 * @return the list of the results, in the same order
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 * @throws E5 if the function throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> List<R> map(List<? extends T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, FunctionWithExceptions5<? super T, ? extends R, E1, E2, E3, E4, E5> function) throws E1, E2, E3, E4, E5 {
+		int size = list.size();
+		var result = new ArrayList<R>(size);
+
+		if (list instanceof RandomAccess) {
+			for (int pos = 0; pos < size; pos++)
+				result.add(function.apply(list.get(pos)));
+		}
+		else
+			for (T t: list)
+				result.add(function.apply(t));
+
+		return result;
+	}
+
+	/**
+	 * Applies the given function to each element of the given list, in order, and collects the results
+	 * into a new list. Lists with random access are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <R> the type of the results of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param <E5> the fifth type of exceptions thrown by the function
+	 * @param <E6> the sixth type of exceptions thrown by the function
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param function the function
+	 * @return the list of the results, in the same order
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 * @throws E5 if the function throws it
+	 * @throws E6 if the function throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> List<R> map(List<? extends T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, FunctionWithExceptions6<? super T, ? extends R, E1, E2, E3, E4, E5, E6> function) throws E1, E2, E3, E4, E5, E6 {
+		int size = list.size();
+		var result = new ArrayList<R>(size);
+
+		if (list instanceof RandomAccess) {
+			for (int pos = 0; pos < size; pos++)
+				result.add(function.apply(list.get(pos)));
+		}
+		else
+			for (T t: list)
+				result.add(function.apply(t));
+
+		return result;
+	}
+
+	/**
+	 * Applies the given function to each element of the given list, in order, and collects the results
+	 * into a new list. Lists with random access are scanned with an indexed loop, without creating an iterator.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <R> the type of the results of the function
+	 * @param <E1> the first type of exceptions thrown by the function
+	 * @param <E2> the second type of exceptions thrown by the function
+	 * @param <E3> the third type of exceptions thrown by the function
+	 * @param <E4> the fourth type of exceptions thrown by the function
+	 * @param <E5> the fifth type of exceptions thrown by the function
+	 * @param <E6> the sixth type of exceptions thrown by the function
+	 * @param <E7> the seventh type of exceptions thrown by the function
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param function the function
+	 * @return the list of the results, in the same order
+	 * @throws E1 if the function throws it
+	 * @throws E2 if the function throws it
+	 * @throws E3 if the function throws it
+	 * @throws E4 if the function throws it
+	 * @throws E5 if the function throws it
+	 * @throws E6 if the function throws it
+	 * @throws E7 if the function throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> List<R> map(List<? extends T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, FunctionWithExceptions7<? super T, ? extends R, E1, E2, E3, E4, E5, E6, E7> function) throws E1, E2, E3, E4, E5, E6, E7 {
+		int size = list.size();
+		var result = new ArrayList<R>(size);
+
+		if (list instanceof RandomAccess) {
+			for (int pos = 0; pos < size; pos++)
+				result.add(function.apply(list.get(pos)));
+		}
+		else
+			for (T t: list)
+				result.add(function.apply(t));
+
+		return result;
+	}
+}
@@ -16,6 +16,11 @@ limitations under the License.
 
 package io.hotmoka.exceptions;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
 /**
  * A collection of run-time checks on objects, with parametric exception type.
  */
@@ -71,4 +76,457 @@ public abstract class Objects {
 
         return obj;
     }
+
+	/**
+	 * Checks that the specified object reference is not {@code null}. The message of the exception
+	 * is computed only if {@code obj} is {@code null}, as in:
+	 * <blockquote><pre>
+	 * this.bar = Objects.requireNonNullLazy(bar, () -> "bar of " + id + " cannot be null", IllegalArgumentException::new);
+	 * </pre></blockquote>
+	 *
+	 * @param <T> the type of the reference
+	 * @param <E> the type of the exception thrown if {@code obj} is {@code null}
+	 * @param obj the object reference to check for nullity
+	 * @param message the supplier of the message of the exception thrown if {@code obj} is {@code null}
+	 * @param onNull the generator of the exception thrown if {@code obj} is {@code null}
+	 * @return {@code obj} if not {@code null}
+	 * @throws E if {@code obj} is {@code null}
+	 */
+	public static <T, E extends Exception> T requireNonNullLazy(T obj, Supplier<String> message, ExceptionSupplierFromMessage<? extends E> onNull) throws E {
+		if (obj == null)
+			throw onNull.apply(message.get());
+
+		return obj;
+	}
+
+	/**
+	 * Checks that the specified object reference is not {@code null}. The message of the exception
+	 * is formatted, as by {@link String#format(String, Object...)}, only if {@code obj} is {@code null}.
+	 * A primitive argument gets boxed at each call, also if {@code obj} is not {@code null}: use
+	 * {@link #requireNonNullLazy(Object, Supplier, ExceptionSupplierFromMessage)} to avoid that.
+	 *
+	 * @param <T> the type of the reference
+	 * @param <E> the type of the exception thrown if {@code obj} is {@code null}
+	 * @param obj the object reference to check for nullity
+	 * @param format the format of the message of the exception thrown if {@code obj} is {@code null}
+	 * @param arg the argument of the format
+	 * @param onNull the generator of the exception thrown if {@code obj} is {@code null}
+	 * @return {@code obj} if not {@code null}
+	 * @throws E if {@code obj} is {@code null}
+	 */
+	public static <T, E extends Exception> T requireNonNull(T obj, String format, Object arg, ExceptionSupplierFromMessage<? extends E> onNull) throws E {
+		if (obj == null)
+			throw onNull.apply(String.format(format, arg));
+
+		return obj;
+	}
+
+	/**
+	 * Checks that the specified object reference is not {@code null}. The message of the exception
+	 * is formatted, as by {@link String#format(String, Object...)}, only if {@code obj} is {@code null}.
+	 * Primitive arguments get boxed at each call, also if {@code obj} is not {@code null}: use
+	 * {@link #requireNonNullLazy(Object, Supplier, ExceptionSupplierFromMessage)} to avoid that.
+	 *
+	 * @param <T> the type of the reference
+	 * @param <E> the type of the exception thrown if {@code obj} is {@code null}
+	 * @param obj the object reference to check for nullity
+	 * @param format the format of the message of the exception thrown if {@code obj} is {@code null}
+	 * @param arg1 the first argument of the format
+	 * @param arg2 the second argument of the format
+	 * @param onNull the generator of the exception thrown if {@code obj} is {@code null}
+	 * @return {@code obj} if not {@code null}
+	 * @throws E if {@code obj} is {@code null}
+	 */
+	public static <T, E extends Exception> T requireNonNull(T obj, String format, Object arg1, Object arg2, ExceptionSupplierFromMessage<? extends E> onNull) throws E {
+		if (obj == null)
+			throw onNull.apply(String.format(format, arg1, arg2));
+
+		return obj;
+	}
+
+	/**
+	 * Checks that the specified object reference is not {@code null}. The message of the exception
+	 * is formatted, as by {@link String#format(String, Object...)}, only if {@code obj} is {@code null}.
+	 * Primitive arguments get boxed at each call, also if {@code obj} is not {@code null}: use
+	 * {@link #requireNonNullLazy(Object, Supplier, ExceptionSupplierFromMessage)} to avoid that.
+	 *
+	 * @param <T> the type of the reference
+	 * @param <E> the type of the exception thrown if {@code obj} is {@code null}
+	 * @param obj the object reference to check for nullity
+	 * @param format the format of the message of the exception thrown if {@code obj} is {@code null}
+	 * @param arg1 the first argument of the format
+	 * @param arg2 the second argument of the format
+	 * @param arg3 the third argument of the format
+	 * @param onNull the generator of the exception thrown if {@code obj} is {@code null}
+	 * @return {@code obj} if not {@code null}
+	 * @throws E if {@code obj} is {@code null}
+	 */
+	public static <T, E extends Exception> T requireNonNull(T obj, String format, Object arg1, Object arg2, Object arg3, ExceptionSupplierFromMessage<? extends E> onNull) throws E {
+		if (obj == null)
+			throw onNull.apply(String.format(format, arg1, arg2, arg3));
+
+		return obj;
+	}
+
+	/**
+	 * Checks a condition on an argument.
+	 *
+	 * @param <E> the type of the exception thrown if {@code condition} is false
+	 * @param condition the condition
+	 * @param message the message of the exception thrown if {@code condition} is false
+	 * @param onFail the generator of the exception thrown if {@code condition} is false
+	 * @throws E if {@code condition} is false
+	 */
+	public static <E extends Exception> void checkArgument(boolean condition, String message, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		if (!condition)
+			throw onFail.apply(message);
+	}
+
+	/**
+	 * Checks a condition on an argument. The message of the exception is computed only if the condition is false.
+	 *
+	 * @param <E> the type of the exception thrown if {@code condition} is false
+	 * @param condition the condition
+	 * @param message the supplier of the message of the exception thrown if {@code condition} is false
+	 * @param onFail the generator of the exception thrown if {@code condition} is false
+	 * @throws E if {@code condition} is false
+	 */
+	public static <E extends Exception> void checkArgumentLazy(boolean condition, Supplier<String> message, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		if (!condition)
+			throw onFail.apply(message.get());
+	}
+
+	/**
+	 * Checks a condition on the state.
+	 *
+	 * @param <E> the type of the exception thrown if {@code condition} is false
+	 * @param condition the condition
+	 * @param message the message of the exception thrown if {@code condition} is false
+	 * @param onFail the generator of the exception thrown if {@code condition} is false
+	 * @throws E if {@code condition} is false
+	 */
+	public static <E extends Exception> void checkState(boolean condition, String message, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		if (!condition)
+			throw onFail.apply(message);
+	}
+
+	/**
+	 * Checks a condition on the state. The message of the exception is computed only if the condition is false.
+	 *
+	 * @param <E> the type of the exception thrown if {@code condition} is false
+	 * @param condition the condition
+	 * @param message the supplier of the message of the exception thrown if {@code condition} is false
+	 * @param onFail the generator of the exception thrown if {@code condition} is false
+	 * @throws E if {@code condition} is false
+	 */
+	public static <E extends Exception> void checkStateLazy(boolean condition, Supplier<String> message, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		if (!condition)
+			throw onFail.apply(message.get());
+	}
+
+	/**
+	 * Checks that {@code index} is within the bounds of the range from {@code 0} (inclusive)
+	 * to {@code length} (exclusive). It delegates to {@link java.util.Objects#checkIndex(int, int)},
+	 * that the just-in-time compiler can treat as an intrinsic.
+	 *
+	 * @param <E> the type of the exception thrown if {@code index} is out of bounds
+	 * @param index the index
+	 * @param length the upper bound (exclusive) of the range
+	 * @param onFail the generator of the exception thrown if {@code index} is out of bounds
+	 * @return {@code index}
+	 * @throws E if {@code index} is out of bounds
+	 */
+	public static <E extends Exception> int checkIndex(int index, int length, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		try {
+			return java.util.Objects.checkIndex(index, length);
+		}
+		catch (IndexOutOfBoundsException e) {
+			throw onFail.apply(e.getMessage());
+		}
+	}
+
+	/**
+	 * Checks that the range from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive)
+	 * is within the bounds of the range from {@code 0} (inclusive) to {@code length} (exclusive).
+	 * It delegates to {@link java.util.Objects#checkFromToIndex(int, int, int)}.
+	 *
+	 * @param <E> the type of the exception thrown if the range is out of bounds
+	 * @param fromIndex the lower bound (inclusive) of the range
+	 * @param toIndex the upper bound (exclusive) of the range
+	 * @param length the upper bound (exclusive) of the bounds
+	 * @param onFail the generator of the exception thrown if the range is out of bounds
+	 * @return {@code fromIndex}
+	 * @throws E if the range is out of bounds
+	 */
+	public static <E extends Exception> int checkFromToIndex(int fromIndex, int toIndex, int length, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		try {
+			return java.util.Objects.checkFromToIndex(fromIndex, toIndex, length);
+		}
+		catch (IndexOutOfBoundsException e) {
+			throw onFail.apply(e.getMessage());
+		}
+	}
+
+	/**
+	 * Checks that the range from {@code fromIndex} (inclusive) to {@code fromIndex + size} (exclusive)
+	 * is within the bounds of the range from {@code 0} (inclusive) to {@code length} (exclusive).
+	 * It delegates to {@link java.util.Objects#checkFromIndexSize(int, int, int)}.
+	 *
+	 * @param <E> the type of the exception thrown if the range is out of bounds
+	 * @param fromIndex the lower bound (inclusive) of the range
+	 * @param size the size of the range
+	 * @param length the upper bound (exclusive) of the bounds
+	 * @param onFail the generator of the exception thrown if the range is out of bounds
+	 * @return {@code fromIndex}
+	 * @throws E if the range is out of bounds
+	 */
+	public static <E extends Exception> int checkFromIndexSize(int fromIndex, int size, int length, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		try {
+			return java.util.Objects.checkFromIndexSize(fromIndex, size, length);
+		}
+		catch (IndexOutOfBoundsException e) {
+			throw onFail.apply(e.getMessage());
+		}
+	}
+
+	/**
+	 * Checks that {@code index} is within the bounds of the range from {@code 0} (inclusive)
+	 * to {@code length} (exclusive). It delegates to {@link java.util.Objects#checkIndex(long, long)},
+	 * that the just-in-time compiler can treat as an intrinsic.
+	 *
+	 * @param <E> the type of the exception thrown if {@code index} is out of bounds
+	 * @param index the index
+	 * @param length the upper bound (exclusive) of the range
+	 * @param onFail the generator of the exception thrown if {@code index} is out of bounds
+	 * @return {@code index}
+	 * @throws E if {@code index} is out of bounds
+	 */
+	public static <E extends Exception> long checkIndex(long index, long length, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		try {
+			return java.util.Objects.checkIndex(index, length);
+		}
+		catch (IndexOutOfBoundsException e) {
+			throw onFail.apply(e.getMessage());
+		}
+	}
+
+	/**
+	 * Checks that the range from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive)
+	 * is within the bounds of the range from {@code 0} (inclusive) to {@code length} (exclusive).
+	 * It delegates to {@link java.util.Objects#checkFromToIndex(long, long, long)}.
+	 *
+	 * @param <E> the type of the exception thrown if the range is out of bounds
+	 * @param fromIndex the lower bound (inclusive) of the range
+	 * @param toIndex the upper bound (exclusive) of the range
+	 * @param length the upper bound (exclusive) of the bounds
+	 * @param onFail the generator of the exception thrown if the range is out of bounds
+	 * @return {@code fromIndex}
+	 * @throws E if the range is out of bounds
+	 */
+	public static <E extends Exception> long checkFromToIndex(long fromIndex, long toIndex, long length, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		try {
+			return java.util.Objects.checkFromToIndex(fromIndex, toIndex, length);
+		}
+		catch (IndexOutOfBoundsException e) {
+			throw onFail.apply(e.getMessage());
+		}
+	}
+
+	/**
+	 * Checks that the range from {@code fromIndex} (inclusive) to {@code fromIndex + size} (exclusive)
+	 * is within the bounds of the range from {@code 0} (inclusive) to {@code length} (exclusive).
+	 * It delegates to {@link java.util.Objects#checkFromIndexSize(long, long, long)}.
+	 *
+	 * @param <E> the type of the exception thrown if the range is out of bounds
+	 * @param fromIndex the lower bound (inclusive) of the range
+	 * @param size the size of the range
+	 * @param length the upper bound (exclusive) of the bounds
+	 * @param onFail the generator of the exception thrown if the range is out of bounds
+	 * @return {@code fromIndex}
+	 * @throws E if the range is out of bounds
+	 */
+	public static <E extends Exception> long checkFromIndexSize(long fromIndex, long size, long length, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		try {
+			return java.util.Objects.checkFromIndexSize(fromIndex, size, length);
+		}
+		catch (IndexOutOfBoundsException e) {
+			throw onFail.apply(e.getMessage());
+		}
+	}
+
+	/**
+	 * Checks that the given value is non-negative.
+	 *
+	 * @param <E> the type of the exception thrown if {@code value} is negative
+	 * @param value the value
+	 * @param message the message of the exception thrown if {@code value} is negative
+	 * @param onFail the generator of the exception thrown if {@code value} is negative
+	 * @return {@code value}
+	 * @throws E if {@code value} is negative
+	 */
+	public static <E extends Exception> int requireNonNegative(int value, String message, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		if (value < 0)
+			throw onFail.apply(message);
+
+		return value;
+	}
+
+	/**
+	 * Checks that the given value is positive.
+	 *
+	 * @param <E> the type of the exception thrown if {@code value} is not positive
+	 * @param value the value
+	 * @param message the message of the exception thrown if {@code value} is not positive
+	 * @param onFail the generator of the exception thrown if {@code value} is not positive
+	 * @return {@code value}
+	 * @throws E if {@code value} is not positive
+	 */
+	public static <E extends Exception> int requirePositive(int value, String message, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		if (value <= 0)
+			throw onFail.apply(message);
+
+		return value;
+	}
+
+	/**
+	 * Checks that the given value is non-negative.
+	 *
+	 * @param <E> the type of the exception thrown if {@code value} is negative
+	 * @param value the value
+	 * @param message the message of the exception thrown if {@code value} is negative
+	 * @param onFail the generator of the exception thrown if {@code value} is negative
+	 * @return {@code value}
+	 * @throws E if {@code value} is negative
+	 */
+	public static <E extends Exception> long requireNonNegative(long value, String message, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		if (value < 0)
+			throw onFail.apply(message);
+
+		return value;
+	}
+
+	/**
+	 * Checks that the given value is positive.
+	 *
+	 * @param <E> the type of the exception thrown if {@code value} is not positive
+	 * @param value the value
+	 * @param message the message of the exception thrown if {@code value} is not positive
+	 * @param onFail the generator of the exception thrown if {@code value} is not positive
+	 * @return {@code value}
+	 * @throws E if {@code value} is not positive
+	 */
+	public static <E extends Exception> long requirePositive(long value, String message, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		if (value <= 0)
+			throw onFail.apply(message);
+
+		return value;
+	}
+
+	/**
+	 * Checks that all elements of the given array are not {@code null}.
+	 *
+	 * @param <T> the type of the elements of the array
+	 * @param <E> the type of the exception thrown if an element is {@code null}
+	 * @param array the array
+	 * @param onNull the generator of the exception thrown if an element is {@code null};
+	 *               its message reports the index of the first {@code null} element
+	 * @return {@code array}
+	 * @throws E if an element is {@code null}
+	 */
+	public static <T, E extends Exception> T[] requireAllNonNull(T[] array, ExceptionSupplierFromMessage<? extends E> onNull) throws E {
+		for (int pos = 0; pos < array.length; pos++)
+			if (array[pos] == null)
+				throw onNull.apply("Illegal null value at index " + pos);
+
+		return array;
+	}
+
+	/**
+	 * Checks that all elements of the given collection are not {@code null}.
+	 * Lists with random access are scanned by index, without creating an iterator.
+	 *
+	 * @param <C> the type of the collection
+	 * @param <E> the type of the exception thrown if an element is {@code null}
+	 * @param collection the collection
+	 * @param onNull the generator of the exception thrown if an element is {@code null};
+	 *               its message reports the index, in iteration order, of the first {@code null} element
+	 * @return {@code collection}
+	 * @throws E if an element is {@code null}
+	 */
+	public static <C extends Collection<?>, E extends Exception> C requireAllNonNull(C collection, ExceptionSupplierFromMessage<? extends E> onNull) throws E {
+		if (collection instanceof List<?> list && list instanceof RandomAccess) {
+			for (int pos = 0, size = list.size(); pos < size; pos++)
+				if (list.get(pos) == null)
+					throw onNull.apply("Illegal null value at index " + pos);
+		}
+		else {
+			int pos = 0;
+			for (var element: collection) {
+				if (element == null)
+					throw onNull.apply("Illegal null value at index " + pos);
+
+				pos++;
+			}
+		}
+
+		return collection;
+	}
+
+	/**
+	 * Checks that all elements of the given array are between {@code min} and {@code max}, inclusive.
+	 * The check is a minimum and maximum reduction over the array, that the just-in-time compiler
+	 * can vectorize; the array gets scanned again, for the offending element, only on failure.
+	 *
+	 * @param <E> the type of the exception thrown if an element is out of range
+	 * @param array the array
+	 * @param min the minimal allowed value
+	 * @param max the maximal allowed value
+	 * @param onFail the generator of the exception thrown if an element is out of range;
+	 *               its message reports the index of the first element out of range
+	 * @return {@code array}
+	 * @throws E if an element is out of range
+	 */
+	public static <E extends Exception> int[] requireAllInRange(int[] array, int min, int max, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		int lowest = Integer.MAX_VALUE, highest = Integer.MIN_VALUE;
+		for (int value: array) {
+			lowest = Math.min(lowest, value);
+			highest = Math.max(highest, value);
+		}
+
+		if (lowest < min || highest > max)
+			for (int pos = 0; pos < array.length; pos++)
+				if (array[pos] < min || array[pos] > max)
+					throw onFail.apply("Value " + array[pos] + " at index " + pos + " is out of range [" + min + ", " + max + "]");
+
+		return array;
+	}
+
+	/**
+	 * Checks that all elements of the given array are between {@code min} and {@code max}, inclusive.
+	 * The check is a minimum and maximum reduction over the array, that the just-in-time compiler
+	 * can vectorize; the array gets scanned again, for the offending element, only on failure.
+	 *
+	 * @param <E> the type of the exception thrown if an element is out of range
+	 * @param array the array
+	 * @param min the minimal allowed value
+	 * @param max the maximal allowed value
+	 * @param onFail the generator of the exception thrown if an element is out of range;
+	 *               its message reports the index of the first element out of range
+	 * @return {@code array}
+	 * @throws E if an element is out of range
+	 */
+	public static <E extends Exception> long[] requireAllInRange(long[] array, long min, long max, ExceptionSupplierFromMessage<? extends E> onFail) throws E {
+		long lowest = Long.MAX_VALUE, highest = Long.MIN_VALUE;
+		for (long value: array) {
+			lowest = Math.min(lowest, value);
+			highest = Math.max(highest, value);
+		}
+
+		if (lowest < min || highest > max)
+			for (int pos = 0; pos < array.length; pos++)
+				if (array[pos] < min || array[pos] > max)
+					throw onFail.apply("Value " + array[pos] + " at index " + pos + " is out of range [" + min + ", " + max + "]");
+
+		return array;
+	}
 }
\ No newline at end of file
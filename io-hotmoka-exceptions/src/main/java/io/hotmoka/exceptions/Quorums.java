@@ -0,0 +1,135 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import io.hotmoka.exceptions.functions.SupplierWithExceptions;
+
+/**
+ * Methods that run many suppliers with exceptions in parallel and wait until
+ * a quorum of them succeeds.
+ */
+public abstract class Quorums {
+
+	private Quorums() {}
+
+	/**
+	 * Runs the given suppliers in parallel and yields the values of the first {@code quorum} of them
+	 * that succeed. The other suppliers are cancelled as soon as the quorum is reached or as soon as
+	 * it becomes impossible to reach it, since too many suppliers failed. In the latter case, this method
+	 * throws an exception built by {@code onFailure}, with the failures of the suppliers attached
+	 * as suppressed exceptions.
+	 * 
+	 * @param <R> the type of the supplied values
+	 * @param <E> the type of the exception thrown if the quorum cannot be reached
+	 * @param executor the executor of the suppliers
+	 * @param quorum the number of suppliers that must succeed
+	 * @param suppliers the suppliers
+	 * @param onFailure the generator of the exception thrown if the quorum cannot be reached
+	 * @return the values of the first {@code quorum} suppliers that succeeded, in order of completion
+	 * @throws E if the quorum cannot be reached
+	 * @throws InterruptedException if the current thread gets interrupted while waiting for the suppliers
+	 */
+	public static <R, E extends Exception> List<R> get(ExecutorService executor, int quorum, Collection<? extends SupplierWithExceptions<? extends R>> suppliers,
+			ExceptionSupplierFromMessage<? extends E> onFailure) throws E, InterruptedException {
+
+		int size = suppliers.size();
+		if (quorum < 1 || quorum > size)
+			throw new IllegalArgumentException("The quorum must be between 1 and the number of suppliers");
+
+		var gather = new Gather<R>(quorum, size);
+
+		try {
+			synchronized (gather) {
+				for (var supplier: suppliers)
+					gather.launch(executor, supplier);
+
+				while (gather.results.size() < quorum && gather.failures.size() <= size - quorum)
+					gather.wait();
+			}
+		}
+		finally {
+			gather.cancel();
+		}
+
+		// no attempt modifies the gather after its cancellation
+		if (gather.results.size() >= quorum)
+			return Collections.unmodifiableList(gather.results);
+
+		E exception = onFailure.apply("Only " + gather.results.size() + " out of " + size + " suppliers succeeded, but " + quorum + " were required");
+		gather.failures.forEach(exception::addSuppressed);
+
+		throw exception;
+	}
+
+	/**
+	 * The outcomes of the suppliers of a single call. Its fields are guarded by its monitor.
+	 * 
+	 * @param <R> the type of the supplied values
+	 */
+	private static class Gather<R> {
+		private final int quorum;
+		private final List<R> results;
+		private final List<Throwable> failures = new ArrayList<>();
+		private final List<Future<?>> attempts;
+		private boolean cancelled;
+
+		private Gather(int quorum, int size) {
+			this.quorum = quorum;
+			this.results = new ArrayList<>(quorum);
+			this.attempts = new ArrayList<>(size);
+		}
+
+		private void launch(ExecutorService executor, SupplierWithExceptions<? extends R> supplier) {
+			attempts.add(executor.submit(() -> attempt(supplier)));
+		}
+
+		private void attempt(SupplierWithExceptions<? extends R> supplier) {
+			try {
+				succeed(supplier.get());
+			}
+			catch (Throwable t) {
+				fail(t);
+			}
+		}
+
+		private synchronized void succeed(R result) {
+			if (!cancelled && results.size() < quorum) {
+				results.add(result);
+				notifyAll();
+			}
+		}
+
+		private synchronized void fail(Throwable t) {
+			if (!cancelled) {
+				failures.add(t);
+				notifyAll();
+			}
+		}
+
+		private synchronized void cancel() {
+			cancelled = true;
+			attempts.forEach(attempt -> attempt.cancel(true));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,234 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, in-memory recorder of the most recent exceptions wrapped into an
+ * {@link UncheckedException} and recovered or rethrown by the check methods of
+ * {@link CheckRunnable} and {@link CheckSupplier}. It is disabled by default and
+ * can be enabled by starting the JVM with {@code -Dio.hotmoka.exceptions.recent=N},
+ * where {@code N} is the number of exceptions to remember (rounded up to a power of two).
+ * Recording is lock-free: the oldest exceptions get overwritten by the most recent ones.
+ * The recorder can be dumped on demand, through {@link #dump(PrintStream)}, or at shutdown,
+ * by further starting the JVM with {@code -Dio.hotmoka.exceptions.recent.dumpOnShutdown=true}.
+ * Recording keeps a reference to the exceptions but does not compute their fingerprint, which
+ * requires their stack trace: that is computed only when it is asked for.
+ */
+public abstract class RecentExceptions {
+
+	/**
+	 * The system property that enables the recorder, by specifying its capacity.
+	 */
+	public final static String CAPACITY_PROPERTY = "io.hotmoka.exceptions.recent";
+
+	/**
+	 * The system property that requires to dump the recorder to the standard error at shutdown.
+	 */
+	public final static String DUMP_ON_SHUTDOWN_PROPERTY = "io.hotmoka.exceptions.recent.dumpOnShutdown";
+
+	/**
+	 * The kinds of events that get recorded.
+	 */
+	public enum Kind {
+
+		/**
+		 * An exception has been wrapped into an {@link UncheckedException}.
+		 */
+		WRAPPED,
+
+		/**
+		 * The cause of an {@link UncheckedException} has been recovered by a check method.
+		 */
+		RECOVERED,
+
+		/**
+		 * An {@link UncheckedException} has been rethrown by a check method, since its cause
+		 * was none of the exceptions to recover.
+		 */
+		ESCAPED
+	}
+
+	/**
+	 * The entries, used as a ring buffer.
+	 */
+	private final static AtomicReferenceArray<Entry> ENTRIES;
+
+	/**
+	 * The sequence number of the next entry.
+	 */
+	private final static AtomicLong NEXT = new AtomicLong();
+
+	static {
+		int capacity = Math.max(0, Integer.getInteger(CAPACITY_PROPERTY, 0));
+		ENTRIES = new AtomicReferenceArray<>(capacity == 0 ? 0 : Integer.highestOneBit(Math.min(capacity, 1 << 30) * 2 - 1));
+
+		if (capacity > 0 && Boolean.getBoolean(DUMP_ON_SHUTDOWN_PROPERTY))
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> dump(System.err), "io-hotmoka-exceptions-recent-dump"));
+	}
+
+	private RecentExceptions() {}
+
+	/**
+	 * An exception recorded by the recorder.
+	 */
+	public final static class Entry {
+		private final long sequence;
+		private final long timestamp;
+		private final String threadName;
+		private final Kind kind;
+		private final Throwable throwable;
+
+		/**
+		 * The fingerprint of {@link #throwable}, computed lazily.
+		 */
+		private long fingerprint;
+
+		/**
+		 * True if and only if {@link #fingerprint} has been computed.
+		 */
+		private boolean fingerprinted;
+
+		private Entry(long sequence, Kind kind, Throwable throwable) {
+			this.sequence = sequence;
+			this.timestamp = System.currentTimeMillis();
+			this.threadName = Thread.currentThread().getName();
+			this.kind = kind;
+			this.throwable = throwable;
+		}
+
+		/**
+		 * Yields the time of the event.
+		 * 
+		 * @return the time of the event, in milliseconds from the epoch
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		/**
+		 * Yields the name of the thread where the event occurred.
+		 * 
+		 * @return the name of the thread
+		 */
+		public String getThreadName() {
+			return threadName;
+		}
+
+		/**
+		 * Yields the kind of the event.
+		 * 
+		 * @return the kind of the event
+		 */
+		public Kind getKind() {
+			return kind;
+		}
+
+		/**
+		 * Yields the class of the exception.
+		 * 
+		 * @return the class of the exception
+		 */
+		public Class<?> getType() {
+			return throwable.getClass();
+		}
+
+		/**
+		 * Yields the message of the exception.
+		 * 
+		 * @return the message of the exception, possibly {@code null}
+		 */
+		public String getMessage() {
+			return throwable.getMessage();
+		}
+
+		/**
+		 * Yields a hash of the class of the exception and of the topmost frames of its stack trace.
+		 * 
+		 * @return the hash
+		 */
+		public synchronized long getFingerprint() {
+			if (!fingerprinted) {
+				fingerprint = StackFingerprints.of(throwable, StackFingerprints.DEFAULT_FRAMES);
+				fingerprinted = true;
+			}
+
+			return fingerprint;
+		}
+
+		@Override
+		public String toString() {
+			var message = getMessage();
+
+			return Instant.ofEpochMilli(timestamp) + " [" + threadName + "] " + kind + " " + getType().getName()
+				+ (message != null ? ": " + message : "") + " #" + Long.toHexString(getFingerprint());
+		}
+	}
+
+	/**
+	 * Determines if the recorder is enabled.
+	 * 
+	 * @return true if and only if the recorder is enabled
+	 */
+	public static boolean isEnabled() {
+		return Instrumentation.RECENT;
+	}
+
+	/**
+	 * Yields the recorded exceptions, from the oldest to the most recent.
+	 * 
+	 * @return the recorded exceptions; this is empty if the recorder is disabled
+	 */
+	public static List<Entry> snapshot() {
+		var result = new ArrayList<Entry>();
+		for (int pos = 0; pos < ENTRIES.length(); pos++) {
+			var entry = ENTRIES.get(pos);
+			if (entry != null)
+				result.add(entry);
+		}
+
+		result.sort(Comparator.comparingLong(entry -> entry.sequence));
+
+		return result;
+	}
+
+	/**
+	 * Prints the recorded exceptions, from the oldest to the most recent, one per line.
+	 * 
+	 * @param out the stream where the exceptions get printed
+	 */
+	public static void dump(PrintStream out) {
+		var entries = snapshot();
+		out.println("Recent exceptions: " + entries.size());
+		entries.forEach(out::println);
+		out.flush();
+	}
+
+	static void record(Kind kind, Throwable throwable) {
+		if (throwable != null && ENTRIES.length() > 0) {
+			long sequence = NEXT.getAndIncrement();
+			ENTRIES.set((int) (sequence & (ENTRIES.length() - 1)), new Entry(sequence, kind, throwable));
+		}
+	}
+}
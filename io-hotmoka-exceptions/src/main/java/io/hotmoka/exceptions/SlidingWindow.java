@@ -0,0 +1,110 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A counter of events in a sliding window of time. The window is split into
+ * buckets, that get recycled as time passes. Updates are lock-free, hence
+ * the count is approximated in case of concurrent recycling of a bucket.
+ */
+final class SlidingWindow {
+
+	/**
+	 * The duration of each bucket, in nanoseconds.
+	 */
+	private final long bucketNanos;
+
+	/**
+	 * The number of buckets.
+	 */
+	private final int buckets;
+
+	/**
+	 * The epoch of each bucket, that is, the index of the time slice that it is currently counting.
+	 */
+	private final AtomicLongArray epochs;
+
+	/**
+	 * The number of events in each bucket.
+	 */
+	private final AtomicLongArray counts;
+
+	/**
+	 * Creates a sliding window.
+	 * 
+	 * @param windowNanos the duration of the window, in nanoseconds
+	 * @param buckets the number of buckets the window is split into
+	 */
+	SlidingWindow(long windowNanos, int buckets) {
+		this.buckets = buckets;
+		this.bucketNanos = Math.max(1L, windowNanos / buckets);
+		this.epochs = new AtomicLongArray(buckets);
+		this.counts = new AtomicLongArray(buckets);
+
+		// no bucket is initially associated to a valid epoch
+		for (int pos = 0; pos < buckets; pos++)
+			epochs.set(pos, Long.MIN_VALUE);
+	}
+
+	/**
+	 * Records an event at the given time.
+	 * 
+	 * @param now the time of the event, as reported by {@link System#nanoTime()}
+	 */
+	void record(long now) {
+		long epoch = Math.floorDiv(now, bucketNanos);
+		int pos = Math.floorMod(epoch, buckets);
+		long old = epochs.get(pos);
+
+		// the first thread that sees an old bucket recycles it
+		if (old != epoch && epochs.compareAndSet(pos, old, epoch))
+			counts.set(pos, 0L);
+
+		counts.incrementAndGet(pos);
+	}
+
+	/**
+	 * Yields the number of events in the window that ends at the given time.
+	 * 
+	 * @param now the end of the window, as reported by {@link System#nanoTime()}
+	 * @return the number of events
+	 */
+	long count(long now) {
+		long epoch = Math.floorDiv(now, bucketNanos);
+		long total = 0L;
+
+		for (int pos = 0; pos < buckets; pos++) {
+			long age = epoch - epochs.get(pos);
+			if (age >= 0 && age < buckets)
+				total += counts.get(pos);
+		}
+
+		return total;
+	}
+
+	/**
+	 * Forgets all events recorded so far.
+	 */
+	void clear() {
+		for (int pos = 0; pos < buckets; pos++) {
+			epochs.set(pos, Long.MIN_VALUE);
+			counts.set(pos, 0L);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,1098 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import io.hotmoka.exceptions.functions.ComparatorWithExceptions;
+import io.hotmoka.exceptions.functions.ComparatorWithExceptions1;
+import io.hotmoka.exceptions.functions.ComparatorWithExceptions2;
+import io.hotmoka.exceptions.functions.ComparatorWithExceptions3;
+import io.hotmoka.exceptions.functions.ComparatorWithExceptions4;
+import io.hotmoka.exceptions.functions.ComparatorWithExceptions5;
+import io.hotmoka.exceptions.functions.ComparatorWithExceptions6;
+import io.hotmoka.exceptions.functions.ComparatorWithExceptions7;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions1;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions2;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions3;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions4;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions5;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions6;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions7;
+
+/**
+ * Methods that sort lists by keys whose extraction and comparison might throw exceptions.
+ * Lists are sorted by decorating their elements with their keys, computed exactly once per element,
+ * sorting the decorated elements and writing them back into the list.
+ */
+public abstract class Sorting {
+
+	private Sorting() {}
+
+	/**
+	 * An element of a list decorated with its key.
+	 * 
+	 * @param <T> the type of the element
+	 * @param <K> the type of the key
+	 */
+	private final static class Decorated<T, K> {
+		private final T element;
+		private final K key;
+
+		private Decorated(T element, K key) {
+			this.element = element;
+			this.key = key;
+		}
+	}
+
+	/**
+	 * Sorts the given list by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param list the list
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws Throwable if the key extractor or the comparator throws it
+	 */
+	public static <T, K> void sort(List<T> list, FunctionWithExceptions<? super T, ? extends K> key, ComparatorWithExceptions<? super K> comparator) throws Throwable {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		var unchecked = UncheckComparator.<K>uncheck(comparator);
+		CheckRunnable.check(Throwable.class, () -> Arrays.sort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the type of exceptions thrown by the key extractor or by the comparator
+	 * @param list the list
+	 * @param exception the exception tag of {@code E1}
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws E1 if the key extractor or the comparator throws it
+	 */
+	public static <T, K, E1 extends Throwable> void sort(List<T> list, Class<E1> exception, FunctionWithExceptions1<? super T, ? extends K, E1> key, ComparatorWithExceptions1<? super K, E1> comparator) throws E1 {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		var unchecked = UncheckComparator.<K, E1>uncheck(exception, comparator);
+		CheckRunnable.check(exception, () -> Arrays.sort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E2> the second type of exceptions thrown by the key extractor or by the comparator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws E1 if the key extractor or the comparator throws it
+	 * @throws E2 if the key extractor or the comparator throws it
+	 */
+	public static <T, K, E1 extends Throwable, E2 extends Throwable> void sort(List<T> list, Class<E1> exception1, Class<E2> exception2, FunctionWithExceptions2<? super T, ? extends K, E1, E2> key, ComparatorWithExceptions2<? super K, E1, E2> comparator) throws E1, E2 {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		var unchecked = UncheckComparator.<K, E1, E2>uncheck(exception1, exception2, comparator);
+		CheckRunnable.check(exception1, exception2, () -> Arrays.sort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E2> the second type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E3> the third type of exceptions thrown by the key extractor or by the comparator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws E1 if the key extractor or the comparator throws it
+	 * @throws E2 if the key extractor or the comparator throws it
+	 * @throws E3 if the key extractor or the comparator throws it
+	 */
+	public static <T, K, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> void sort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, FunctionWithExceptions3<? super T, ? extends K, E1, E2, E3> key, ComparatorWithExceptions3<? super K, E1, E2, E3> comparator) throws E1, E2, E3 {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		var unchecked = UncheckComparator.<K, E1, E2, E3>uncheck(exception1, exception2, exception3, comparator);
+		CheckRunnable.check(exception1, exception2, exception3, () -> Arrays.sort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E2> the second type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E3> the third type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor or by the comparator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws E1 if the key extractor or the comparator throws it
+	 * @throws E2 if the key extractor or the comparator throws it
+	 * @throws E3 if the key extractor or the comparator throws it
+	 * @throws E4 if the key extractor or the comparator throws it
+	 */
+	public static <T, K, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> void sort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, FunctionWithExceptions4<? super T, ? extends K, E1, E2, E3, E4> key, ComparatorWithExceptions4<? super K, E1, E2, E3, E4> comparator) throws E1, E2, E3, E4 {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		var unchecked = UncheckComparator.<K, E1, E2, E3, E4>uncheck(exception1, exception2, exception3, exception4, comparator);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, () -> Arrays.sort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E2> the second type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E3> the third type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E5> the fifth type of exceptions thrown by the key extractor or by the comparator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws E1 if the key extractor or the comparator throws it
+	 * @throws E2 if the key extractor or the comparator throws it
+	 * @throws E3 if the key extractor or the comparator throws it
+	 * @throws E4 if the key extractor or the comparator throws it
+	 * @throws E5 if the key extractor or the comparator throws it
+	 */
+	public static <T, K, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> void sort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, FunctionWithExceptions5<? super T, ? extends K, E1, E2, E3, E4, E5> key, ComparatorWithExceptions5<? super K, E1, E2, E3, E4, E5> comparator) throws E1, E2, E3, E4, E5 {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		var unchecked = UncheckComparator.<K, E1, E2, E3, E4, E5>uncheck(exception1, exception2, exception3, exception4, exception5, comparator);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, () -> Arrays.sort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E2> the second type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E3> the third type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E5> the fifth type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E6> the sixth type of exceptions thrown by the key extractor or by the comparator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws E1 if the key extractor or the comparator throws it
+	 * @throws E2 if the key extractor or the comparator throws it
+	 * @throws E3 if the key extractor or the comparator throws it
+	 * @throws E4 if the key extractor or the comparator throws it
+	 * @throws E5 if the key extractor or the comparator throws it
+	 * @throws E6 if the key extractor or the comparator throws it
+	 */
+	public static <T, K, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> void sort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, FunctionWithExceptions6<? super T, ? extends K, E1, E2, E3, E4, E5, E6> key, ComparatorWithExceptions6<? super K, E1, E2, E3, E4, E5, E6> comparator) throws E1, E2, E3, E4, E5, E6 {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		var unchecked = UncheckComparator.<K, E1, E2, E3, E4, E5, E6>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, comparator);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, () -> Arrays.sort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E2> the second type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E3> the third type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E5> the fifth type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E6> the sixth type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E7> the seventh type of exceptions thrown by the key extractor or by the comparator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws E1 if the key extractor or the comparator throws it
+	 * @throws E2 if the key extractor or the comparator throws it
+	 * @throws E3 if the key extractor or the comparator throws it
+	 * @throws E4 if the key extractor or the comparator throws it
+	 * @throws E5 if the key extractor or the comparator throws it
+	 * @throws E6 if the key extractor or the comparator throws it
+	 * @throws E7 if the key extractor or the comparator throws it
+	 */
+	public static <T, K, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> void sort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, FunctionWithExceptions7<? super T, ? extends K, E1, E2, E3, E4, E5, E6, E7> key, ComparatorWithExceptions7<? super K, E1, E2, E3, E4, E5, E6, E7> comparator) throws E1, E2, E3, E4, E5, E6, E7 {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		var unchecked = UncheckComparator.<K, E1, E2, E3, E4, E5, E6, E7>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, exception7, comparator);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, exception7, () -> Arrays.sort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param list the list
+	 * @param key the key extractor
+	 * @throws Throwable if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>> void sort(List<T> list, FunctionWithExceptions<? super T, ? extends K> key) throws Throwable {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		Arrays.sort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the type of exceptions thrown by the key extractor
+	 * @param list the list
+	 * @param exception the exception tag of {@code E1}
+	 * @param key the key extractor
+	 * @throws E1 if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>, E1 extends Throwable> void sort(List<T> list, Class<E1> exception, FunctionWithExceptions1<? super T, ? extends K, E1> key) throws E1 {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		Arrays.sort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor
+	 * @param <E2> the second type of exceptions thrown by the key extractor
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param key the key extractor
+	 * @throws E1 if the key extractor throws it
+	 * @throws E2 if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>, E1 extends Throwable, E2 extends Throwable> void sort(List<T> list, Class<E1> exception1, Class<E2> exception2, FunctionWithExceptions2<? super T, ? extends K, E1, E2> key) throws E1, E2 {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		Arrays.sort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor
+	 * @param <E2> the second type of exceptions thrown by the key extractor
+	 * @param <E3> the third type of exceptions thrown by the key extractor
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param key the key extractor
+	 * @throws E1 if the key extractor throws it
+	 * @throws E2 if the key extractor throws it
+	 * @throws E3 if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> void sort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, FunctionWithExceptions3<? super T, ? extends K, E1, E2, E3> key) throws E1, E2, E3 {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		Arrays.sort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor
+	 * @param <E2> the second type of exceptions thrown by the key extractor
+	 * @param <E3> the third type of exceptions thrown by the key extractor
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param key the key extractor
+	 * @throws E1 if the key extractor throws it
+	 * @throws E2 if the key extractor throws it
+	 * @throws E3 if the key extractor throws it
+	 * @throws E4 if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> void sort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, FunctionWithExceptions4<? super T, ? extends K, E1, E2, E3, E4> key) throws E1, E2, E3, E4 {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		Arrays.sort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor
+	 * @param <E2> the second type of exceptions thrown by the key extractor
+	 * @param <E3> the third type of exceptions thrown by the key extractor
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor
+	 * @param <E5> the fifth type of exceptions thrown by the key extractor
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param key the key extractor
+	 * @throws E1 if the key extractor throws it
+	 * @throws E2 if the key extractor throws it
+	 * @throws E3 if the key extractor throws it
+	 * @throws E4 if the key extractor throws it
+	 * @throws E5 if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> void sort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, FunctionWithExceptions5<? super T, ? extends K, E1, E2, E3, E4, E5> key) throws E1, E2, E3, E4, E5 {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		Arrays.sort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor
+	 * @param <E2> the second type of exceptions thrown by the key extractor
+	 * @param <E3> the third type of exceptions thrown by the key extractor
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor
+	 * @param <E5> the fifth type of exceptions thrown by the key extractor
+	 * @param <E6> the sixth type of exceptions thrown by the key extractor
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param key the key extractor
+	 * @throws E1 if the key extractor throws it
+	 * @throws E2 if the key extractor throws it
+	 * @throws E3 if the key extractor throws it
+	 * @throws E4 if the key extractor throws it
+	 * @throws E5 if the key extractor throws it
+	 * @throws E6 if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> void sort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, FunctionWithExceptions6<? super T, ? extends K, E1, E2, E3, E4, E5, E6> key) throws E1, E2, E3, E4, E5, E6 {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		Arrays.sort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor
+	 * @param <E2> the second type of exceptions thrown by the key extractor
+	 * @param <E3> the third type of exceptions thrown by the key extractor
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor
+	 * @param <E5> the fifth type of exceptions thrown by the key extractor
+	 * @param <E6> the sixth type of exceptions thrown by the key extractor
+	 * @param <E7> the seventh type of exceptions thrown by the key extractor
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param key the key extractor
+	 * @throws E1 if the key extractor throws it
+	 * @throws E2 if the key extractor throws it
+	 * @throws E3 if the key extractor throws it
+	 * @throws E4 if the key extractor throws it
+	 * @throws E5 if the key extractor throws it
+	 * @throws E6 if the key extractor throws it
+	 * @throws E7 if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> void sort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, FunctionWithExceptions7<? super T, ? extends K, E1, E2, E3, E4, E5, E6, E7> key) throws E1, E2, E3, E4, E5, E6, E7 {
+		var decorated = Sorting.<T, K>decorations(list.size());
+		int pos = 0;
+		for (T t: list)
+			decorated[pos++] = new Decorated<>(t, key.apply(t));
+
+		Arrays.sort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param list the list
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws Throwable if the key extractor or the comparator throws it
+	 */
+	public static <T, K> void parallelSort(List<T> list, FunctionWithExceptions<? super T, ? extends K> key, ComparatorWithExceptions<? super K> comparator) throws Throwable {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K>uncheck(key);
+		CheckRunnable.check(Throwable.class, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		var unchecked = UncheckComparator.<K>uncheck(comparator);
+		CheckRunnable.check(Throwable.class, () -> Arrays.parallelSort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the type of exceptions thrown by the key extractor or by the comparator
+	 * @param list the list
+	 * @param exception the exception tag of {@code E1}
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws E1 if the key extractor or the comparator throws it
+	 */
+	public static <T, K, E1 extends Throwable> void parallelSort(List<T> list, Class<E1> exception, FunctionWithExceptions1<? super T, ? extends K, E1> key, ComparatorWithExceptions1<? super K, E1> comparator) throws E1 {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K, E1>uncheck(exception, key);
+		CheckRunnable.check(exception, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		var unchecked = UncheckComparator.<K, E1>uncheck(exception, comparator);
+		CheckRunnable.check(exception, () -> Arrays.parallelSort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E2> the second type of exceptions thrown by the key extractor or by the comparator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws E1 if the key extractor or the comparator throws it
+	 * @throws E2 if the key extractor or the comparator throws it
+	 */
+	public static <T, K, E1 extends Throwable, E2 extends Throwable> void parallelSort(List<T> list, Class<E1> exception1, Class<E2> exception2, FunctionWithExceptions2<? super T, ? extends K, E1, E2> key, ComparatorWithExceptions2<? super K, E1, E2> comparator) throws E1, E2 {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K, E1, E2>uncheck(exception1, exception2, key);
+		CheckRunnable.check(exception1, exception2, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		var unchecked = UncheckComparator.<K, E1, E2>uncheck(exception1, exception2, comparator);
+		CheckRunnable.check(exception1, exception2, () -> Arrays.parallelSort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E2> the second type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E3> the third type of exceptions thrown by the key extractor or by the comparator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws E1 if the key extractor or the comparator throws it
+	 * @throws E2 if the key extractor or the comparator throws it
+	 * @throws E3 if the key extractor or the comparator throws it
+	 */
+	public static <T, K, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> void parallelSort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, FunctionWithExceptions3<? super T, ? extends K, E1, E2, E3> key, ComparatorWithExceptions3<? super K, E1, E2, E3> comparator) throws E1, E2, E3 {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K, E1, E2, E3>uncheck(exception1, exception2, exception3, key);
+		CheckRunnable.check(exception1, exception2, exception3, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		var unchecked = UncheckComparator.<K, E1, E2, E3>uncheck(exception1, exception2, exception3, comparator);
+		CheckRunnable.check(exception1, exception2, exception3, () -> Arrays.parallelSort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E2> the second type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E3> the third type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor or by the comparator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws E1 if the key extractor or the comparator throws it
+	 * @throws E2 if the key extractor or the comparator throws it
+	 * @throws E3 if the key extractor or the comparator throws it
+	 * @throws E4 if the key extractor or the comparator throws it
+	 */
+	public static <T, K, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> void parallelSort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, FunctionWithExceptions4<? super T, ? extends K, E1, E2, E3, E4> key, ComparatorWithExceptions4<? super K, E1, E2, E3, E4> comparator) throws E1, E2, E3, E4 {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K, E1, E2, E3, E4>uncheck(exception1, exception2, exception3, exception4, key);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		var unchecked = UncheckComparator.<K, E1, E2, E3, E4>uncheck(exception1, exception2, exception3, exception4, comparator);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, () -> Arrays.parallelSort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E2> the second type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E3> the third type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E5> the fifth type of exceptions thrown by the key extractor or by the comparator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws E1 if the key extractor or the comparator throws it
+	 * @throws E2 if the key extractor or the comparator throws it
+	 * @throws E3 if the key extractor or the comparator throws it
+	 * @throws E4 if the key extractor or the comparator throws it
+	 * @throws E5 if the key extractor or the comparator throws it
+	 */
+	public static <T, K, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> void parallelSort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, FunctionWithExceptions5<? super T, ? extends K, E1, E2, E3, E4, E5> key, ComparatorWithExceptions5<? super K, E1, E2, E3, E4, E5> comparator) throws E1, E2, E3, E4, E5 {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K, E1, E2, E3, E4, E5>uncheck(exception1, exception2, exception3, exception4, exception5, key);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		var unchecked = UncheckComparator.<K, E1, E2, E3, E4, E5>uncheck(exception1, exception2, exception3, exception4, exception5, comparator);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, () -> Arrays.parallelSort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E2> the second type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E3> the third type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E5> the fifth type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E6> the sixth type of exceptions thrown by the key extractor or by the comparator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws E1 if the key extractor or the comparator throws it
+	 * @throws E2 if the key extractor or the comparator throws it
+	 * @throws E3 if the key extractor or the comparator throws it
+	 * @throws E4 if the key extractor or the comparator throws it
+	 * @throws E5 if the key extractor or the comparator throws it
+	 * @throws E6 if the key extractor or the comparator throws it
+	 */
+	public static <T, K, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> void parallelSort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, FunctionWithExceptions6<? super T, ? extends K, E1, E2, E3, E4, E5, E6> key, ComparatorWithExceptions6<? super K, E1, E2, E3, E4, E5, E6> comparator) throws E1, E2, E3, E4, E5, E6 {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K, E1, E2, E3, E4, E5, E6>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, key);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		var unchecked = UncheckComparator.<K, E1, E2, E3, E4, E5, E6>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, comparator);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, () -> Arrays.parallelSort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the ordering of the keys of its elements induced by the given comparator.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor or the comparator throw an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E2> the second type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E3> the third type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E5> the fifth type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E6> the sixth type of exceptions thrown by the key extractor or by the comparator
+	 * @param <E7> the seventh type of exceptions thrown by the key extractor or by the comparator
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param key the key extractor
+	 * @param comparator the comparator of the keys
+	 * @throws E1 if the key extractor or the comparator throws it
+	 * @throws E2 if the key extractor or the comparator throws it
+	 * @throws E3 if the key extractor or the comparator throws it
+	 * @throws E4 if the key extractor or the comparator throws it
+	 * @throws E5 if the key extractor or the comparator throws it
+	 * @throws E6 if the key extractor or the comparator throws it
+	 * @throws E7 if the key extractor or the comparator throws it
+	 */
+	public static <T, K, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> void parallelSort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, FunctionWithExceptions7<? super T, ? extends K, E1, E2, E3, E4, E5, E6, E7> key, ComparatorWithExceptions7<? super K, E1, E2, E3, E4, E5, E6, E7> comparator) throws E1, E2, E3, E4, E5, E6, E7 {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K, E1, E2, E3, E4, E5, E6, E7>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, exception7, key);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, exception7, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		var unchecked = UncheckComparator.<K, E1, E2, E3, E4, E5, E6, E7>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, exception7, comparator);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, exception7, () -> Arrays.parallelSort(decorated, (d1, d2) -> unchecked.compare(d1.key, d2.key)));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param list the list
+	 * @param key the key extractor
+	 * @throws Throwable if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>> void parallelSort(List<T> list, FunctionWithExceptions<? super T, ? extends K> key) throws Throwable {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K>uncheck(key);
+		CheckRunnable.check(Throwable.class, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		Arrays.parallelSort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the type of exceptions thrown by the key extractor
+	 * @param list the list
+	 * @param exception the exception tag of {@code E1}
+	 * @param key the key extractor
+	 * @throws E1 if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>, E1 extends Throwable> void parallelSort(List<T> list, Class<E1> exception, FunctionWithExceptions1<? super T, ? extends K, E1> key) throws E1 {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K, E1>uncheck(exception, key);
+		CheckRunnable.check(exception, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		Arrays.parallelSort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor
+	 * @param <E2> the second type of exceptions thrown by the key extractor
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param key the key extractor
+	 * @throws E1 if the key extractor throws it
+	 * @throws E2 if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>, E1 extends Throwable, E2 extends Throwable> void parallelSort(List<T> list, Class<E1> exception1, Class<E2> exception2, FunctionWithExceptions2<? super T, ? extends K, E1, E2> key) throws E1, E2 {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K, E1, E2>uncheck(exception1, exception2, key);
+		CheckRunnable.check(exception1, exception2, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		Arrays.parallelSort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor
+	 * @param <E2> the second type of exceptions thrown by the key extractor
+	 * @param <E3> the third type of exceptions thrown by the key extractor
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param key the key extractor
+	 * @throws E1 if the key extractor throws it
+	 * @throws E2 if the key extractor throws it
+	 * @throws E3 if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> void parallelSort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, FunctionWithExceptions3<? super T, ? extends K, E1, E2, E3> key) throws E1, E2, E3 {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K, E1, E2, E3>uncheck(exception1, exception2, exception3, key);
+		CheckRunnable.check(exception1, exception2, exception3, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		Arrays.parallelSort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor
+	 * @param <E2> the second type of exceptions thrown by the key extractor
+	 * @param <E3> the third type of exceptions thrown by the key extractor
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param key the key extractor
+	 * @throws E1 if the key extractor throws it
+	 * @throws E2 if the key extractor throws it
+	 * @throws E3 if the key extractor throws it
+	 * @throws E4 if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> void parallelSort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, FunctionWithExceptions4<? super T, ? extends K, E1, E2, E3, E4> key) throws E1, E2, E3, E4 {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K, E1, E2, E3, E4>uncheck(exception1, exception2, exception3, exception4, key);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		Arrays.parallelSort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor
+	 * @param <E2> the second type of exceptions thrown by the key extractor
+	 * @param <E3> the third type of exceptions thrown by the key extractor
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor
+	 * @param <E5> the fifth type of exceptions thrown by the key extractor
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param key the key extractor
+	 * @throws E1 if the key extractor throws it
+	 * @throws E2 if the key extractor throws it
+	 * @throws E3 if the key extractor throws it
+	 * @throws E4 if the key extractor throws it
+	 * @throws E5 if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> void parallelSort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, FunctionWithExceptions5<? super T, ? extends K, E1, E2, E3, E4, E5> key) throws E1, E2, E3, E4, E5 {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K, E1, E2, E3, E4, E5>uncheck(exception1, exception2, exception3, exception4, exception5, key);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		Arrays.parallelSort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor
+	 * @param <E2> the second type of exceptions thrown by the key extractor
+	 * @param <E3> the third type of exceptions thrown by the key extractor
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor
+	 * @param <E5> the fifth type of exceptions thrown by the key extractor
+	 * @param <E6> the sixth type of exceptions thrown by the key extractor
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param key the key extractor
+	 * @throws E1 if the key extractor throws it
+	 * @throws E2 if the key extractor throws it
+	 * @throws E3 if the key extractor throws it
+	 * @throws E4 if the key extractor throws it
+	 * @throws E5 if the key extractor throws it
+	 * @throws E6 if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> void parallelSort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, FunctionWithExceptions6<? super T, ? extends K, E1, E2, E3, E4, E5, E6> key) throws E1, E2, E3, E4, E5, E6 {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K, E1, E2, E3, E4, E5, E6>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, key);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		Arrays.parallelSort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	/**
+	 * Sorts the given list in parallel by the natural ordering of the keys of its elements.
+	 * The key of each element is computed exactly once, in parallel. The sort is stable.
+	 * If the key extractor throws an exception, the list is not modified.
+	 * 
+	 * @param <T> the type of the elements of the list
+	 * @param <K> the type of the keys
+	 * @param <E1> the first type of exceptions thrown by the key extractor
+	 * @param <E2> the second type of exceptions thrown by the key extractor
+	 * @param <E3> the third type of exceptions thrown by the key extractor
+	 * @param <E4> the fourth type of exceptions thrown by the key extractor
+	 * @param <E5> the fifth type of exceptions thrown by the key extractor
+	 * @param <E6> the sixth type of exceptions thrown by the key extractor
+	 * @param <E7> the seventh type of exceptions thrown by the key extractor
+	 * @param list the list
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param key the key extractor
+	 * @throws E1 if the key extractor throws it
+	 * @throws E2 if the key extractor throws it
+	 * @throws E3 if the key extractor throws it
+	 * @throws E4 if the key extractor throws it
+	 * @throws E5 if the key extractor throws it
+	 * @throws E6 if the key extractor throws it
+	 * @throws E7 if the key extractor throws it
+	 */
+	public static <T, K extends Comparable<? super K>, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> void parallelSort(List<T> list, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, FunctionWithExceptions7<? super T, ? extends K, E1, E2, E3, E4, E5, E6, E7> key) throws E1, E2, E3, E4, E5, E6, E7 {
+		var elements = list.toArray();
+		var decorated = Sorting.<T, K>decorations(elements.length);
+		var extractor = UncheckFunction.<T, K, E1, E2, E3, E4, E5, E6, E7>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, exception7, key);
+		CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, exception7, () -> IntStream.range(0, elements.length).parallel().forEach(pos -> decorated[pos] = decorate(elements[pos], extractor)));
+
+		Arrays.parallelSort(decorated, (d1, d2) -> d1.key.compareTo(d2.key));
+		undecorate(list, decorated);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T, K> Decorated<T, K>[] decorations(int length) {
+		return (Decorated<T, K>[]) new Decorated<?, ?>[length];
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T, K> Decorated<T, K> decorate(Object element, Function<? super T, ? extends K> key) {
+		return new Decorated<>((T) element, key.apply((T) element));
+	}
+
+	/**
+	 * Writes the decorated elements back into the given list, in order.
+	 */
+	private static <T, K> void undecorate(List<T> list, Decorated<T, K>[] decorated) {
+		var it = list.listIterator();
+		for (var d: decorated) {
+			it.next();
+			it.set(d.element);
+		}
+	}
+}
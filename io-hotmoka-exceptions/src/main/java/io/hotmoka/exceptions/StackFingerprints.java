@@ -0,0 +1,68 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+/**
+ * A computer of fingerprints of exceptions. The fingerprint of an exception is a hash
+ * of its class and of the topmost frames of its stack trace, hence exceptions of the same class
+ * thrown at the same program point have the same fingerprint.
+ */
+final class StackFingerprints {
+
+	/**
+	 * The default number of topmost frames that contribute to a fingerprint.
+	 */
+	final static int DEFAULT_FRAMES = 8;
+
+	private StackFingerprints() {}
+
+	/**
+	 * Yields the fingerprint of the given exception.
+	 * 
+	 * @param throwable the exception
+	 * @param frames the number of topmost frames of the stack trace that contribute to the fingerprint
+	 * @return the fingerprint
+	 */
+	static long of(Throwable throwable, int frames) {
+		long hash = throwable.getClass().getName().hashCode();
+		if (frames == 0)
+			return mix(hash);
+
+		var trace = throwable.getStackTrace();
+
+		for (int pos = 0, length = Math.min(frames, trace.length); pos < length; pos++) {
+			var element = trace[pos];
+			hash = 31L * hash + element.getClassName().hashCode();
+			hash = 31L * hash + element.getMethodName().hashCode();
+			hash = 31L * hash + element.getLineNumber();
+		}
+
+		return mix(hash);
+	}
+
+	/**
+	 * The finalizer of the 64 bits MurmurHash3, that spreads the bits of a hash.
+	 */
+	static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
\ No newline at end of file
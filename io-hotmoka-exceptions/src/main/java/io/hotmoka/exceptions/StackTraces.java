@@ -0,0 +1,131 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.lang.StackWalker.StackFrame;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The policy for the stack traces of the {@link UncheckedException}s. It is selected by starting
+ * the JVM with {@code -Dio.hotmoka.exceptions.stackTraces=full|none|sampled}:
+ * <ul>
+ * <li>{@code full} (the default): the stack trace is captured in full, as for any other exception;</li>
+ * <li>{@code none}: no stack trace is captured, which makes wrapping much cheaper;</li>
+ * <li>{@code sampled}: the stack trace is captured for only one out of each
+ *     {@code -Dio.hotmoka.exceptions.stackTraces.sampling=N} wrapped exceptions (100 by default)
+ *     of the same call site; the captured trace is trimmed to its topmost
+ *     {@code -Dio.hotmoka.exceptions.stackTraces.frames=K} frames (32 by default), after
+ *     the removal of the frames of the classes of package {@code io.hotmoka.exceptions}, but not of its
+ *     subpackages, and of the stream library of the JDK.</li>
+ * </ul>
+ * The call site of a wrapped exception is identified by the class of the functional interface
+ * that threw it: for a lambda expression, this is distinct for each lambda expression in the code.
+ */
+final class StackTraces {
+
+	/**
+	 * The system property that selects the policy.
+	 */
+	private final static String POLICY_PROPERTY = "io.hotmoka.exceptions.stackTraces";
+
+	/**
+	 * The selected policy.
+	 */
+	private final static String POLICY = System.getProperty(POLICY_PROPERTY, "full");
+
+	/**
+	 * True if and only if stack traces are captured in full.
+	 */
+	final static boolean FULL = !"none".equals(POLICY) && !"sampled".equals(POLICY);
+
+	/**
+	 * True if and only if stack traces are sampled.
+	 */
+	final static boolean SAMPLED = "sampled".equals(POLICY);
+
+	/**
+	 * One out of this number of wrapped exceptions of the same call site gets its stack trace captured.
+	 */
+	private final static long SAMPLING = Math.max(1, Integer.getInteger(POLICY_PROPERTY + ".sampling", 100));
+
+	/**
+	 * The maximal number of frames in a sampled stack trace.
+	 */
+	private final static int FRAMES = Math.max(1, Integer.getInteger(POLICY_PROPERTY + ".frames", 32));
+
+	/**
+	 * The prefix of the names of the classes of this library.
+	 */
+	private final static String LIBRARY_PACKAGE = StackTraces.class.getPackageName() + ".";
+
+	/**
+	 * The stack walker used to capture the sampled stack traces.
+	 */
+	private final static StackWalker WALKER = StackWalker.getInstance();
+
+	/**
+	 * The number of wrapped exceptions met so far for each call site.
+	 */
+	private final static ClassValue<AtomicLong> COUNTERS = new ClassValue<>() {
+
+		@Override
+		protected AtomicLong computeValue(Class<?> site) {
+			return new AtomicLong();
+		}
+	};
+
+	private StackTraces() {}
+
+	/**
+	 * Determines if the stack trace of an exception wrapped at the given call site must be captured.
+	 * 
+	 * @param site the class that identifies the call site
+	 * @return true if and only if the stack trace must be captured
+	 */
+	static boolean sample(Class<?> site) {
+		return COUNTERS.get(site).getAndIncrement() % SAMPLING == 0L;
+	}
+
+	/**
+	 * Captures the trimmed stack trace of the current thread.
+	 * 
+	 * @return the trimmed stack trace
+	 */
+	static StackTraceElement[] capture() {
+		return WALKER.walk(frames -> frames
+			.filter(StackTraces::isRelevant)
+			.limit(FRAMES)
+			.map(StackFrame::toStackTraceElement)
+			.toArray(StackTraceElement[]::new));
+	}
+
+	private static boolean isRelevant(StackFrame frame) {
+		var className = frame.getClassName();
+
+		return !(isLibrary(className)
+			|| className.startsWith("java.util.stream.")
+			|| (className.startsWith("java.util.") && className.contains("Spliterator")));
+	}
+
+	/**
+	 * Determines if the given class belongs to the package of this library. Classes in its
+	 * subpackages, such as the tests of the library, do not belong to the library.
+	 */
+	private static boolean isLibrary(String className) {
+		return className.startsWith(LIBRARY_PACKAGE) && className.indexOf('.', LIBRARY_PACKAGE.length()) < 0;
+	}
+}
@@ -0,0 +1,610 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import io.hotmoka.exceptions.functions.SupplierWithExceptions;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions1;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions2;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions3;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions4;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions5;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions6;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions7;
+
+/**
+ * Methods that call a supplier with exceptions with a timeout. The supplier runs in the thread
+ * of the caller and keeps its own exceptions. If the timeout expires, the thread gets interrupted,
+ * so that the supplier can stop as soon as possible, and the call throws a timeout exception.
+ * A checked exception thrown by the supplier after the expiration, typically an {@link InterruptedException},
+ * is added as suppressed to the timeout exception, while errors and unchecked exceptions are propagated.
+ * All timeouts are served by a single, shared, hashed timer wheel, with a resolution of one millisecond.
+ */
+public abstract class Timeouts {
+
+	private Timeouts() {}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * a {@link TimeoutException}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param timeout the timeout
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws TimeoutException if the timeout expires
+	 * @throws Throwable if the supplier throws it
+	 */
+	public static <R> R call(Duration timeout, SupplierWithExceptions<? extends R> supplier) throws Throwable {
+		return call(timeout, TimeoutException::new, supplier);
+	}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * an exception built by {@code onTimeout}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E> the type of the exception thrown if the timeout expires
+	 * @param timeout the timeout
+	 * @param onTimeout the generator of the exception thrown if the timeout expires
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if the timeout expires
+	 * @throws Throwable if the supplier throws it
+	 */
+	public static <R, E extends Exception> R call(Duration timeout, ExceptionSupplierFromMessage<? extends E> onTimeout, SupplierWithExceptions<? extends R> supplier) throws Throwable {
+		var deadline = TimerWheel.get().schedule(timeout);
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			if (deadline.cancel())
+				throw t;
+			else
+				throw expired(timeout, onTimeout, t);
+		}
+
+		if (deadline.cancel())
+			return result;
+		else
+			throw expired(timeout, onTimeout, null);
+	}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * a {@link TimeoutException}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the type of exceptions thrown by the supplier
+	 * @param timeout the timeout
+	 * @param exception the exception tag of {@code E1}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws TimeoutException if the timeout expires
+	 * @throws E1 if the supplier throws it
+	 */
+	public static <R, E1 extends Throwable> R call(Duration timeout, Class<E1> exception, SupplierWithExceptions1<? extends R, E1> supplier) throws TimeoutException, E1 {
+		return call(timeout, TimeoutException::new, exception, supplier);
+	}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * an exception built by {@code onTimeout}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E> the type of the exception thrown if the timeout expires
+	 * @param <E1> the type of exceptions thrown by the supplier
+	 * @param timeout the timeout
+	 * @param onTimeout the generator of the exception thrown if the timeout expires
+	 * @param exception the exception tag of {@code E1}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if the timeout expires
+	 * @throws E1 if the supplier throws it
+	 */
+	public static <R, E extends Exception, E1 extends Throwable> R call(Duration timeout, ExceptionSupplierFromMessage<? extends E> onTimeout, Class<E1> exception, SupplierWithExceptions1<? extends R, E1> supplier) throws E, E1 {
+		var deadline = TimerWheel.get().schedule(timeout);
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			if (deadline.cancel())
+				throw t;
+			else
+				throw expired(timeout, onTimeout, t);
+		}
+
+		if (deadline.cancel())
+			return result;
+		else
+			throw expired(timeout, onTimeout, null);
+	}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * a {@link TimeoutException}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param timeout the timeout
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws TimeoutException if the timeout expires
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 */
+	public static <R, E1 extends Throwable, E2 extends Throwable> R call(Duration timeout, Class<E1> exception1, Class<E2> exception2, SupplierWithExceptions2<? extends R, E1, E2> supplier) throws TimeoutException, E1, E2 {
+		return call(timeout, TimeoutException::new, exception1, exception2, supplier);
+	}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * an exception built by {@code onTimeout}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E> the type of the exception thrown if the timeout expires
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param timeout the timeout
+	 * @param onTimeout the generator of the exception thrown if the timeout expires
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if the timeout expires
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 */
+	public static <R, E extends Exception, E1 extends Throwable, E2 extends Throwable> R call(Duration timeout, ExceptionSupplierFromMessage<? extends E> onTimeout, Class<E1> exception1, Class<E2> exception2, SupplierWithExceptions2<? extends R, E1, E2> supplier) throws E, E1, E2 {
+		var deadline = TimerWheel.get().schedule(timeout);
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			if (deadline.cancel())
+				throw t;
+			else
+				throw expired(timeout, onTimeout, t);
+		}
+
+		if (deadline.cancel())
+			return result;
+		else
+			throw expired(timeout, onTimeout, null);
+	}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * a {@link TimeoutException}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param timeout the timeout
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws TimeoutException if the timeout expires
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 * @throws E3 if the supplier throws it
+	 */
+	public static <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> R call(Duration timeout, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, SupplierWithExceptions3<? extends R, E1, E2, E3> supplier) throws TimeoutException, E1, E2, E3 {
+		return call(timeout, TimeoutException::new, exception1, exception2, exception3, supplier);
+	}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * an exception built by {@code onTimeout}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E> the type of the exception thrown if the timeout expires
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param timeout the timeout
+	 * @param onTimeout the generator of the exception thrown if the timeout expires
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if the timeout expires
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 * @throws E3 if the supplier throws it
+	 */
+	public static <R, E extends Exception, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> R call(Duration timeout, ExceptionSupplierFromMessage<? extends E> onTimeout, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, SupplierWithExceptions3<? extends R, E1, E2, E3> supplier) throws E, E1, E2, E3 {
+		var deadline = TimerWheel.get().schedule(timeout);
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			if (deadline.cancel())
+				throw t;
+			else
+				throw expired(timeout, onTimeout, t);
+		}
+
+		if (deadline.cancel())
+			return result;
+		else
+			throw expired(timeout, onTimeout, null);
+	}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * a {@link TimeoutException}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param timeout the timeout
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws TimeoutException if the timeout expires
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 * @throws E3 if the supplier throws it
+	 * @throws E4 if the supplier throws it
+	 */
+	public static <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> R call(Duration timeout, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, SupplierWithExceptions4<? extends R, E1, E2, E3, E4> supplier) throws TimeoutException, E1, E2, E3, E4 {
+		return call(timeout, TimeoutException::new, exception1, exception2, exception3, exception4, supplier);
+	}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * an exception built by {@code onTimeout}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E> the type of the exception thrown if the timeout expires
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param timeout the timeout
+	 * @param onTimeout the generator of the exception thrown if the timeout expires
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if the timeout expires
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 * @throws E3 if the supplier throws it
+	 * @throws E4 if the supplier throws it
+	 */
+	public static <R, E extends Exception, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> R call(Duration timeout, ExceptionSupplierFromMessage<? extends E> onTimeout, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, SupplierWithExceptions4<? extends R, E1, E2, E3, E4> supplier) throws E, E1, E2, E3, E4 {
+		var deadline = TimerWheel.get().schedule(timeout);
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			if (deadline.cancel())
+				throw t;
+			else
+				throw expired(timeout, onTimeout, t);
+		}
+
+		if (deadline.cancel())
+			return result;
+		else
+			throw expired(timeout, onTimeout, null);
+	}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * a {@link TimeoutException}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param <E5> the fifth type of exceptions thrown by the supplier
+	 * @param timeout the timeout
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws TimeoutException if the timeout expires
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 * @throws E3 if the supplier throws it
+	 * @throws E4 if the supplier throws it
+	 * @throws E5 if the supplier throws it
+	 */
+	public static <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> R call(Duration timeout, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, SupplierWithExceptions5<? extends R, E1, E2, E3, E4, E5> supplier) throws TimeoutException, E1, E2, E3, E4, E5 {
+		return call(timeout, TimeoutException::new, exception1, exception2, exception3, exception4, exception5, supplier);
+	}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * an exception built by {@code onTimeout}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E> the type of the exception thrown if the timeout expires
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param <E5> the fifth type of exceptions thrown by the supplier
+	 * @param timeout the timeout
+	 * @param onTimeout the generator of the exception thrown if the timeout expires
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if the timeout expires
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 * @throws E3 if the supplier throws it
+	 * @throws E4 if the supplier throws it
+	 * @throws E5 if the supplier throws it
+	 */
+	public static <R, E extends Exception, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> R call(Duration timeout, ExceptionSupplierFromMessage<? extends E> onTimeout, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, SupplierWithExceptions5<? extends R, E1, E2, E3, E4, E5> supplier) throws E, E1, E2, E3, E4, E5 {
+		var deadline = TimerWheel.get().schedule(timeout);
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			if (deadline.cancel())
+				throw t;
+			else
+				throw expired(timeout, onTimeout, t);
+		}
+
+		if (deadline.cancel())
+			return result;
+		else
+			throw expired(timeout, onTimeout, null);
+	}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * a {@link TimeoutException}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param <E5> the fifth type of exceptions thrown by the supplier
+	 * @param <E6> the sixth type of exceptions thrown by the supplier
+	 * @param timeout the timeout
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws TimeoutException if the timeout expires
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 * @throws E3 if the supplier throws it
+	 * @throws E4 if the supplier throws it
+	 * @throws E5 if the supplier throws it
+	 * @throws E6 if the supplier throws it
+	 */
+	public static <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> R call(Duration timeout, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, SupplierWithExceptions6<? extends R, E1, E2, E3, E4, E5, E6> supplier) throws TimeoutException, E1, E2, E3, E4, E5, E6 {
+		return call(timeout, TimeoutException::new, exception1, exception2, exception3, exception4, exception5, exception6, supplier);
+	}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * an exception built by {@code onTimeout}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E> the type of the exception thrown if the timeout expires
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param <E5> the fifth type of exceptions thrown by the supplier
+	 * @param <E6> the sixth type of exceptions thrown by the supplier
+	 * @param timeout the timeout
+	 * @param onTimeout the generator of the exception thrown if the timeout expires
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if the timeout expires
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 * @throws E3 if the supplier throws it
+	 * @throws E4 if the supplier throws it
+	 * @throws E5 if the supplier throws it
+	 * @throws E6 if the supplier throws it
+	 */
+	public static <R, E extends Exception, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> R call(Duration timeout, ExceptionSupplierFromMessage<? extends E> onTimeout, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, SupplierWithExceptions6<? extends R, E1, E2, E3, E4, E5, E6> supplier) throws E, E1, E2, E3, E4, E5, E6 {
+		var deadline = TimerWheel.get().schedule(timeout);
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			if (deadline.cancel())
+				throw t;
+			else
+				throw expired(timeout, onTimeout, t);
+		}
+
+		if (deadline.cancel())
+			return result;
+		else
+			throw expired(timeout, onTimeout, null);
+	}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * a {@link TimeoutException}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param <E5> the fifth type of exceptions thrown by the supplier
+	 * @param <E6> the sixth type of exceptions thrown by the supplier
+	 * @param <E7> the seventh type of exceptions thrown by the supplier
+	 * @param timeout the timeout
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws TimeoutException if the timeout expires
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 * @throws E3 if the supplier throws it
+	 * @throws E4 if the supplier throws it
+	 * @throws E5 if the supplier throws it
+	 * @throws E6 if the supplier throws it
+	 * @throws E7 if the supplier throws it
+	 */
+	public static <R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> R call(Duration timeout, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, SupplierWithExceptions7<? extends R, E1, E2, E3, E4, E5, E6, E7> supplier) throws TimeoutException, E1, E2, E3, E4, E5, E6, E7 {
+		return call(timeout, TimeoutException::new, exception1, exception2, exception3, exception4, exception5, exception6, exception7, supplier);
+	}
+
+	/**
+	 * Calls the given supplier in the current thread, with a timeout. If the timeout expires
+	 * before the supplier completes, the current thread gets interrupted and the call throws
+	 * an exception built by {@code onTimeout}.
+	 * 
+	 * @param <R> the type of the supplied value
+	 * @param <E> the type of the exception thrown if the timeout expires
+	 * @param <E1> the first type of exceptions thrown by the supplier
+	 * @param <E2> the second type of exceptions thrown by the supplier
+	 * @param <E3> the third type of exceptions thrown by the supplier
+	 * @param <E4> the fourth type of exceptions thrown by the supplier
+	 * @param <E5> the fifth type of exceptions thrown by the supplier
+	 * @param <E6> the sixth type of exceptions thrown by the supplier
+	 * @param <E7> the seventh type of exceptions thrown by the supplier
+	 * @param timeout the timeout
+	 * @param onTimeout the generator of the exception thrown if the timeout expires
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param supplier the supplier
+	 * @return the value supplied by {@code supplier}
+	 * @throws E if the timeout expires
+	 * @throws E1 if the supplier throws it
+	 * @throws E2 if the supplier throws it
+	 * @throws E3 if the supplier throws it
+	 * @throws E4 if the supplier throws it
+	 * @throws E5 if the supplier throws it
+	 * @throws E6 if the supplier throws it
+	 * @throws E7 if the supplier throws it
+	 */
+	public static <R, E extends Exception, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> R call(Duration timeout, ExceptionSupplierFromMessage<? extends E> onTimeout, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, SupplierWithExceptions7<? extends R, E1, E2, E3, E4, E5, E6, E7> supplier) throws E, E1, E2, E3, E4, E5, E6, E7 {
+		var deadline = TimerWheel.get().schedule(timeout);
+		R result;
+
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable t) {
+			if (deadline.cancel())
+				throw t;
+			else
+				throw expired(timeout, onTimeout, t);
+		}
+
+		if (deadline.cancel())
+			return result;
+		else
+			throw expired(timeout, onTimeout, null);
+	}
+
+	private static <E extends Exception> E expired(Duration timeout, ExceptionSupplierFromMessage<? extends E> onTimeout, Throwable failure) {
+		// only checked exceptions, possibly wrapped, are hidden by the timeout: they typically derive from the interruption
+		if (failure instanceof Error)
+			throw (Error) failure;
+		else if (failure instanceof RuntimeException && !(failure instanceof UncheckedException))
+			throw (RuntimeException) failure;
+
+		E exception = onTimeout.apply("Timeout expired after " + timeout.toMillis() + "ms");
+		if (failure != null)
+			exception.addSuppressed(failure);
+
+		return exception;
+	}
+}
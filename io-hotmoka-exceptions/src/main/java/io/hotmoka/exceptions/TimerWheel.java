@@ -0,0 +1,303 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timer wheel that interrupts threads whose deadline expires.
+ * A single daemon thread serves all deadlines: scheduling a deadline allocates
+ * just the deadline itself and pushes it, lock-free, into a stack of pending deadlines,
+ * that the thread of the wheel moves into the buckets of the wheel at each tick.
+ */
+final class TimerWheel {
+
+	/**
+	 * The shared wheel, started lazily.
+	 */
+	private static class Holder {
+		private final static TimerWheel INSTANCE = new TimerWheel(TimeUnit.MILLISECONDS.toNanos(1L), 512);
+	}
+
+	/**
+	 * The maximal delay of a deadline, in nanoseconds (about 73 years). Longer delays are
+	 * clamped to this value, so that the arithmetic on the expiration times cannot overflow.
+	 */
+	private final static long MAX_DELAY_NANOS = Long.MAX_VALUE / 4;
+
+	/**
+	 * The duration of a tick, in nanoseconds. This is the resolution of the wheel.
+	 */
+	private final long tickNanos;
+
+	/**
+	 * The buckets of the wheel. Each is a doubly-linked list of deadlines.
+	 * They are only accessed by the thread of the wheel.
+	 */
+	private final Deadline[] buckets;
+
+	/**
+	 * The mask used to select a bucket from a tick.
+	 */
+	private final int mask;
+
+	/**
+	 * The deadlines scheduled but not yet moved into the buckets, linked through {@link Deadline#nextPending}.
+	 */
+	private final AtomicReference<Deadline> pending = new AtomicReference<>();
+
+	/**
+	 * The time when the wheel started, as reported by {@link System#nanoTime()}.
+	 */
+	private final long start;
+
+	/**
+	 * The thread of the wheel.
+	 */
+	private final Thread thread;
+
+	/**
+	 * True if the thread of the wheel is parked with no deadline to serve.
+	 */
+	private volatile boolean idle;
+
+	/**
+	 * The number of deadlines in the buckets. Only accessed by the thread of the wheel.
+	 */
+	private int size;
+
+	/**
+	 * The next tick to process. Only accessed by the thread of the wheel.
+	 */
+	private long tick;
+
+	private TimerWheel(long tickNanos, int wheelSize) {
+		this.tickNanos = tickNanos;
+		this.buckets = new Deadline[wheelSize]; // wheelSize must be a power of two
+		this.mask = wheelSize - 1;
+		this.start = System.nanoTime();
+		this.thread = new Thread(this::run, "io-hotmoka-exceptions-timer");
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	/**
+	 * Yields the shared timer wheel.
+	 * 
+	 * @return the shared timer wheel
+	 */
+	static TimerWheel get() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Schedules the interruption of the current thread after the given delay.
+	 * The resulting deadline must be eventually cancelled with {@link Deadline#cancel()}.
+	 * 
+	 * @param delay the delay; negative delays are treated as zero and very long delays
+	 *              are clamped to a maximal horizon of about 73 years
+	 * @return the deadline
+	 */
+	Deadline schedule(Duration delay) {
+		long delayNanos;
+
+		try {
+			delayNanos = delay.toNanos();
+		}
+		catch (ArithmeticException e) {
+			delayNanos = delay.isNegative() ? 0L : MAX_DELAY_NANOS;
+		}
+
+		// the expiration is relative to the start of the wheel, hence it cannot overflow
+		long expiration = System.nanoTime() - start + Math.min(Math.max(0L, delayNanos), MAX_DELAY_NANOS);
+		var deadline = new Deadline(Thread.currentThread(), expiration);
+
+		Deadline head;
+		do {
+			head = pending.get();
+			deadline.nextPending = head;
+		}
+		while (!pending.compareAndSet(head, deadline));
+
+		if (idle)
+			LockSupport.unpark(thread);
+
+		return deadline;
+	}
+
+	private void run() {
+		while (true) {
+			long now = System.nanoTime();
+			long currentTick = (now - start) / tickNanos;
+
+			// if nothing is scheduled, there is no need to process the intermediate ticks
+			if (size == 0)
+				tick = Math.max(tick, currentTick);
+
+			while (tick <= currentTick) {
+				transferPending();
+				expire(tick++);
+			}
+
+			transferPending();
+
+			if (size == 0) {
+				idle = true;
+				if (pending.get() == null)
+					LockSupport.park(this);
+
+				idle = false;
+			}
+			else
+				LockSupport.parkNanos(this, start + tick * tickNanos - System.nanoTime());
+		}
+	}
+
+	private void transferPending() {
+		for (var deadline = pending.getAndSet(null); deadline != null; ) {
+			var next = deadline.nextPending;
+			deadline.nextPending = null;
+
+			if (!deadline.isDone()) {
+				long expiration = Math.max(tick, (deadline.expiration + tickNanos - 1) / tickNanos);
+				deadline.rounds = (expiration - tick) / buckets.length;
+				add(deadline, (int) (expiration & mask));
+			}
+
+			deadline = next;
+		}
+	}
+
+	private void expire(long tick) {
+		int pos = (int) (tick & mask);
+
+		for (var deadline = buckets[pos]; deadline != null; ) {
+			var next = deadline.next;
+
+			if (deadline.isDone())
+				remove(deadline, pos);
+			else if (deadline.rounds <= 0) {
+				remove(deadline, pos);
+				deadline.expire();
+			}
+			else
+				deadline.rounds--;
+
+			deadline = next;
+		}
+	}
+
+	private void add(Deadline deadline, int pos) {
+		var head = buckets[pos];
+		deadline.next = head;
+		if (head != null)
+			head.previous = deadline;
+
+		buckets[pos] = deadline;
+		size++;
+	}
+
+	private void remove(Deadline deadline, int pos) {
+		if (deadline.previous != null)
+			deadline.previous.next = deadline.next;
+		else
+			buckets[pos] = deadline.next;
+
+		if (deadline.next != null)
+			deadline.next.previous = deadline.previous;
+
+		deadline.next = deadline.previous = null;
+		size--;
+	}
+
+	/**
+	 * A deadline for a thread, that gets interrupted if the deadline expires before being cancelled.
+	 */
+	final static class Deadline {
+		private final static int PENDING = 0, DONE = 1, EXPIRING = 2, EXPIRED = 3;
+		private final static VarHandle STATE;
+
+		static {
+			try {
+				STATE = MethodHandles.lookup().findVarHandle(Deadline.class, "state", int.class);
+			}
+			catch (NoSuchFieldException | IllegalAccessException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		private final Thread thread;
+
+		/**
+		 * The time of expiration, in nanoseconds from the start of the wheel.
+		 */
+		private final long expiration;
+
+		private volatile int state;
+
+		/**
+		 * True if the thread was already interrupted when the deadline expired. Written before
+		 * the state becomes {@code EXPIRED}, hence visible to {@link #cancel()} after that.
+		 */
+		private boolean wasInterrupted;
+		private Deadline nextPending, next, previous;
+		private long rounds;
+
+		private Deadline(Thread thread, long expiration) {
+			this.thread = thread;
+			this.expiration = expiration;
+		}
+
+		private boolean isDone() {
+			return state == DONE;
+		}
+
+		private void expire() {
+			if (STATE.compareAndSet(this, PENDING, EXPIRING)) {
+				wasInterrupted = thread.isInterrupted();
+				thread.interrupt();
+				state = EXPIRED;
+			}
+		}
+
+		/**
+		 * Cancels this deadline. This must be called by the same thread that scheduled the deadline.
+		 * If the deadline already expired, this method clears the interrupted status of the thread
+		 * that was set by the expiration, unless the thread was already interrupted at expiration time.
+		 * 
+		 * @return true if the deadline was cancelled in time, false if it already expired
+		 */
+		boolean cancel() {
+			if (STATE.compareAndSet(this, PENDING, DONE))
+				return true;
+
+			while (state == EXPIRING)
+				Thread.onSpinWait();
+
+			// only the interruption of the wheel is cleared: an interruption from elsewhere is kept
+			if (!wasInterrupted)
+				Thread.interrupted();
+
+			return false;
+		}
+	}
+}
\ No newline at end of file
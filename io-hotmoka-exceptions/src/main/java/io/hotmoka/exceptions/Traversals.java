@@ -0,0 +1,619 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions1;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions2;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions3;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions4;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions5;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions6;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions7;
+
+/**
+ * Methods that traverse iterables and streams with a body that might throw exceptions
+ * and might stop the traversal early, as soon as it finds its result. Stopping a traversal
+ * does not allocate an exception, since it throws a shared control-flow signal, without stack trace.
+ * Traversals can be nested: the body of an inner traversal
+ * can stop an outer traversal, through the {@link Exit} of the latter.
+ */
+public abstract class Traversals {
+
+	private Traversals() {}
+
+	/**
+	 * Applies the given body to each element of the given iterable, in order.
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param iterable the iterable
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws Throwable if the body throws it
+	 */
+	public static <T, R> Optional<R> forEach(Iterable<? extends T> iterable, BiConsumerWithExceptions<? super T, ? super Exit<R>> body) throws Throwable {
+		var exit = new Exit<R>();
+
+		try {
+			for (T t: iterable)
+				body.accept(t, exit);
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Applies the given body to each element of the given iterable, in order.
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param <E1> the type of exceptions thrown by the body
+	 * @param iterable the iterable
+	 * @param exception the exception tag of {@code E1}
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws E1 if the body throws it
+	 */
+	public static <T, R, E1 extends Throwable> Optional<R> forEach(Iterable<? extends T> iterable, Class<E1> exception, BiConsumerWithExceptions1<? super T, ? super Exit<R>, E1> body) throws E1 {
+		var exit = new Exit<R>();
+
+		try {
+			for (T t: iterable)
+				body.accept(t, exit);
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Applies the given body to each element of the given iterable, in order.
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param <E1> the first type of exceptions thrown by the body
+	 * @param <E2> the second type of exceptions thrown by the body
+	 * @param iterable the iterable
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws E1 if the body throws it
+	 * @throws E2 if the body throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable> Optional<R> forEach(Iterable<? extends T> iterable, Class<E1> exception1, Class<E2> exception2, BiConsumerWithExceptions2<? super T, ? super Exit<R>, E1, E2> body) throws E1, E2 {
+		var exit = new Exit<R>();
+
+		try {
+			for (T t: iterable)
+				body.accept(t, exit);
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Applies the given body to each element of the given iterable, in order.
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param <E1> the first type of exceptions thrown by the body
+	 * @param <E2> the second type of exceptions thrown by the body
+	 * @param <E3> the third type of exceptions thrown by the body
+	 * @param iterable the iterable
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws E1 if the body throws it
+	 * @throws E2 if the body throws it
+	 * @throws E3 if the body throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> Optional<R> forEach(Iterable<? extends T> iterable, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, BiConsumerWithExceptions3<? super T, ? super Exit<R>, E1, E2, E3> body) throws E1, E2, E3 {
+		var exit = new Exit<R>();
+
+		try {
+			for (T t: iterable)
+				body.accept(t, exit);
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Applies the given body to each element of the given iterable, in order.
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param <E1> the first type of exceptions thrown by the body
+	 * @param <E2> the second type of exceptions thrown by the body
+	 * @param <E3> the third type of exceptions thrown by the body
+	 * @param <E4> the fourth type of exceptions thrown by the body
+	 * @param iterable the iterable
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws E1 if the body throws it
+	 * @throws E2 if the body throws it
+	 * @throws E3 if the body throws it
+	 * @throws E4 if the body throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> Optional<R> forEach(Iterable<? extends T> iterable, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, BiConsumerWithExceptions4<? super T, ? super Exit<R>, E1, E2, E3, E4> body) throws E1, E2, E3, E4 {
+		var exit = new Exit<R>();
+
+		try {
+			for (T t: iterable)
+				body.accept(t, exit);
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Applies the given body to each element of the given iterable, in order.
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param <E1> the first type of exceptions thrown by the body
+	 * @param <E2> the second type of exceptions thrown by the body
+	 * @param <E3> the third type of exceptions thrown by the body
+	 * @param <E4> the fourth type of exceptions thrown by the body
+	 * @param <E5> the fifth type of exceptions thrown by the body
+	 * @param iterable the iterable
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws E1 if the body throws it
+	 * @throws E2 if the body throws it
+	 * @throws E3 if the body throws it
+	 * @throws E4 if the body throws it
+	 * @throws E5 if the body throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> Optional<R> forEach(Iterable<? extends T> iterable, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, BiConsumerWithExceptions5<? super T, ? super Exit<R>, E1, E2, E3, E4, E5> body) throws E1, E2, E3, E4, E5 {
+		var exit = new Exit<R>();
+
+		try {
+			for (T t: iterable)
+				body.accept(t, exit);
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Applies the given body to each element of the given iterable, in order.
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param <E1> the first type of exceptions thrown by the body
+	 * @param <E2> the second type of exceptions thrown by the body
+	 * @param <E3> the third type of exceptions thrown by the body
+	 * @param <E4> the fourth type of exceptions thrown by the body
+	 * @param <E5> the fifth type of exceptions thrown by the body
+	 * @param <E6> the sixth type of exceptions thrown by the body
+	 * @param iterable the iterable
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws E1 if the body throws it
+	 * @throws E2 if the body throws it
+	 * @throws E3 if the body throws it
+	 * @throws E4 if the body throws it
+	 * @throws E5 if the body throws it
+	 * @throws E6 if the body throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> Optional<R> forEach(Iterable<? extends T> iterable, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, BiConsumerWithExceptions6<? super T, ? super Exit<R>, E1, E2, E3, E4, E5, E6> body) throws E1, E2, E3, E4, E5, E6 {
+		var exit = new Exit<R>();
+
+		try {
+			for (T t: iterable)
+				body.accept(t, exit);
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Applies the given body to each element of the given iterable, in order.
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param <E1> the first type of exceptions thrown by the body
+	 * @param <E2> the second type of exceptions thrown by the body
+	 * @param <E3> the third type of exceptions thrown by the body
+	 * @param <E4> the fourth type of exceptions thrown by the body
+	 * @param <E5> the fifth type of exceptions thrown by the body
+	 * @param <E6> the sixth type of exceptions thrown by the body
+	 * @param <E7> the seventh type of exceptions thrown by the body
+	 * @param iterable the iterable
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws E1 if the body throws it
+	 * @throws E2 if the body throws it
+	 * @throws E3 if the body throws it
+	 * @throws E4 if the body throws it
+	 * @throws E5 if the body throws it
+	 * @throws E6 if the body throws it
+	 * @throws E7 if the body throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> Optional<R> forEach(Iterable<? extends T> iterable, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, BiConsumerWithExceptions7<? super T, ? super Exit<R>, E1, E2, E3, E4, E5, E6, E7> body) throws E1, E2, E3, E4, E5, E6, E7 {
+		var exit = new Exit<R>();
+
+		try {
+			for (T t: iterable)
+				body.accept(t, exit);
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Applies the given body to each element of the given stream, in order (if the stream is ordered).
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param stream the stream
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws Throwable if the body throws it
+	 */
+	public static <T, R> Optional<R> forEach(Stream<? extends T> stream, BiConsumerWithExceptions<? super T, ? super Exit<R>> body) throws Throwable {
+		var exit = new Exit<R>();
+
+		try {
+			CheckRunnable.check(Throwable.class, () -> stream.forEach(UncheckConsumer.uncheck(t -> body.accept(t, exit))));
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Applies the given body to each element of the given stream, in order (if the stream is ordered).
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param <E1> the type of exceptions thrown by the body
+	 * @param stream the stream
+	 * @param exception the exception tag of {@code E1}
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws E1 if the body throws it
+	 */
+	public static <T, R, E1 extends Throwable> Optional<R> forEach(Stream<? extends T> stream, Class<E1> exception, BiConsumerWithExceptions1<? super T, ? super Exit<R>, E1> body) throws E1 {
+		var exit = new Exit<R>();
+
+		try {
+			CheckRunnable.check(exception, () -> stream.forEach(UncheckConsumer.<T, E1>uncheck(exception, t -> body.accept(t, exit))));
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Applies the given body to each element of the given stream, in order (if the stream is ordered).
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param <E1> the first type of exceptions thrown by the body
+	 * @param <E2> the second type of exceptions thrown by the body
+	 * @param stream the stream
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws E1 if the body throws it
+	 * @throws E2 if the body throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable> Optional<R> forEach(Stream<? extends T> stream, Class<E1> exception1, Class<E2> exception2, BiConsumerWithExceptions2<? super T, ? super Exit<R>, E1, E2> body) throws E1, E2 {
+		var exit = new Exit<R>();
+
+		try {
+			CheckRunnable.check(exception1, exception2, () -> stream.forEach(UncheckConsumer.<T, E1, E2>uncheck(exception1, exception2, t -> body.accept(t, exit))));
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Applies the given body to each element of the given stream, in order (if the stream is ordered).
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param <E1> the first type of exceptions thrown by the body
+	 * @param <E2> the second type of exceptions thrown by the body
+	 * @param <E3> the third type of exceptions thrown by the body
+	 * @param stream the stream
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws E1 if the body throws it
+	 * @throws E2 if the body throws it
+	 * @throws E3 if the body throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> Optional<R> forEach(Stream<? extends T> stream, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, BiConsumerWithExceptions3<? super T, ? super Exit<R>, E1, E2, E3> body) throws E1, E2, E3 {
+		var exit = new Exit<R>();
+
+		try {
+			CheckRunnable.check(exception1, exception2, exception3, () -> stream.forEach(UncheckConsumer.<T, E1, E2, E3>uncheck(exception1, exception2, exception3, t -> body.accept(t, exit))));
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Applies the given body to each element of the given stream, in order (if the stream is ordered).
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param <E1> the first type of exceptions thrown by the body
+	 * @param <E2> the second type of exceptions thrown by the body
+	 * @param <E3> the third type of exceptions thrown by the body
+	 * @param <E4> the fourth type of exceptions thrown by the body
+	 * @param stream the stream
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws E1 if the body throws it
+	 * @throws E2 if the body throws it
+	 * @throws E3 if the body throws it
+	 * @throws E4 if the body throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> Optional<R> forEach(Stream<? extends T> stream, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, BiConsumerWithExceptions4<? super T, ? super Exit<R>, E1, E2, E3, E4> body) throws E1, E2, E3, E4 {
+		var exit = new Exit<R>();
+
+		try {
+			CheckRunnable.check(exception1, exception2, exception3, exception4, () -> stream.forEach(UncheckConsumer.<T, E1, E2, E3, E4>uncheck(exception1, exception2, exception3, exception4, t -> body.accept(t, exit))));
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Applies the given body to each element of the given stream, in order (if the stream is ordered).
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param <E1> the first type of exceptions thrown by the body
+	 * @param <E2> the second type of exceptions thrown by the body
+	 * @param <E3> the third type of exceptions thrown by the body
+	 * @param <E4> the fourth type of exceptions thrown by the body
+	 * @param <E5> the fifth type of exceptions thrown by the body
+	 * @param stream the stream
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws E1 if the body throws it
+	 * @throws E2 if the body throws it
+	 * @throws E3 if the body throws it
+	 * @throws E4 if the body throws it
+	 * @throws E5 if the body throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> Optional<R> forEach(Stream<? extends T> stream, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, BiConsumerWithExceptions5<? super T, ? super Exit<R>, E1, E2, E3, E4, E5> body) throws E1, E2, E3, E4, E5 {
+		var exit = new Exit<R>();
+
+		try {
+			CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, () -> stream.forEach(UncheckConsumer.<T, E1, E2, E3, E4, E5>uncheck(exception1, exception2, exception3, exception4, exception5, t -> body.accept(t, exit))));
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Applies the given body to each element of the given stream, in order (if the stream is ordered).
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param <E1> the first type of exceptions thrown by the body
+	 * @param <E2> the second type of exceptions thrown by the body
+	 * @param <E3> the third type of exceptions thrown by the body
+	 * @param <E4> the fourth type of exceptions thrown by the body
+	 * @param <E5> the fifth type of exceptions thrown by the body
+	 * @param <E6> the sixth type of exceptions thrown by the body
+	 * @param stream the stream
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws E1 if the body throws it
+	 * @throws E2 if the body throws it
+	 * @throws E3 if the body throws it
+	 * @throws E4 if the body throws it
+	 * @throws E5 if the body throws it
+	 * @throws E6 if the body throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> Optional<R> forEach(Stream<? extends T> stream, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, BiConsumerWithExceptions6<? super T, ? super Exit<R>, E1, E2, E3, E4, E5, E6> body) throws E1, E2, E3, E4, E5, E6 {
+		var exit = new Exit<R>();
+
+		try {
+			CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, () -> stream.forEach(UncheckConsumer.<T, E1, E2, E3, E4, E5, E6>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, t -> body.accept(t, exit))));
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Applies the given body to each element of the given stream, in order (if the stream is ordered).
+	 * The body can stop the traversal early, through the {@link Exit} that it receives as second argument.
+	 * The exceptions thrown by the body are propagated unchanged.
+	 * 
+	 * @param <T> the type of the elements
+	 * @param <R> the type of the result of the traversal
+	 * @param <E1> the first type of exceptions thrown by the body
+	 * @param <E2> the second type of exceptions thrown by the body
+	 * @param <E3> the third type of exceptions thrown by the body
+	 * @param <E4> the fourth type of exceptions thrown by the body
+	 * @param <E5> the fifth type of exceptions thrown by the body
+	 * @param <E6> the sixth type of exceptions thrown by the body
+	 * @param <E7> the seventh type of exceptions thrown by the body
+	 * @param stream the stream
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param body the body
+	 * @return the result provided to the {@link Exit} of the traversal, if any
+	 * @throws E1 if the body throws it
+	 * @throws E2 if the body throws it
+	 * @throws E3 if the body throws it
+	 * @throws E4 if the body throws it
+	 * @throws E5 if the body throws it
+	 * @throws E6 if the body throws it
+	 * @throws E7 if the body throws it
+	 */
+	public static <T, R, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> Optional<R> forEach(Stream<? extends T> stream, Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7, BiConsumerWithExceptions7<? super T, ? super Exit<R>, E1, E2, E3, E4, E5, E6, E7> body) throws E1, E2, E3, E4, E5, E6, E7 {
+		var exit = new Exit<R>();
+
+		try {
+			CheckRunnable.check(exception1, exception2, exception3, exception4, exception5, exception6, exception7, () -> stream.forEach(UncheckConsumer.<T, E1, E2, E3, E4, E5, E6, E7>uncheck(exception1, exception2, exception3, exception4, exception5, exception6, exception7, t -> body.accept(t, exit))));
+		}
+		catch (Exit.Signal e) {
+			return exitedWith(exit, e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Yields the result of a traversal stopped by an exit signal.
+	 * 
+	 * @param <R> the type of the result of the traversal
+	 * @param exit the exit of the traversal
+	 * @param signal the signal that stopped the traversal
+	 * @return the result of the traversal
+	 * @throws Exit.Signal if the signal was meant for another traversal, hence it must be propagated
+	 */
+	private static <R> Optional<R> exitedWith(Exit<R> exit, Exit.Signal signal) {
+		if (exit.isExited())
+			return Optional.ofNullable(exit.getResult());
+		else
+			throw signal;
+	}
+}
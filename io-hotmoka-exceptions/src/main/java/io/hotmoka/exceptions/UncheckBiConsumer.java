@@ -0,0 +1,381 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions;
+
+import java.util.function.BiConsumer;
+
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions1;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions2;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions3;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions4;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions5;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions6;
+import io.hotmoka.exceptions.functions.BiConsumerWithExceptions7;
+
+/**
+ * This class provides a method to transform a consumer of two arguments with exceptions
+ * into a consumer of two arguments, by unchecking its exceptions.
+ */
+public abstract class UncheckBiConsumer {
+
+	private UncheckBiConsumer() {}
+
+	/**
+	 * Transforms a consumer of two arguments with exceptions into a consumer without checked
+	 * exceptions. This means that all checked exceptions get wrapped into
+	 * a {@link UncheckedException}. They can later be recovered through
+	 * a method from {@link CheckRunnable} or {@link CheckSupplier}.
+	 * 
+	 * @param <T> the type of the first consumed value
+	 * @param <U> the type of the second consumed value
+	 * @param wrapped the consumer with exceptions
+	 * @return the consumer without exceptions
+	 */
+	public static <T, U> BiConsumer<T, U> uncheck(BiConsumerWithExceptions<? super T, ? super U> wrapped) {
+		return new BiConsumer<>() {
+	
+			@Override
+			public void accept(T t, U u) {
+				try {
+					wrapped.accept(t, u);
+				}
+				catch (RuntimeException | Error e) {
+					throw e;
+				}
+				catch (Throwable e) {
+					if (e instanceof InterruptedException)
+						Thread.currentThread().interrupt();
+
+					throw new UncheckedException(e, wrapped);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Transforms a consumer of two arguments with exceptions into a consumer without checked
+	 * exceptions. This means that all checked exceptions get wrapped into
+	 * a {@link UncheckedException}. They can later be recovered through
+	 * a method from {@link CheckRunnable} or {@link CheckSupplier}.
+	 * 
+	 * @param <T> the type of the first consumed value
+	 * @param <U> the type of the second consumed value
+	 * @param <E> the type of exceptions that get unchecked
+	 * @param exception the exception tag of {@code E}
+	 * @param wrapped the consumer with exceptions
+	 * @return the consumer without exceptions
+	 */
+	public static <T, U, E extends Throwable> BiConsumer<T, U> uncheck(Class<E> exception, BiConsumerWithExceptions1<? super T, ? super U, E> wrapped) {
+		return new BiConsumer<>() {
+	
+			@Override
+			public void accept(T t, U u) {
+				try {
+					wrapped.accept(t, u);
+				}
+				catch (RuntimeException | Error e) {
+					throw e;
+				}
+				catch (Throwable e) {
+					if (e instanceof InterruptedException)
+						Thread.currentThread().interrupt();
+
+					if (exception.isInstance(e))
+						throw new UncheckedException(e, wrapped, exception);
+					else
+						throw new RuntimeException("Unexpected exception", e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Transforms a consumer of two arguments with exceptions into a consumer without checked
+	 * exceptions. This means that all checked exceptions get wrapped into
+	 * a {@link UncheckedException}. They can later be recovered through
+	 * a method from {@link CheckRunnable} or {@link CheckSupplier}.
+	 * 
+	 * @param <T> the type of the first consumed value
+	 * @param <U> the type of the second consumed value
+	 * @param <E1> the first type of exceptions that get unchecked
+	 * @param <E2> the second type of exceptions that get unchecked
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param wrapped the consumer with exceptions
+	 * @return the consumer without exceptions
+	 */
+	public static <T, U, E1 extends Throwable, E2 extends Throwable> BiConsumer<T, U> uncheck(Class<E1> exception1, Class<E2> exception2, BiConsumerWithExceptions2<? super T, ? super U, E1, E2> wrapped) {
+		return new BiConsumer<>() {
+	
+			@Override
+			public void accept(T t, U u) {
+				try {
+					wrapped.accept(t, u);
+				}
+				catch (RuntimeException | Error e) {
+					throw e;
+				}
+				catch (Throwable e) {
+					if (e instanceof InterruptedException)
+						Thread.currentThread().interrupt();
+
+					if (exception1.isInstance(e) || exception2.isInstance(e))
+						throw new UncheckedException(e, wrapped, exception1, exception2);
+					else
+						throw new RuntimeException("Unexpected exception", e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Transforms a consumer of two arguments with exceptions into a consumer without checked
+	 * exceptions. This means that all checked exceptions get wrapped into
+	 * a {@link UncheckedException}. They can later be recovered through
+	 * a method from {@link CheckRunnable} or {@link CheckSupplier}.
+	 * 
+	 * @param <T> the type of the first consumed value
+	 * @param <U> the type of the second consumed value
+	 * @param <E1> the first type of exceptions that get unchecked
+	 * @param <E2> the second type of exceptions that get unchecked
+	 * @param <E3> the third type of exceptions that get unchecked
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param wrapped the consumer with exceptions
+	 * @return the consumer without exceptions
+	 */
+	public static <T, U, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable> BiConsumer<T, U> uncheck(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, BiConsumerWithExceptions3<? super T, ? super U, E1, E2, E3> wrapped) {
+		return new BiConsumer<>() {
+	
+			@Override
+			public void accept(T t, U u) {
+				try {
+					wrapped.accept(t, u);
+				}
+				catch (RuntimeException | Error e) {
+					throw e;
+				}
+				catch (Throwable e) {
+					if (e instanceof InterruptedException)
+						Thread.currentThread().interrupt();
+
+					if (exception1.isInstance(e) || exception2.isInstance(e) || exception3.isInstance(e))
+						throw new UncheckedException(e, wrapped, exception1, exception2, exception3);
+					else
+						throw new RuntimeException("Unexpected exception", e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Transforms a consumer of two arguments with exceptions into a consumer without checked
+	 * exceptions. This means that all checked exceptions get wrapped into
+	 * a {@link UncheckedException}. They can later be recovered through
+	 * a method from {@link CheckRunnable} or {@link CheckSupplier}.
+	 * 
+	 * @param <T> the type of the first consumed value
+	 * @param <U> the type of the second consumed value
+	 * @param <E1> the first type of exceptions that get unchecked
+	 * @param <E2> the second type of exceptions that get unchecked
+	 * @param <E3> the third type of exceptions that get unchecked
+	 * @param <E4> the fourth type of exceptions that get unchecked
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param wrapped the consumer with exceptions
+	 * @return the consumer without exceptions
+	 */
+	public static <T, U, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable> BiConsumer<T, U> uncheck
+		(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, BiConsumerWithExceptions4<? super T, ? super U, E1, E2, E3, E4> wrapped) {
+
+		return new BiConsumer<>() {
+	
+			@Override
+			public void accept(T t, U u) {
+				try {
+					wrapped.accept(t, u);
+				}
+				catch (RuntimeException | Error e) {
+					throw e;
+				}
+				catch (Throwable e) {
+					if (e instanceof InterruptedException)
+						Thread.currentThread().interrupt();
+
+					if (exception1.isInstance(e) || exception2.isInstance(e) || exception3.isInstance(e) || exception4.isInstance(e))
+						throw new UncheckedException(e, wrapped, exception1, exception2, exception3, exception4);
+					else
+						throw new RuntimeException("Unexpected exception", e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Transforms a consumer of two arguments with exceptions into a consumer without checked
+	 * exceptions. This means that all checked exceptions get wrapped into
+	 * a {@link UncheckedException}. They can later be recovered through
+	 * a method from {@link CheckRunnable} or {@link CheckSupplier}.
+	 * 
+	 * @param <T> the type of the first consumed value
+	 * @param <U> the type of the second consumed value
+	 * @param <E1> the first type of exceptions that get unchecked
+	 * @param <E2> the second type of exceptions that get unchecked
+	 * @param <E3> the third type of exceptions that get unchecked
+	 * @param <E4> the fourth type of exceptions that get unchecked
+	 * @param <E5> the fifth type of exceptions that get unchecked
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param wrapped the consumer with exceptions
+	 * @return the consumer without exceptions
+	 */
+	public static <T, U, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable> BiConsumer<T, U> uncheck
+		(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5,
+				BiConsumerWithExceptions5<? super T, ? super U, E1, E2, E3, E4, E5> wrapped) {
+
+		return new BiConsumer<>() {
+	
+			@Override
+			public void accept(T t, U u) {
+				try {
+					wrapped.accept(t, u);
+				}
+				catch (RuntimeException | Error e) {
+					throw e;
+				}
+				catch (Throwable e) {
+					if (e instanceof InterruptedException)
+						Thread.currentThread().interrupt();
+
+					if (exception1.isInstance(e) || exception2.isInstance(e) || exception3.isInstance(e) || exception4.isInstance(e) || exception5.isInstance(e))
+						throw new UncheckedException(e, wrapped, exception1, exception2, exception3, exception4, exception5);
+					else
+						throw new RuntimeException("Unexpected exception", e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Transforms a consumer of two arguments with exceptions into a consumer without checked
+	 * exceptions. This means that all checked exceptions get wrapped into
+	 * a {@link UncheckedException}. They can later be recovered through
+	 * a method from {@link CheckRunnable} or {@link CheckSupplier}.
+	 * 
+	 * @param <T> the type of the first consumed value
+	 * @param <U> the type of the second consumed value
+	 * @param <E1> the first type of exceptions that get unchecked
+	 * @param <E2> the second type of exceptions that get unchecked
+	 * @param <E3> the third type of exceptions that get unchecked
+	 * @param <E4> the fourth type of exceptions that get unchecked
+	 * @param <E5> the fifth type of exceptions that get unchecked
+	 * @param <E6> the sixth type of exceptions that get unchecked
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param wrapped the consumer with exceptions
+	 * @return the consumer without exceptions
+	 */
+	public static <T, U, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> BiConsumer<T, U> uncheck
+		(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6,
+				BiConsumerWithExceptions6<? super T, ? super U, E1, E2, E3, E4, E5, E6> wrapped) {
+
+		return new BiConsumer<>() {
+	
+			@Override
+			public void accept(T t, U u) {
+				try {
+					wrapped.accept(t, u);
+				}
+				catch (RuntimeException | Error e) {
+					throw e;
+				}
+				catch (Throwable e) {
+					if (e instanceof InterruptedException)
+						Thread.currentThread().interrupt();
+
+					if (exception1.isInstance(e) || exception2.isInstance(e) || exception3.isInstance(e) || exception4.isInstance(e) || exception5.isInstance(e) || exception6.isInstance(e))
+						throw new UncheckedException(e, wrapped, exception1, exception2, exception3, exception4, exception5, exception6);
+					else
+						throw new RuntimeException("Unexpected exception", e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Transforms a consumer of two arguments with exceptions into a consumer without checked
+	 * exceptions. This means that all checked exceptions get wrapped into
+	 * a {@link UncheckedException}. They can later be recovered through
+	 * a method from {@link CheckRunnable} or {@link CheckSupplier}.
+	 * 
+	 * @param <T> the type of the first consumed value
+	 * @param <U> the type of the second consumed value
+	 * @param <E1> the first type of exceptions that get unchecked
+	 * @param <E2> the second type of exceptions that get unchecked
+	 * @param <E3> the third type of exceptions that get unchecked
+	 * @param <E4> the fourth type of exceptions that get unchecked
+	 * @param <E5> the fifth type of exceptions that get unchecked
+	 * @param <E6> the sixth type of exceptions that get unchecked
+	 * @param <E7> the seventh type of exceptions that get unchecked
+	 * @param exception1 the exception tag of {@code E1}
+	 * @param exception2 the exception tag of {@code E2}
+	 * @param exception3 the exception tag of {@code E3}
+	 * @param exception4 the exception tag of {@code E4}
+	 * @param exception5 the exception tag of {@code E5}
+	 * @param exception6 the exception tag of {@code E6}
+	 * @param exception7 the exception tag of {@code E7}
+	 * @param wrapped the consumer with exceptions
+	 * @return the consumer without exceptions
+	 */
+	public static <T, U, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable, E7 extends Throwable> BiConsumer<T, U> uncheck
+		(Class<E1> exception1, Class<E2> exception2, Class<E3> exception3, Class<E4> exception4, Class<E5> exception5, Class<E6> exception6, Class<E7> exception7,
+				BiConsumerWithExceptions7<? super T, ? super U, E1, E2, E3, E4, E5, E6, E7> wrapped) {
+
+		return new BiConsumer<>() {
+	
+			@Override
+			public void accept(T t, U u) {
+				try {
+					wrapped.accept(t, u);
+				}
+				catch (RuntimeException | Error e) {
+					throw e;
+				}
+				catch (Throwable e) {
+					if (e instanceof InterruptedException)
+						Thread.currentThread().interrupt();
+
+					if (exception1.isInstance(e) || exception2.isInstance(e) || exception3.isInstance(e) || exception4.isInstance(e) || exception5.isInstance(e) || exception6.isInstance(e) || exception7.isInstance(e))
+						throw new UncheckedException(e, wrapped, exception1, exception2, exception3, exception4, exception5, exception6, exception7);
+					else
+						throw new RuntimeException("Unexpected exception", e);
+				}
+			}
+		};
+	}
+}
\ No newline at end of file
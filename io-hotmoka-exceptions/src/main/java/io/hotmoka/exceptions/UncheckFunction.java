@@ -61,7 +61,7 @@ public abstract class UncheckFunction {
 					if (e instanceof InterruptedException)
 						Thread.currentThread().interrupt();
 
-					throw new UncheckedException(e);
+					throw new UncheckedException(e, wrapped);
 				}
 			}
 		};
@@ -96,7 +96,7 @@ public abstract class UncheckFunction {
 						Thread.currentThread().interrupt();
 
 					if (exception.isInstance(e))
-						throw new UncheckedException(e);
+						throw new UncheckedException(e, wrapped, exception);
 					else
 						throw new RuntimeException("Unexpected exception", e);
 				}
@@ -135,7 +135,7 @@ public abstract class UncheckFunction {
 						Thread.currentThread().interrupt();
 
 					if (exception1.isInstance(e) || exception2.isInstance(e))
-						throw new UncheckedException(e);
+						throw new UncheckedException(e, wrapped, exception1, exception2);
 					else
 						throw new RuntimeException("Unexpected exception", e);
 				}
@@ -178,7 +178,7 @@ public abstract class UncheckFunction {
 						Thread.currentThread().interrupt();
 
 					if (exception1.isInstance(e) || exception2.isInstance(e) || exception3.isInstance(e))
-						throw new UncheckedException(e);
+						throw new UncheckedException(e, wrapped, exception1, exception2, exception3);
 					else
 						throw new RuntimeException("Unexpected exception", e);
 				}
@@ -224,7 +224,7 @@ public abstract class UncheckFunction {
 						Thread.currentThread().interrupt();
 
 					if (exception1.isInstance(e) || exception2.isInstance(e) || exception3.isInstance(e) || exception4.isInstance(e))
-						throw new UncheckedException(e);
+						throw new UncheckedException(e, wrapped, exception1, exception2, exception3, exception4);
 					else
 						throw new RuntimeException("Unexpected exception", e);
 				}
@@ -272,7 +272,7 @@ public abstract class UncheckFunction {
 						Thread.currentThread().interrupt();
 
 					if (exception1.isInstance(e) || exception2.isInstance(e) || exception3.isInstance(e) || exception4.isInstance(e) || exception5.isInstance(e))
-						throw new UncheckedException(e);
+						throw new UncheckedException(e, wrapped, exception1, exception2, exception3, exception4, exception5);
 					else
 						throw new RuntimeException("Unexpected exception", e);
 				}
@@ -322,7 +322,7 @@ public abstract class UncheckFunction {
 						Thread.currentThread().interrupt();
 
 					if (exception1.isInstance(e) || exception2.isInstance(e) || exception3.isInstance(e) || exception4.isInstance(e) || exception5.isInstance(e) || exception6.isInstance(e))
-						throw new UncheckedException(e);
+						throw new UncheckedException(e, wrapped, exception1, exception2, exception3, exception4, exception5, exception6);
 					else
 						throw new RuntimeException("Unexpected exception", e);
 				}
@@ -374,7 +374,7 @@ public abstract class UncheckFunction {
 						Thread.currentThread().interrupt();
 
 					if (exception1.isInstance(e) || exception2.isInstance(e) || exception3.isInstance(e) || exception4.isInstance(e) || exception5.isInstance(e) || exception6.isInstance(e) || exception7.isInstance(e))
-						throw new UncheckedException(e);
+						throw new UncheckedException(e, wrapped, exception1, exception2, exception3, exception4, exception5, exception6, exception7);
 					else
 						throw new RuntimeException("Unexpected exception", e);
 				}
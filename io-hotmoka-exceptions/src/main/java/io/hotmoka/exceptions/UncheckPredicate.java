@@ -60,7 +60,7 @@ public abstract class UncheckPredicate {
 					if (e instanceof InterruptedException)
 						Thread.currentThread().interrupt();
 
-					throw new UncheckedException(e);
+					throw new UncheckedException(e, wrapped);
 				}
 			}
 		};
@@ -94,7 +94,7 @@ public abstract class UncheckPredicate {
 						Thread.currentThread().interrupt();
 
 					if (exception.isInstance(e))
-						throw new UncheckedException(e);
+						throw new UncheckedException(e, wrapped, exception);
 					else
 						throw new RuntimeException("Unexpected exception", e);
 				}
@@ -132,7 +132,7 @@ public abstract class UncheckPredicate {
 						Thread.currentThread().interrupt();
 
 					if (exception1.isInstance(e) || exception2.isInstance(e))
-						throw new UncheckedException(e);
+						throw new UncheckedException(e, wrapped, exception1, exception2);
 					else
 						throw new RuntimeException("Unexpected exception", e);
 				}
@@ -175,7 +175,7 @@ public abstract class UncheckPredicate {
 						Thread.currentThread().interrupt();
 
 					if (exception1.isInstance(e) || exception2.isInstance(e) || exception3.isInstance(e))
-						throw new UncheckedException(e);
+						throw new UncheckedException(e, wrapped, exception1, exception2, exception3);
 					else
 						throw new RuntimeException("Unexpected exception", e);
 				}
@@ -220,7 +220,7 @@ public abstract class UncheckPredicate {
 						Thread.currentThread().interrupt();
 
 					if (exception1.isInstance(e) || exception2.isInstance(e) || exception3.isInstance(e) || exception4.isInstance(e))
-						throw new UncheckedException(e);
+						throw new UncheckedException(e, wrapped, exception1, exception2, exception3, exception4);
 					else
 						throw new RuntimeException("Unexpected exception", e);
 				}
@@ -267,7 +267,7 @@ public abstract class UncheckPredicate {
 						Thread.currentThread().interrupt();
 
 					if (exception1.isInstance(e) || exception2.isInstance(e) || exception3.isInstance(e) || exception4.isInstance(e) || exception5.isInstance(e))
-						throw new UncheckedException(e);
+						throw new UncheckedException(e, wrapped, exception1, exception2, exception3, exception4, exception5);
 					else
 						throw new RuntimeException("Unexpected exception", e);
 				}
@@ -316,7 +316,7 @@ public abstract class UncheckPredicate {
 						Thread.currentThread().interrupt();
 
 					if (exception1.isInstance(e) || exception2.isInstance(e) || exception3.isInstance(e) || exception4.isInstance(e) || exception5.isInstance(e) || exception6.isInstance(e))
-						throw new UncheckedException(e);
+						throw new UncheckedException(e, wrapped, exception1, exception2, exception3, exception4, exception5, exception6);
 					else
 						throw new RuntimeException("Unexpected exception", e);
 				}
@@ -367,7 +367,7 @@ public abstract class UncheckPredicate {
 						Thread.currentThread().interrupt();
 
 					if (exception1.isInstance(e) || exception2.isInstance(e) || exception3.isInstance(e) || exception4.isInstance(e) || exception5.isInstance(e) || exception6.isInstance(e) || exception7.isInstance(e))
-						throw new UncheckedException(e);
+						throw new UncheckedException(e, wrapped, exception1, exception2, exception3, exception4, exception5, exception6, exception7);
 					else
 						throw new RuntimeException("Unexpected exception", e);
 				}
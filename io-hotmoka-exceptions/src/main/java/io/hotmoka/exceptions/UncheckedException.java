@@ -18,6 +18,9 @@ package io.hotmoka.exceptions;
 
 /**
  * A wrapper for an exception that has been made into unchecked.
+ * By default, it captures its stack trace as any other exception, but it can be configured
+ * to capture none or only a sample of them, trimmed to their topmost relevant frames:
+ * see the system property {@code io.hotmoka.exceptions.stackTraces}.
  */
 public final class UncheckedException extends RuntimeException {
 
@@ -29,6 +32,154 @@ public final class UncheckedException extends RuntimeException {
 	 * @param cause the wrapped cause
 	 */
 	public UncheckedException(Throwable cause) {
+		this(cause, cause);
+	}
+
+	/**
+	 * Creates the exception.
+	 * 
+	 * @param cause the wrapped cause
+	 * @param site the object that identifies the call site where the exception is created,
+	 *             typically the functional interface that threw {@code cause}
+	 */
+	UncheckedException(Throwable cause, Object site) {
+		super(cause);
+		sampleStackTrace(site);
+		Instrumentation.wrapped(cause);
+	}
+
+	/**
+	 * Creates the exception.
+	 * 
+	 * @param cause the wrapped cause
+	 * @param site the object that identifies the call site where the exception is created,
+	 *             typically the function with exceptions that threw {@code cause}
+	 * @param target1 the exception type declared by that function
+	 */
+	UncheckedException(Throwable cause, Object site, Class<?> target1) {
+		super(cause);
+		sampleStackTrace(site);
+		Instrumentation.wrapped(cause, target1);
+	}
+
+	/**
+	 * Creates the exception.
+	 * 
+	 * @param cause the wrapped cause
+	 * @param site the object that identifies the call site where the exception is created,
+	 *             typically the function with exceptions that threw {@code cause}
+	 * @param target1 the first exception type declared by that function
+	 * @param target2 the second exception type declared by that function
+	 */
+	UncheckedException(Throwable cause, Object site, Class<?> target1, Class<?> target2) {
+		super(cause);
+		sampleStackTrace(site);
+		Instrumentation.wrapped(cause, target1, target2);
+	}
+
+	/**
+	 * Creates the exception.
+	 * 
+	 * @param cause the wrapped cause
+	 * @param site the object that identifies the call site where the exception is created,
+	 *             typically the function with exceptions that threw {@code cause}
+	 * @param target1 the first exception type declared by that function
+	 * @param target2 the second exception type declared by that function
+	 * @param target3 the third exception type declared by that function
+	 */
+	UncheckedException(Throwable cause, Object site, Class<?> target1, Class<?> target2, Class<?> target3) {
+		super(cause);
+		sampleStackTrace(site);
+		Instrumentation.wrapped(cause, target1, target2, target3);
+	}
+
+	/**
+	 * Creates the exception.
+	 * 
+	 * @param cause the wrapped cause
+	 * @param site the object that identifies the call site where the exception is created,
+	 *             typically the function with exceptions that threw {@code cause}
+	 * @param target1 the first exception type declared by that function
+	 * @param target2 the second exception type declared by that function
+	 * @param target3 the third exception type declared by that function
+	 * @param target4 the fourth exception type declared by that function
+	 */
+	UncheckedException(Throwable cause, Object site, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4) {
+		super(cause);
+		sampleStackTrace(site);
+		Instrumentation.wrapped(cause, target1, target2, target3, target4);
+	}
+
+	/**
+	 * Creates the exception.
+	 * 
+	 * @param cause the wrapped cause
+	 * @param site the object that identifies the call site where the exception is created,
+	 *             typically the function with exceptions that threw {@code cause}
+	 * @param target1 the first exception type declared by that function
+	 * @param target2 the second exception type declared by that function
+	 * @param target3 the third exception type declared by that function
+	 * @param target4 the fourth exception type declared by that function
+	 * @param target5 the fifth exception type declared by that function
+	 */
+	UncheckedException(Throwable cause, Object site, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4, Class<?> target5) {
 		super(cause);
+		sampleStackTrace(site);
+		Instrumentation.wrapped(cause, target1, target2, target3, target4, target5);
+	}
+
+	/**
+	 * Creates the exception.
+	 * 
+	 * @param cause the wrapped cause
+	 * @param site the object that identifies the call site where the exception is created,
+	 *             typically the function with exceptions that threw {@code cause}
+	 * @param target1 the first exception type declared by that function
+	 * @param target2 the second exception type declared by that function
+	 * @param target3 the third exception type declared by that function
+	 * @param target4 the fourth exception type declared by that function
+	 * @param target5 the fifth exception type declared by that function
+	 * @param target6 the sixth exception type declared by that function
+	 */
+	UncheckedException(Throwable cause, Object site, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4, Class<?> target5, Class<?> target6) {
+		super(cause);
+		sampleStackTrace(site);
+		Instrumentation.wrapped(cause, target1, target2, target3, target4, target5, target6);
+	}
+
+	/**
+	 * Creates the exception.
+	 * 
+	 * @param cause the wrapped cause
+	 * @param site the object that identifies the call site where the exception is created,
+	 *             typically the function with exceptions that threw {@code cause}
+	 * @param target1 the first exception type declared by that function
+	 * @param target2 the second exception type declared by that function
+	 * @param target3 the third exception type declared by that function
+	 * @param target4 the fourth exception type declared by that function
+	 * @param target5 the fifth exception type declared by that function
+	 * @param target6 the sixth exception type declared by that function
+	 * @param target7 the seventh exception type declared by that function
+	 */
+	UncheckedException(Throwable cause, Object site, Class<?> target1, Class<?> target2, Class<?> target3, Class<?> target4, Class<?> target5, Class<?> target6, Class<?> target7) {
+		super(cause);
+		sampleStackTrace(site);
+		Instrumentation.wrapped(cause, target1, target2, target3, target4, target5, target6, target7);
+	}
+
+	/**
+	 * Sets the stack trace of this exception, if it is sampled.
+	 * 
+	 * @param site the object that identifies the call site where this exception is created
+	 */
+	private void sampleStackTrace(Object site) {
+		if (StackTraces.SAMPLED && StackTraces.sample(site == null ? UncheckedException.class : site.getClass()))
+			setStackTrace(StackTraces.capture());
+	}
+
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		// if stack traces are not captured in full, they are either missing or set by the constructor
+		return StackTraces.FULL ? super.fillInStackTrace() : this;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.functions;
+
+/**
+ * A consumer of two arguments that might throw exceptions.
+ * 
+ * @param <T> the type of the first consumed value
+ * @param <U> the type of the second consumed value
+ * @param <E> the type of the exceptions
+ */
+public interface BiConsumerWithExceptions1<T, U, E extends Throwable> {
+
+	/**
+	 * Consumes the given arguments.
+	 *
+	 * @param t the first argument
+	 * @param u the second argument
+	 * @throws E any exception thrown by the consumer
+	 */
+	void accept(T t, U u) throws E;
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.functions;
+
+/**
+ * A comparator that might throw exceptions.
+ * 
+ * @param <T> the type of the compared values
+ * @param <E1> the first type of exceptions
+ * @param <E2> the second type of exceptions
+ * @param <E3> the third type of exceptions
+ * @param <E4> the fourth type of exceptions
+ * @param <E5> the fifth type of exceptions
+ * @param <E6> the sixth type of exceptions
+ */
+public interface ComparatorWithExceptions6<T, E1 extends Throwable, E2 extends Throwable, E3 extends Throwable, E4 extends Throwable, E5 extends Throwable, E6 extends Throwable> {
+
+	/**
+	 * Compares its two arguments for order.
+	 *
+	 * @param o1 the first value to compare
+	 * @param o2 the second value to compare
+	 * @return a negative integer, zero, or a positive integer as the first argument is less than,
+	 *         equal to, or greater than the second
+	 * @throws E1 a first type of exception thrown by the comparator
+	 * @throws E2 a second type of exception thrown by the comparator
+	 * @throws E3 a third type of exception thrown by the comparator
+	 * @throws E4 a fourth type of exception thrown by the comparator
+	 * @throws E5 a fifth type of exception thrown by the comparator
+	 * @throws E6 a sixth type of exception thrown by the comparator
+	 */
+	int compare(T o1, T o2) throws E1, E2, E3, E4, E5, E6;
+}
\ No newline at end of file
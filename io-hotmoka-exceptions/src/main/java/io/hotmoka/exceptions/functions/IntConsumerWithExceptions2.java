@@ -0,0 +1,35 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.functions;
+
+/**
+ * A consumer of {@code int} values that might throw exceptions.
+ * 
+ * @param <E1> the first type of exceptions
+ * @param <E2> the second type of exceptions
+ */
+public interface IntConsumerWithExceptions2<E1 extends Throwable, E2 extends Throwable> {
+
+	/**
+	 * Consumes the given argument.
+	 *
+	 * @param value the argument
+	 * @throws E1 a first type of exception thrown by the consumer
+	 * @throws E2 a second type of exception thrown by the consumer
+	 */
+	void accept(int value) throws E1, E2;
+}
\ No newline at end of file
@@ -20,4 +20,7 @@ limitations under the License.
 module io.hotmoka.exceptions {
 	exports io.hotmoka.exceptions;
 	exports io.hotmoka.exceptions.functions;
+	requires static java.management;
+	requires static jdk.jfr;
+	uses io.hotmoka.exceptions.ExceptionListener;
 }
\ No newline at end of file
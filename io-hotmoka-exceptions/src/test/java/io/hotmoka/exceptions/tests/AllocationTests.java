@@ -0,0 +1,337 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.BulkOperations;
+import io.hotmoka.exceptions.CheckRunnable;
+import io.hotmoka.exceptions.CheckSupplier;
+import io.hotmoka.exceptions.Loops;
+import io.hotmoka.exceptions.Objects;
+import io.hotmoka.exceptions.Traversals;
+import io.hotmoka.exceptions.UncheckFunction;
+import io.hotmoka.exceptions.UncheckedException;
+
+/**
+ * Allocation-regression tests for the hot paths of the library. Each test measures the number
+ * of bytes allocated, on average, by a call, through the allocation counter of the current thread,
+ * and compares it with the budget of that call. The measure follows a warm-up, so that it
+ * reflects the code compiled by the just-in-time compiler. The exception paths throw
+ * preallocated exceptions, so that the budgets measure the library only. These tests run in
+ * their own JVM, where the stack traces of the {@link UncheckedException}s are disabled:
+ * see the configuration of the surefire plugin in the pom file of the module.
+ */
+public class AllocationTests {
+
+	/**
+	 * The budget of the calls that are expected not to allocate at all.
+	 */
+	private final static long NO_ALLOCATION = 0L;
+
+	/**
+	 * The budget of a call that wraps a checked exception into an {@link UncheckedException},
+	 * without stack trace: this is the wrapping exception and its message, derived from the cause.
+	 */
+	private final static long WRAPPING = 128L;
+
+	/**
+	 * The budget of a traversal of {@link Traversals}, that allocates its exit, its
+	 * result and the iterator of the traversed list.
+	 */
+	private final static long TRAVERSAL = 128L;
+
+	/**
+	 * The budget of a bulk operation of {@link BulkOperations}, that adapts the given
+	 * function with exceptions into a function of the JDK.
+	 */
+	private final static long BULK_OPERATION = 128L;
+
+	private final static int WARMUP = 50_000;
+	private final static int ITERATIONS = 100_000;
+	private final static int ROUNDS = 5;
+
+	private final static IOException FAILURE = new IOException("expected");
+	private final static UncheckedException WRAPPED = new UncheckedException(FAILURE);
+	private final static IllegalArgumentException ILLEGAL = new IllegalArgumentException("expected");
+	private final static String VALUE = "value";
+	private final static String[] ARRAY = { "a", "b", "c", "d", "e", "f", "g", "h" };
+	private final static List<String> LIST = List.of(ARRAY);
+	private final static String TARGET = "c";
+	private final static ArrayList<String> MUTABLE_LIST = new ArrayList<>(LIST);
+
+	private final static Function<String, String> IDENTITY = UncheckFunction.uncheck(IOException.class, s -> s);
+	private final static Function<String, String> FAILING = UncheckFunction.uncheck(IOException.class, s -> { throw FAILURE; });
+	private final static Supplier<String> SUPPLIER = () -> VALUE;
+	private final static Supplier<String> FAILING_SUPPLIER = () -> { throw WRAPPED; };
+	private final static Runnable RUNNABLE = () -> {};
+	private final static Runnable FAILING_RUNNABLE = () -> { throw WRAPPED; };
+
+	/**
+	 * The thread management bean of the JVM.
+	 */
+	private static Object threads;
+
+	/**
+	 * The method of the thread management bean that yields the bytes allocated by the current thread.
+	 * It is accessed reflectively, since it belongs to the {@code jdk.management} module,
+	 * that is not required by the module of the library.
+	 */
+	private static MethodHandle allocatedBytes;
+
+	/**
+	 * A body whose allocations are measured.
+	 */
+	private interface Body {
+		void run() throws Throwable;
+	}
+
+	@BeforeAll
+	public static void beforeAll() throws Throwable {
+		threads = ManagementFactory.getThreadMXBean();
+
+		try {
+			var type = Class.forName("com.sun.management.ThreadMXBean");
+			assumeTrue(type.isInstance(threads) && (boolean) type.getMethod("isThreadAllocatedMemoryEnabled").invoke(threads),
+				"the allocation counters of the threads are not available");
+
+			allocatedBytes = MethodHandles.publicLookup().findVirtual(type, "getCurrentThreadAllocatedBytes", MethodType.methodType(long.class))
+				.asType(MethodType.methodType(long.class, Object.class));
+		}
+		catch (ClassNotFoundException e) {
+			assumeTrue(false, "the jdk.management module is not available");
+		}
+
+		// the first invocation links the method handle, which allocates
+		allocatedBytes();
+	}
+
+	private static long allocatedBytes() throws Throwable {
+		return (long) allocatedBytes.invokeExact(threads);
+	}
+
+	/**
+	 * Yields the minimal average number of bytes allocated by a call to the given body,
+	 * over some rounds of measurement, each after a warm-up.
+	 */
+	private static long bytesPerCall(Body body) throws Throwable {
+		long min = Long.MAX_VALUE;
+
+		for (int round = 0; round < ROUNDS; round++) {
+			for (int i = 0; i < WARMUP; i++)
+				body.run();
+
+			long before = allocatedBytes();
+			for (int i = 0; i < ITERATIONS; i++)
+				body.run();
+
+			min = Math.min(min, (allocatedBytes() - before) / ITERATIONS);
+		}
+
+		return min;
+	}
+
+	private static void assertWithinBudget(long budget, Body body) throws Throwable {
+		long bytes = bytesPerCall(body);
+		assertTrue(bytes <= budget, () -> "allocated " + bytes + " bytes per call, but the budget is " + budget);
+	}
+
+	@Test
+	@DisplayName("an unchecked function does not allocate if it succeeds")
+	public void uncheckSucceeds() throws Throwable {
+		assertWithinBudget(NO_ALLOCATION, () -> IDENTITY.apply(VALUE));
+	}
+
+	@Test
+	@DisplayName("an unchecked function allocates only the wrapping exception if it fails")
+	public void uncheckFails() throws Throwable {
+		assertWithinBudget(WRAPPING, () -> {
+			try {
+				FAILING.apply(VALUE);
+			}
+			catch (UncheckedException e) {
+				// expected
+			}
+		});
+	}
+
+	@Test
+	@DisplayName("a checked supplier does not allocate if it succeeds")
+	public void checkSupplierSucceeds() throws Throwable {
+		assertWithinBudget(NO_ALLOCATION, () -> CheckSupplier.check(IOException.class, SUPPLIER));
+	}
+
+	@Test
+	@DisplayName("a checked supplier does not allocate if it recovers an exception")
+	public void checkSupplierRecovers() throws Throwable {
+		assertWithinBudget(NO_ALLOCATION, () -> {
+			try {
+				CheckSupplier.check(IOException.class, FAILING_SUPPLIER);
+			}
+			catch (IOException e) {
+				// expected
+			}
+		});
+	}
+
+	@Test
+	@DisplayName("a checked runnable does not allocate if it succeeds")
+	public void checkRunnableSucceeds() throws Throwable {
+		assertWithinBudget(NO_ALLOCATION, () -> CheckRunnable.check(IOException.class, RUNNABLE));
+	}
+
+	@Test
+	@DisplayName("a checked runnable does not allocate if it recovers an exception")
+	public void checkRunnableRecovers() throws Throwable {
+		assertWithinBudget(NO_ALLOCATION, () -> {
+			try {
+				CheckRunnable.check(IOException.class, FAILING_RUNNABLE);
+			}
+			catch (IOException e) {
+				// expected
+			}
+		});
+	}
+
+	@Test
+	@DisplayName("a checked runnable does not allocate if an exception escapes")
+	public void checkRunnableEscapes() throws Throwable {
+		assertWithinBudget(NO_ALLOCATION, () -> {
+			try {
+				CheckRunnable.check(InterruptedException.class, FAILING_RUNNABLE);
+			}
+			catch (UncheckedException e) {
+				// expected
+			}
+		});
+	}
+
+	@Test
+	@DisplayName("requireNonNull does not allocate if the reference is not null")
+	public void requireNonNullSucceeds() throws Throwable {
+		assertWithinBudget(NO_ALLOCATION, () -> Objects.requireNonNull(VALUE, "value cannot be null", IllegalArgumentException::new));
+	}
+
+	@Test
+	@DisplayName("requireNonNull does not allocate if the reference is null")
+	public void requireNonNullFails() throws Throwable {
+		assertWithinBudget(NO_ALLOCATION, () -> {
+			try {
+				Objects.requireNonNull(null, "value cannot be null", message -> ILLEGAL);
+			}
+			catch (IllegalArgumentException e) {
+				// expected
+			}
+		});
+	}
+
+	@Test
+	@DisplayName("requireNonNull with a lazy message does not build the message if the reference is not null")
+	public void requireNonNullWithLazyMessageSucceeds() throws Throwable {
+		assertWithinBudget(NO_ALLOCATION, () -> Objects.requireNonNullLazy(VALUE, () -> "value " + VALUE.length() + " cannot be null", IllegalArgumentException::new));
+	}
+
+	@Test
+	@DisplayName("checkIndex does not allocate if the index is in bounds")
+	public void checkIndexSucceeds() throws Throwable {
+		assertWithinBudget(NO_ALLOCATION, () -> Objects.checkIndex(3, ARRAY.length, IllegalArgumentException::new));
+	}
+
+	@Test
+	@DisplayName("requireAllNonNull does not allocate if no element is null")
+	public void requireAllNonNullSucceeds() throws Throwable {
+		assertWithinBudget(NO_ALLOCATION, () -> Objects.requireAllNonNull(ARRAY, IllegalArgumentException::new));
+	}
+
+	@Test
+	@DisplayName("an indexed loop over an array does not allocate")
+	public void loopOverArray() throws Throwable {
+		assertWithinBudget(NO_ALLOCATION, () -> Loops.forEach(ARRAY, IOException.class, s -> {}));
+	}
+
+	@Test
+	@DisplayName("an indexed loop over an array does not allocate if the body fails")
+	public void loopOverArrayFails() throws Throwable {
+		assertWithinBudget(NO_ALLOCATION, () -> {
+			try {
+				Loops.forEach(ARRAY, IOException.class, s -> { throw FAILURE; });
+			}
+			catch (IOException e) {
+				// expected
+			}
+		});
+	}
+
+	@Test
+	@DisplayName("an indexed loop over a list does not allocate")
+	public void loopOverList() throws Throwable {
+		assertWithinBudget(NO_ALLOCATION, () -> Loops.forEach(LIST, IOException.class, s -> {}));
+	}
+
+	@Test
+	@DisplayName("an indexed loop over a range does not allocate")
+	public void loopOverRange() throws Throwable {
+		assertWithinBudget(NO_ALLOCATION, () -> Loops.forEach(0, ARRAY.length, IOException.class, i -> {}));
+	}
+
+	private static Optional<String> stopAtTarget() throws IOException {
+		return Traversals.forEach(LIST, IOException.class, (s, exit) -> {
+			if (s.equals(TARGET))
+				throw exit.with(s);
+		});
+	}
+
+	@Test
+	@DisplayName("a traversal stays within its budget if it is stopped early")
+	public void traversalStopsEarly() throws Throwable {
+		assertEquals(Optional.of(TARGET), stopAtTarget());
+		assertWithinBudget(TRAVERSAL, AllocationTests::stopAtTarget);
+	}
+
+	/**
+	 * Removes the target from the mutable list and puts it back, so that each call removes an element.
+	 */
+	private static boolean removeTarget() throws IOException {
+		boolean removed = BulkOperations.removeIf(MUTABLE_LIST, IOException.class, s -> s.equals(TARGET));
+		MUTABLE_LIST.add(TARGET);
+		return removed;
+	}
+
+	@Test
+	@DisplayName("a bulk removal stays within its budget")
+	public void removeIf() throws Throwable {
+		assertTrue(removeTarget());
+		assertWithinBudget(BULK_OPERATION, AllocationTests::removeTarget);
+	}
+}
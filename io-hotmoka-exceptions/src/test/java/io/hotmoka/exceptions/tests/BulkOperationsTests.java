@@ -0,0 +1,140 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.BulkOperations;
+import io.hotmoka.exceptions.CheckRunnable;
+import io.hotmoka.exceptions.UncheckBiConsumer;
+import io.hotmoka.exceptions.UncheckBiFunction;
+
+public class BulkOperationsTests {
+
+	private static boolean isShort(String s) throws IOException {
+		if (s.isEmpty())
+			throw new IOException("empty string");
+
+		return s.length() < 3;
+	}
+
+	@Test
+	@DisplayName("removeIf removes the elements that satisfy the filter")
+	public void removeIf() throws IOException {
+		var list = new ArrayList<>(List.of("a", "bbb", "cc", "dddd"));
+
+		assertTrue(BulkOperations.removeIf(list, IOException.class, BulkOperationsTests::isShort));
+		assertEquals(List.of("bbb", "dddd"), list);
+		assertFalse(BulkOperations.removeIf(list, IOException.class, BulkOperationsTests::isShort));
+	}
+
+	@Test
+	@DisplayName("removeIf propagates the exceptions of the filter with their type and leaves an array list unmodified")
+	public void removeIfFails() {
+		var list = new ArrayList<>(List.of("a", "bbb", "", "dddd"));
+
+		assertEquals("empty string", assertThrows(IOException.class, () -> BulkOperations.removeIf(list, IOException.class, BulkOperationsTests::isShort)).getMessage());
+		assertEquals(List.of("a", "bbb", "", "dddd"), list);
+	}
+
+	@Test
+	@DisplayName("removeIf might leave a collection that is not an array list partly modified")
+	public void removeIfFailsOnLinkedList() {
+		var list = new LinkedList<>(List.of("a", "bbb", "", "dddd"));
+
+		assertThrows(IOException.class, () -> BulkOperations.removeIf(list, IOException.class, BulkOperationsTests::isShort));
+		assertEquals(List.of("bbb", "", "dddd"), list);
+	}
+
+	@Test
+	@DisplayName("replaceAll replaces each element of a list with its image")
+	public void replaceAllInList() throws IOException {
+		var list = new ArrayList<>(List.of("a", "b"));
+		BulkOperations.replaceAll(list, IOException.class, String::toUpperCase);
+
+		assertEquals(List.of("A", "B"), list);
+	}
+
+	@Test
+	@DisplayName("forEach visits each entry of a map and propagates the exceptions of the action with their type")
+	public void forEachOverMap() throws IOException {
+		var map = new TreeMap<>(Map.of("a", 1, "b", 2));
+		var visited = new ArrayList<String>();
+		BulkOperations.forEach(map, IOException.class, (key, value) -> visited.add(key + value));
+
+		assertEquals(List.of("a1", "b2"), visited);
+
+		var failure = new TimeoutException();
+		assertSame(failure, assertThrows(TimeoutException.class, () -> BulkOperations.forEach(map, TimeoutException.class, (key, value) -> {
+			if (value == 2)
+				throw failure;
+		})));
+	}
+
+	@Test
+	@DisplayName("replaceAll replaces each value of a map with the image of its entry")
+	public void replaceAllInMap() throws IOException {
+		var map = new TreeMap<>(Map.of("a", 1, "b", 2));
+		BulkOperations.replaceAll(map, IOException.class, (key, value) -> value * 10);
+
+		assertEquals(Map.of("a", 10, "b", 20), map);
+	}
+
+	@Test
+	@DisplayName("unchecked functions and consumers of two arguments can be used by the methods of the JDK")
+	public void uncheckedBiFunctionsAndBiConsumers() throws IOException {
+		var map = new TreeMap<>(Map.of("a", "x", "b", "yy"));
+		var merger = UncheckBiFunction.<String, String, String, IOException>uncheck(IOException.class, (s1, s2) -> isShort(s2) ? s1 + s2 : s1);
+		CheckRunnable.check(IOException.class, () -> map.merge("a", "z", merger));
+		assertEquals("xz", map.get("a"));
+		assertEquals("empty string", assertThrows(IOException.class, () -> CheckRunnable.check(IOException.class, () -> map.merge("a", "", merger))).getMessage());
+
+		var visited = new ArrayList<String>();
+		var action = UncheckBiConsumer.<String, String, IOException>uncheck(IOException.class, (key, value) -> {
+			if (isShort(value))
+				visited.add(key);
+		});
+		CheckRunnable.check(IOException.class, () -> map.forEach(action));
+		assertEquals(List.of("a", "b"), visited);
+		map.put("c", "");
+		assertEquals("empty string", assertThrows(IOException.class, () -> CheckRunnable.check(IOException.class, () -> map.forEach(action))).getMessage());
+	}
+
+	@Test
+	@DisplayName("the unchecked exceptions of the body are propagated unchanged")
+	public void runtimeExceptions() {
+		var failure = new IllegalStateException();
+		var map = new TreeMap<>(Map.of("a", 1));
+
+		assertSame(failure, assertThrows(IllegalStateException.class, () -> BulkOperations.replaceAll(map, IOException.class, (key, value) -> { throw failure; })));
+	}
+}
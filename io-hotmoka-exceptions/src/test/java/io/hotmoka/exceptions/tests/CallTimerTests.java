@@ -0,0 +1,125 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.CallTimer;
+import io.hotmoka.exceptions.LatencyHistogram;
+import io.hotmoka.exceptions.Traversals;
+import io.hotmoka.exceptions.functions.ConsumerWithExceptions1;
+import io.hotmoka.exceptions.functions.FunctionWithExceptions1;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions1;
+
+public class CallTimerTests {
+
+	@Test
+	@DisplayName("the latencies of successful and failed calls are recorded separately, per class of exception")
+	public void recordsSuccessesAndFailures() throws IOException {
+		var timer = new CallTimer();
+		FunctionWithExceptions1<String, Integer, IOException> length = timer.timeFunction(IOException.class, (String s) -> {
+			if (s.isEmpty())
+				throw new EOFException("empty");
+			else if (s.equals("missing"))
+				throw new FileNotFoundException(s);
+
+			return s.length();
+		});
+
+		assertEquals(5, length.apply("hello"));
+		assertEquals(3, length.apply("abc"));
+		assertThrows(EOFException.class, () -> length.apply(""));
+		assertThrows(EOFException.class, () -> length.apply(""));
+		assertThrows(FileNotFoundException.class, () -> length.apply("missing"));
+
+		var failures = timer.getFailures();
+		assertEquals(2, timer.getSuccesses().count());
+		assertEquals(2, failures.size());
+		assertEquals(2, failures.get(EOFException.class).count());
+		assertEquals(1, failures.get(FileNotFoundException.class).count());
+	}
+
+	@Test
+	@DisplayName("suppliers and consumers are timed as well")
+	public void timesSuppliersAndConsumers() throws IOException {
+		var timer = new CallTimer();
+		SupplierWithExceptions1<String, IOException> supplier = timer.timeSupplier(IOException.class, () -> { return "value"; });
+		ConsumerWithExceptions1<String, IOException> consumer = timer.timeConsumer(IOException.class, (String s) -> { if (!s.isEmpty()) throw new IOException(s); });
+
+		assertEquals("value", supplier.get());
+		assertThrows(IOException.class, () -> consumer.accept("failure"));
+
+		assertEquals(1, timer.getSuccesses().count());
+		assertEquals(1, timer.getFailures().get(IOException.class).count());
+	}
+
+	@Test
+	@DisplayName("the exit from a traversal counts as a success")
+	public void exitIsASuccess() throws IOException {
+		var timer = new CallTimer();
+
+		Optional<String> result = Traversals.forEach(List.of("a", "b"), IOException.class, (s, exit) ->
+			timer.timeSupplier(IOException.class, () -> { throw exit.with(s); }).get());
+
+		assertEquals(Optional.of("a"), result);
+		assertEquals(1, timer.getSuccesses().count());
+		assertTrue(timer.getFailures().isEmpty());
+	}
+
+	@Test
+	@DisplayName("percentiles are approximated from above within the precision of the buckets")
+	public void percentiles() {
+		var histogram = new LatencyHistogram();
+		for (int i = 1; i <= 100; i++)
+			histogram.record(i * 1000L);
+
+		long median = histogram.percentile(50.0);
+		assertTrue(median >= 50_000L && median <= 50_000L * 17 / 16, "the median is " + median);
+		long max = histogram.percentile(100.0);
+		assertTrue(max >= 100_000L && max <= 100_000L * 17 / 16, "the maximum is " + max);
+	}
+
+	@Test
+	@DisplayName("a histogram can be cleared")
+	public void clear() {
+		var histogram = new LatencyHistogram();
+		histogram.record(1000L);
+		histogram.clear();
+
+		assertEquals(0, histogram.count());
+		assertEquals(0L, histogram.percentile(99.0));
+	}
+
+	@Test
+	@DisplayName("a percentile outside 0 and 100 is rejected")
+	public void rejectsIllegalPercentiles() {
+		var histogram = new LatencyHistogram();
+		assertThrows(IllegalArgumentException.class, () -> histogram.percentile(-1.0));
+		assertThrows(IllegalArgumentException.class, () -> histogram.percentile(100.5));
+	}
+}
@@ -0,0 +1,73 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.CheckRunnable;
+import io.hotmoka.exceptions.CheckSupplier;
+import io.hotmoka.exceptions.ExceptionReplacer;
+import io.hotmoka.exceptions.UncheckedException;
+
+public class CheckAndReplaceTests {
+
+	@Test
+	@DisplayName("the value of the supplier is returned if it does not throw")
+	public void success() throws TimeoutException {
+		assertEquals("value", CheckSupplier.check(IOException.class, ExceptionReplacer.of(IOException.class, TimeoutException.class), () -> "value"));
+	}
+
+	@Test
+	@DisplayName("the cause of an unchecked exception is replaced")
+	public void replacesTheCause() {
+		var cause = new IOException("failure");
+		var e = assertThrows(TimeoutException.class, () ->
+			CheckSupplier.check(IOException.class, ExceptionReplacer.of(IOException.class, TimeoutException.class), () -> { throw new UncheckedException(cause); }));
+
+		assertEquals("failure", e.getMessage());
+		assertSame(cause, e.getCause());
+	}
+
+	@Test
+	@DisplayName("each cause is replaced by its own replacer")
+	public void pairs() {
+		var e = assertThrows(ExecutionException.class, () ->
+			CheckRunnable.check(IOException.class, cause -> new TimeoutException(cause.getMessage()),
+				InterruptedException.class, cause -> new ExecutionException(cause),
+				() -> { throw new UncheckedException(new InterruptedException()); }));
+
+		assertEquals(InterruptedException.class, e.getCause().getClass());
+	}
+
+	@Test
+	@DisplayName("an unchecked exception whose cause is not replaced is rethrown")
+	public void escapes() {
+		var exception = new UncheckedException(new TimeoutException());
+
+		assertSame(exception, assertThrows(UncheckedException.class, () ->
+			CheckRunnable.check(IOException.class, ExceptionReplacer.of(IOException.class, ExecutionException.class), () -> { throw exception; })));
+	}
+}
@@ -0,0 +1,96 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.CircuitBreaker;
+import io.hotmoka.exceptions.CircuitBreaker.State;
+import io.hotmoka.exceptions.Traversals;
+
+public class CircuitBreakerTests {
+
+	private static void fail(CircuitBreaker<IllegalStateException> breaker) {
+		assertThrows(IOException.class, () -> breaker.call(IOException.class, () -> { throw new IOException("failure"); }));
+	}
+
+	@Test
+	@DisplayName("a breaker opens after the maximal number of failures and then rejects the executions")
+	public void opensAfterFailures() {
+		var breaker = CircuitBreaker.of(3, Duration.ofMinutes(1), Duration.ofMinutes(1), IllegalStateException::new);
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(State.CLOSED, breaker.getState());
+			fail(breaker);
+		}
+
+		assertEquals(State.OPEN, breaker.getState());
+		assertThrows(IllegalStateException.class, () -> breaker.call(IOException.class, () -> "never run"));
+	}
+
+	@Test
+	@DisplayName("a breaker closes again if the trial execution after the cool-down succeeds")
+	public void closesAfterSuccessfulTrial() throws IOException, InterruptedException {
+		var breaker = CircuitBreaker.of(1, Duration.ofMinutes(1), Duration.ofMillis(20), IllegalStateException::new);
+		fail(breaker);
+		assertEquals(State.OPEN, breaker.getState());
+
+		Thread.sleep(50);
+		assertEquals("trial", breaker.call(IOException.class, () -> "trial"));
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	@DisplayName("a breaker reopens if the trial execution after the cool-down fails")
+	public void reopensAfterFailedTrial() throws InterruptedException {
+		var breaker = CircuitBreaker.of(1, Duration.ofMinutes(1), Duration.ofMillis(20), IllegalStateException::new);
+		fail(breaker);
+
+		Thread.sleep(50);
+		fail(breaker);
+		assertEquals(State.OPEN, breaker.getState());
+		assertThrows(IllegalStateException.class, () -> breaker.call(IOException.class, () -> "never run"));
+	}
+
+	@Test
+	@DisplayName("only the exceptions of the selected types count as failures")
+	public void countsOnlySelectedFailures() {
+		var breaker = CircuitBreaker.of(1, Duration.ofMinutes(1), Duration.ofMinutes(1), IllegalStateException::new, InterruptedException.class);
+		fail(breaker);
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	@DisplayName("the exit from a traversal does not count as a failure")
+	public void exitIsNotAFailure() throws IOException {
+		var breaker = CircuitBreaker.of(1, Duration.ofMinutes(1), Duration.ofMinutes(1), IllegalStateException::new);
+
+		Optional<String> result = Traversals.forEach(List.of("a", "b"), IOException.class, (s, exit) -> breaker.call(IOException.class, () -> exit.with(s)));
+
+		assertEquals(Optional.of("a"), result);
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+}
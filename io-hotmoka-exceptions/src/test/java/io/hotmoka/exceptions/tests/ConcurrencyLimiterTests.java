@@ -0,0 +1,93 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.ConcurrencyLimiter;
+
+public class ConcurrencyLimiterTests {
+
+	@Test
+	@DisplayName("a fixed limiter rejects the executions beyond its limit")
+	public void rejectsBeyondLimit() throws InterruptedException, ExecutionException, IOException {
+		var limiter = ConcurrencyLimiter.of(1, RejectedExecutionException::new);
+		var started = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		var executor = Executors.newSingleThreadExecutor();
+
+		try {
+			var running = executor.submit(() -> limiter.call(InterruptedException.class, () -> {
+				started.countDown();
+				release.await();
+				return "first";
+			}));
+
+			started.await();
+			assertEquals(1, limiter.getInFlight());
+			assertThrows(RejectedExecutionException.class, () -> limiter.call(IOException.class, () -> "second"));
+
+			release.countDown();
+			assertEquals("first", running.get());
+			assertEquals(0, limiter.getInFlight());
+			assertEquals("third", limiter.call(IOException.class, () -> "third"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("an adaptive limiter shrinks when the executions signal an overload")
+	public void adaptiveShrinks() {
+		var limiter = ConcurrencyLimiter.adaptive(10, 2, 20, Duration.ofSeconds(10), RejectedExecutionException::new, IOException.class);
+
+		for (int i = 0; i < 50; i++)
+			assertThrows(IOException.class, () -> limiter.call(IOException.class, () -> { throw new IOException("overloaded"); }));
+
+		assertEquals(2, limiter.getLimit());
+	}
+
+	@Test
+	@DisplayName("an adaptive limiter grows while the executions are fast and succeed")
+	public void adaptiveGrows() throws IOException {
+		var limiter = ConcurrencyLimiter.adaptive(2, 2, 4, Duration.ofSeconds(10), RejectedExecutionException::new, IOException.class);
+
+		for (int i = 0; i < 100; i++)
+			limiter.call(IOException.class, () -> "fast");
+
+		assertTrue(limiter.getLimit() > 2);
+	}
+
+	@Test
+	@DisplayName("an adaptive limiter requires a positive latency threshold")
+	public void rejectsZeroThreshold() {
+		assertThrows(IllegalArgumentException.class, () -> ConcurrencyLimiter.adaptive(2, 1, 4, Duration.ZERO, RejectedExecutionException::new));
+	}
+}
@@ -0,0 +1,140 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.ExceptionAggregator;
+import io.hotmoka.exceptions.Traversals;
+import io.hotmoka.exceptions.UncheckedException;
+
+public class ExceptionAggregatorTests {
+
+	@AfterEach
+	public void clearInterrupt() {
+		Thread.interrupted();
+	}
+
+	private static IOException fromHere(String message) {
+		return new IOException(message);
+	}
+
+	private static IOException fromThere(String message) {
+		return new IOException(message);
+	}
+
+	@Test
+	@DisplayName("exceptions thrown at the same place are grouped together, from the largest group")
+	public void groupsByFingerprint() {
+		var aggregator = new ExceptionAggregator(10);
+		var exceptions = new IOException[3];
+		for (int i = 0; i < exceptions.length; i++)
+			aggregator.record(exceptions[i] = fromHere("same place"));
+
+		aggregator.record(fromThere("elsewhere"));
+
+		var groups = aggregator.groups();
+		assertEquals(2, groups.size());
+		assertEquals(3, groups.get(0).getCount());
+		assertSame(exceptions[0], groups.get(0).getRepresentative());
+		assertEquals(1, groups.get(1).getCount());
+		assertEquals("elsewhere", groups.get(1).getRepresentative().getMessage());
+		assertTrue(groups.get(0).getFirstSeen() <= groups.get(0).getLastSeen());
+	}
+
+	@Test
+	@DisplayName("the cause of an unchecked exception is recorded in its place")
+	public void unwrapsUncheckedExceptions() {
+		var aggregator = new ExceptionAggregator(10);
+		var cause = fromHere("wrapped");
+		aggregator.record(new UncheckedException(cause));
+
+		assertSame(cause, aggregator.groups().get(0).getRepresentative());
+	}
+
+	@Test
+	@DisplayName("exceptions beyond the maximal number of groups are only counted")
+	public void overflow() {
+		var aggregator = new ExceptionAggregator(1);
+		aggregator.record(fromHere("first"));
+		aggregator.record(fromThere("second"));
+		aggregator.record(new TimeoutException());
+
+		assertEquals(1, aggregator.groups().size());
+		assertEquals(2, aggregator.getOverflow());
+
+		aggregator.clear();
+		assertTrue(aggregator.groups().isEmpty());
+		assertEquals(0, aggregator.getOverflow());
+	}
+
+	@Test
+	@DisplayName("an aggregator rejects illegal parameters")
+	public void rejectsIllegalParameters() {
+		assertThrows(IllegalArgumentException.class, () -> new ExceptionAggregator(0));
+		assertThrows(IllegalArgumentException.class, () -> new ExceptionAggregator(10, -1));
+	}
+
+	@Test
+	@DisplayName("a recording consumer records the exceptions of the consumer instead of throwing them")
+	public void recordingConsumer() {
+		var aggregator = new ExceptionAggregator(10);
+		var consumer = aggregator.<String> recording(s -> { throw fromHere(s); });
+
+		for (var s: new String[] { "first", "second" })
+			consumer.accept(s);
+
+		assertEquals(2, aggregator.groups().get(0).getCount());
+	}
+
+	@Test
+	@DisplayName("the exit from a traversal is not recorded by a recording consumer")
+	public void exitIsNotRecorded() throws IOException {
+		var aggregator = new ExceptionAggregator(10);
+
+		Optional<String> result = Traversals.forEach(List.of("a", "b"), IOException.class, (s, exit) ->
+			aggregator.<String> recording(t -> { throw exit.with(t); }).accept(s));
+
+		assertEquals(Optional.of("a"), result);
+		assertTrue(aggregator.groups().isEmpty());
+	}
+
+	@Test
+	@DisplayName("a recording consumer rethrows errors and restores the interrupts")
+	public void errorsAndInterrupts() {
+		var aggregator = new ExceptionAggregator(10);
+
+		assertThrows(StackOverflowError.class, () -> aggregator.<String> recording(s -> { throw new StackOverflowError(s); }).accept("error"));
+		assertTrue(aggregator.groups().isEmpty());
+
+		aggregator.<String> recording(s -> { throw new InterruptedException(s); }).accept("interrupted");
+		assertTrue(Thread.interrupted());
+		assertEquals(1, aggregator.groups().size());
+	}
+}
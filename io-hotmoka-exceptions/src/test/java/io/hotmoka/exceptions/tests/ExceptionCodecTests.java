@@ -0,0 +1,130 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.ExceptionCodec;
+
+public class ExceptionCodecTests {
+
+	private static ExceptionCodec.Builder registry() {
+		return ExceptionCodec.builder()
+			.register(1, IOException.class, IOException::new)
+			.register(2, FileNotFoundException.class, FileNotFoundException::new);
+	}
+
+	private static byte[] encode(ExceptionCodec codec, Throwable throwable) throws IOException {
+		var bytes = new ByteArrayOutputStream();
+		try (var out = new DataOutputStream(bytes)) {
+			codec.encode(throwable, out);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	@Test
+	@DisplayName("an exception and its causes survive a round trip through the stream encoding")
+	public void roundTripThroughStreams() throws IOException {
+		var codec = registry().build();
+		var exception = new IOException("outer", new FileNotFoundException("inner"));
+
+		var decoded = codec.decode(new DataInputStream(new ByteArrayInputStream(encode(codec, exception))));
+
+		assertEquals(IOException.class, decoded.getClass());
+		assertEquals("outer", decoded.getMessage());
+		assertEquals(FileNotFoundException.class, decoded.getCause().getClass());
+		assertEquals("inner", decoded.getCause().getMessage());
+	}
+
+	@Test
+	@DisplayName("an exception survives a round trip through the buffer encoding, with its topmost frames")
+	public void roundTripThroughBuffers() {
+		var codec = registry().maxFrames(3).build();
+		var exception = new IOException((String) null);
+		var buffer = ByteBuffer.allocate(4096);
+
+		codec.encode(exception, buffer);
+		buffer.flip();
+		var decoded = codec.decode(buffer);
+
+		assertNull(decoded.getMessage());
+		assertEquals(0, buffer.remaining());
+
+		// the module information of the frames is not encoded
+		var expected = exception.getStackTrace();
+		var actual = decoded.getStackTrace();
+		assertEquals(3, actual.length);
+		for (int pos = 0; pos < actual.length; pos++) {
+			assertEquals(expected[pos].getClassName(), actual[pos].getClassName());
+			assertEquals(expected[pos].getMethodName(), actual[pos].getMethodName());
+			assertEquals(expected[pos].getFileName(), actual[pos].getFileName());
+			assertEquals(expected[pos].getLineNumber(), actual[pos].getLineNumber());
+		}
+	}
+
+	@Test
+	@DisplayName("an exception whose class is not registered is decoded through the fallback")
+	public void unknownClass() throws IOException {
+		var codec = registry().onUnknown(IllegalStateException::new).build();
+
+		var decoded = codec.decode(ByteBuffer.wrap(encode(codec, new TimeoutException("late"))));
+
+		assertEquals(IllegalStateException.class, decoded.getClass());
+		assertEquals("java.util.concurrent.TimeoutException: late", decoded.getMessage());
+	}
+
+	@Test
+	@DisplayName("messages longer than the maximal length are truncated when encoded")
+	public void truncatesLongMessages() throws IOException {
+		var codec = registry().maxStringLength(4).build();
+
+		var decoded = codec.decode(ByteBuffer.wrap(encode(codec, new IOException("truncated"))));
+
+		assertEquals("trun", decoded.getMessage());
+	}
+
+	@Test
+	@DisplayName("strings longer than the maximal length are rejected before being allocated")
+	public void rejectsLongStrings() throws IOException {
+		var bytes = encode(registry().build(), new IOException("a message longer than the limit"));
+		var codec = registry().maxStringLength(4).build();
+
+		assertThrows(IOException.class, () -> codec.decode(new DataInputStream(new ByteArrayInputStream(bytes))));
+		assertThrows(IllegalArgumentException.class, () -> codec.decode(ByteBuffer.wrap(bytes)));
+
+		// a huge length, with no bytes after it
+		var forged = new byte[] { 1, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x7f };
+		var exception = assertThrows(IOException.class, () -> registry().build().decode(new DataInputStream(new ByteArrayInputStream(forged))));
+		assertTrue(exception.getMessage().contains("too long"));
+	}
+}
@@ -0,0 +1,116 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.ExceptionReplacer;
+import io.hotmoka.exceptions.ExceptionSupplier;
+import io.hotmoka.exceptions.ExceptionSupplierFromMessage;
+
+/**
+ * These tests use exception classes of the JDK, since the constructors are looked up
+ * as public members of exported packages.
+ */
+public class ExceptionConstructorsTests {
+
+	@Test
+	@DisplayName("a supplier creates exceptions through the constructor without arguments")
+	public void supplier() {
+		var exception = ExceptionSupplier.of(IOException.class).get();
+
+		assertEquals(IOException.class, exception.getClass());
+		assertNull(exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("a supplier from message creates exceptions through the constructor from the message")
+	public void supplierFromMessage() {
+		var exception = ExceptionSupplierFromMessage.of(IOException.class).apply("message");
+
+		assertEquals(IOException.class, exception.getClass());
+		assertEquals("message", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("the constructor from message and cause is used if the other constructors are not public")
+	public void fallsBackToMessageAndCause() {
+		assertNull(ExceptionSupplier.of(CompletionException.class).get().getMessage());
+
+		var exception = ExceptionSupplierFromMessage.of(CompletionException.class).apply("message");
+		assertEquals("message", exception.getMessage());
+		assertNull(exception.getCause());
+	}
+
+	@Test
+	@DisplayName("a class without a suitable public constructor is rejected")
+	public void rejectsMissingConstructors() {
+		assertThrows(IllegalArgumentException.class, () -> ExceptionSupplier.of(EnumConstantNotPresentException.class));
+		assertThrows(IllegalArgumentException.class, () -> ExceptionSupplierFromMessage.of(EnumConstantNotPresentException.class));
+		assertThrows(IllegalArgumentException.class, () -> ExceptionSupplier.of(ObjectStreamException.class));
+	}
+
+	@Test
+	@DisplayName("a replacer keeps the message and uses the replaced exception as cause")
+	public void replacerFromMessageAndCause() {
+		var replaced = new FileNotFoundException("missing");
+		var replacement = ExceptionReplacer.of(FileNotFoundException.class, IOException.class).apply(replaced);
+
+		assertEquals(IOException.class, replacement.getClass());
+		assertEquals("missing", replacement.getMessage());
+		assertSame(replaced, replacement.getCause());
+	}
+
+	@Test
+	@DisplayName("a replacer falls back to the constructor from the message only and then sets the cause")
+	public void replacerFromMessage() {
+		var replaced = new IOException("late");
+		var replacement = ExceptionReplacer.of(IOException.class, TimeoutException.class).apply(replaced);
+
+		assertEquals("late", replacement.getMessage());
+		assertSame(replaced, replacement.getCause());
+	}
+
+	@Test
+	@DisplayName("a replacer falls back to the constructor from the cause only")
+	public void replacerFromCause() {
+		var replaced = new IOException("undeclared");
+		var replacement = ExceptionReplacer.of(IOException.class, UndeclaredThrowableException.class).apply(replaced);
+
+		assertSame(replaced, replacement.getCause());
+	}
+
+	@Test
+	@DisplayName("the same supplier is yielded for the same class")
+	public void suppliersAreCached() {
+		assertSame(ExceptionSupplier.of(IOException.class), ExceptionSupplier.of(IOException.class));
+		assertSame(ExceptionSupplierFromMessage.of(IOException.class), ExceptionSupplierFromMessage.of(IOException.class));
+	}
+}
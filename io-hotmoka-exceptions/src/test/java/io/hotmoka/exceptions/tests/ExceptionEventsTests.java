@@ -0,0 +1,126 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.CheckRunnable;
+import io.hotmoka.exceptions.UncheckFunction;
+import io.hotmoka.exceptions.UncheckedException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * These tests require the events to be enabled through the {@code io.hotmoka.exceptions.jfr}
+ * property, which is what the {@code instrumentation} execution of surefire does.
+ */
+public class ExceptionEventsTests {
+
+	/**
+	 * An exception class used only by these tests, so that their events can be told apart from those of other tests.
+	 */
+	private static class RecordedException extends Exception {
+		private static final long serialVersionUID = 1L;
+
+		private RecordedException(String message) {
+			super(message);
+		}
+	}
+
+	private interface Task {
+		void run() throws Exception;
+	}
+
+	/**
+	 * Runs the given task inside a recording and yields the events of the library about {@link RecordedException}s.
+	 */
+	private static List<RecordedEvent> record(String eventName, Task task) throws Exception {
+		var file = Files.createTempFile("events", ".jfr");
+
+		try (var recording = new Recording()) {
+			recording.enable(eventName);
+			recording.start();
+			task.run();
+			recording.stop();
+			recording.dump(file);
+
+			return RecordingFile.readAllEvents(file).stream()
+				.filter(event -> event.getEventType().getName().equals(eventName))
+				.filter(event -> RecordedException.class.getName().equals(event.getClass("causeClass").getName()))
+				.collect(Collectors.toList());
+		}
+		finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	@DisplayName("wrapping an exception emits a wrap event")
+	public void wrapEvent() throws Exception {
+		var events = record("io.hotmoka.exceptions.Wrap", () -> new UncheckedException(new RecordedException("wrapped")));
+
+		assertEquals(1, events.size());
+		assertEquals("wrapped", events.get(0).getString("message"));
+	}
+
+	@Test
+	@DisplayName("the wrap event of an unchecked function reports the exception types of the function")
+	public void wrapEventOfFunction() throws Exception {
+		var function = UncheckFunction.<String, String, RecordedException, IOException>uncheck(RecordedException.class, IOException.class, s -> { throw new RecordedException(s); });
+		var events = record("io.hotmoka.exceptions.Wrap", () -> assertThrows(UncheckedException.class, () -> function.apply("unchecked")));
+
+		assertEquals(1, events.size());
+		assertEquals("unchecked", events.get(0).getString("message"));
+		assertEquals(RecordedException.class.getName() + ", " + IOException.class.getName(), events.get(0).getString("targets"));
+	}
+
+	@Test
+	@DisplayName("recovering an exception emits a check event that did not escape")
+	public void recoveredCheckEvent() throws Exception {
+		var events = record("io.hotmoka.exceptions.Check", () ->
+			assertThrows(RecordedException.class, () ->
+				CheckRunnable.check(RecordedException.class, IOException.class, () -> { throw new UncheckedException(new RecordedException("recovered")); })));
+
+		assertEquals(1, events.size());
+		assertFalse(events.get(0).getBoolean("escaped"));
+		assertEquals(RecordedException.class.getName() + ", " + IOException.class.getName(), events.get(0).getString("targets"));
+	}
+
+	@Test
+	@DisplayName("an exception that is not recovered emits a check event that escaped")
+	public void escapedCheckEvent() throws Exception {
+		var events = record("io.hotmoka.exceptions.Check", () ->
+			assertThrows(UncheckedException.class, () ->
+				CheckRunnable.check(IOException.class, () -> { throw new UncheckedException(new RecordedException("escaped")); })));
+
+		assertEquals(1, events.size());
+		assertTrue(events.get(0).getBoolean("escaped"));
+		assertEquals(IOException.class.getName(), events.get(0).getString("targets"));
+	}
+}
@@ -0,0 +1,142 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.ExceptionJournal;
+import io.hotmoka.exceptions.RecentExceptions;
+import io.hotmoka.exceptions.UncheckedException;
+
+/**
+ * These tests require the journal to be enabled through the {@link ExceptionJournal#PATH_PROPERTY}
+ * property, which is what the {@code instrumentation} execution of surefire does.
+ */
+public class ExceptionJournalTests {
+
+	private static Path journal() {
+		String path = System.getProperty(ExceptionJournal.PATH_PROPERTY);
+		assumeTrue(path != null && ExceptionJournal.isEnabled(), "the exception journal is not enabled");
+		return Path.of(path);
+	}
+
+	private static long lastSequence(List<ExceptionJournal.Record> records) {
+		return records.isEmpty() ? -1L : records.get(records.size() - 1).getSequence();
+	}
+
+	@Test
+	@DisplayName("wrapped exceptions get recorded in the journal")
+	public void recordsWrappedExceptions() throws IOException {
+		var path = journal();
+		long before = lastSequence(ExceptionJournal.read(path));
+
+		new UncheckedException(new IOException("journaled"));
+
+		var records = ExceptionJournal.read(path);
+		var record = records.get(records.size() - 1);
+		assertTrue(record.getSequence() > before);
+		assertEquals(RecentExceptions.Kind.WRAPPED, record.getKind());
+		assertEquals(IOException.class.getName(), record.getClassName());
+		assertEquals("journaled", record.getMessage());
+	}
+
+	@Test
+	@DisplayName("the journal keeps only its most recent records, from the oldest to the most recent")
+	public void keepsMostRecentRecords() throws IOException {
+		var path = journal();
+		int capacity = Integer.getInteger(ExceptionJournal.RECORDS_PROPERTY, 16);
+
+		for (int counter = 0; counter < 2 * capacity; counter++)
+			new UncheckedException(new IOException("record " + counter));
+
+		var records = ExceptionJournal.read(path);
+		assertTrue(records.size() <= capacity);
+		for (int pos = 1; pos < records.size(); pos++)
+			assertTrue(records.get(pos - 1).getSequence() < records.get(pos).getSequence());
+
+		assertEquals("record " + (2 * capacity - 1), records.get(records.size() - 1).getMessage());
+	}
+
+	@Test
+	@DisplayName("long messages are truncated without splitting a character")
+	public void truncatesAtCharacterBoundary() throws IOException {
+		var path = journal();
+		var message = "\u00e9".repeat(200);
+
+		new UncheckedException(new IOException(message));
+
+		var records = ExceptionJournal.read(path);
+		var truncated = records.get(records.size() - 1).getMessage();
+		assertFalse(truncated.isEmpty());
+		assertTrue(truncated.length() < message.length());
+		assertTrue(message.startsWith(truncated), truncated);
+	}
+
+	@Test
+	@DisplayName("the records corrupted after their writing are skipped")
+	public void skipsCorruptedRecords() throws IOException {
+		var path = journal();
+		int capacity = Integer.getInteger(ExceptionJournal.RECORDS_PROPERTY, 16);
+
+		for (int counter = 0; counter < capacity; counter++)
+			new UncheckedException(new IOException("record " + counter));
+
+		var copy = Files.createTempFile("journal", ".copy");
+
+		try {
+			var bytes = Files.readAllBytes(path);
+			// flips the lowest bit of the timestamp of each record: records follow a 64 bytes header,
+			// they are 256 bytes long and their timestamp is a big-endian long at offset 8
+			for (int base = 64; base + 256 <= bytes.length; base += 256)
+				bytes[base + 15] ^= 1;
+
+			Files.write(copy, bytes);
+
+			assertEquals(capacity, ExceptionJournal.read(path).size());
+			assertTrue(ExceptionJournal.read(copy).isEmpty());
+		}
+		finally {
+			Files.delete(copy);
+		}
+	}
+
+	@Test
+	@DisplayName("a file that does not contain a journal is rejected")
+	public void rejectsOtherFiles() throws IOException {
+		var other = Files.createTempFile("journal", ".txt");
+
+		try {
+			Files.writeString(other, "not a journal");
+			assertThrows(IOException.class, () -> ExceptionJournal.read(other));
+		}
+		finally {
+			Files.delete(other);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.CheckRunnable;
+import io.hotmoka.exceptions.UncheckedException;
+import io.hotmoka.exceptions.tests.RecordingListener.ListenedException;
+
+/**
+ * These tests require {@link RecordingListener} to be loaded from {@code META-INF/services},
+ * which is what the {@code instrumentation} execution of surefire does.
+ */
+public class ExceptionListenerTests {
+
+	@BeforeEach
+	public void beforeEach() {
+		RecordingListener.NOTIFICATIONS.clear();
+	}
+
+	@Test
+	@DisplayName("a listener is notified when an exception is wrapped and recovered")
+	public void wrappedAndRecovered() {
+		assertThrows(ListenedException.class, () -> CheckRunnable.check(ListenedException.class, () -> { throw new UncheckedException(new ListenedException("first")); }));
+
+		assertEquals(List.of("wrapped first", "recovered first [" + ListenedException.class + "]"), RecordingListener.NOTIFICATIONS);
+	}
+
+	@Test
+	@DisplayName("a listener is notified when an exception escapes and the exceptions it throws are ignored")
+	public void escaped() {
+		var exception = new UncheckedException(new ListenedException("second"));
+		var thrown = assertThrows(UncheckedException.class, () -> CheckRunnable.check(IOException.class, IllegalAccessException.class, () -> { throw exception; }));
+
+		assertSame(exception, thrown);
+		assertEquals(List.of("wrapped second", "escaped second [" + IOException.class + ", " + IllegalAccessException.class + "]"), RecordingListener.NOTIFICATIONS);
+	}
+}
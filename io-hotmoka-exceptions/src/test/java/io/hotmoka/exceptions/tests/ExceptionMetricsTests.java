@@ -0,0 +1,121 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.CheckRunnable;
+import io.hotmoka.exceptions.ExceptionMetrics;
+import io.hotmoka.exceptions.UncheckedException;
+
+/**
+ * These tests require the counters to be enabled through the {@link ExceptionMetrics#ENABLED_PROPERTY}
+ * property, which is what the {@code instrumentation} execution of surefire does.
+ */
+public class ExceptionMetricsTests {
+
+	/**
+	 * An exception class used only by these tests, so that its counters are not affected by other tests.
+	 */
+	private static class CountedException extends Exception {
+		private static final long serialVersionUID = 1L;
+	}
+
+	@BeforeEach
+	public void beforeEach() {
+		assumeTrue(ExceptionMetrics.isEnabled(), "the exception metrics are not enabled");
+		ExceptionMetrics.reset();
+	}
+
+	private static ExceptionMetrics metricsOf(Class<?> type) {
+		return ExceptionMetrics.snapshot().stream()
+			.filter(metrics -> metrics.getType() == type)
+			.findFirst()
+			.orElseThrow(() -> new AssertionError("no metrics for " + type.getName()));
+	}
+
+	@Test
+	@DisplayName("wrapped, recovered and escaped exceptions are counted per class")
+	public void countsPerClass() {
+		new UncheckedException(new CountedException());
+
+		assertThrows(CountedException.class, () ->
+			CheckRunnable.check(CountedException.class, () -> { throw new UncheckedException(new CountedException()); }));
+
+		assertThrows(UncheckedException.class, () ->
+			CheckRunnable.check(IOException.class, () -> { throw new UncheckedException(new CountedException()); }));
+
+		var metrics = metricsOf(CountedException.class);
+		assertEquals(3, metrics.getWrapped());
+		assertEquals(1, metrics.getRecovered());
+		assertEquals(1, metrics.getEscaped());
+	}
+
+	@Test
+	@DisplayName("the counters can be reset")
+	public void reset() {
+		new UncheckedException(new CountedException());
+		assertEquals(1, metricsOf(CountedException.class).getWrapped());
+
+		ExceptionMetrics.reset();
+		assertEquals(0, metricsOf(CountedException.class).getWrapped());
+	}
+
+	@Test
+	@DisplayName("a snapshot does not change with later exceptions")
+	public void snapshotIsACopy() {
+		new UncheckedException(new CountedException());
+		var before = metricsOf(CountedException.class);
+
+		new UncheckedException(new CountedException());
+
+		assertEquals(1, before.getWrapped());
+		assertEquals(2, metricsOf(CountedException.class).getWrapped());
+	}
+
+	@Test
+	@DisplayName("an unchecked exception without cause is counted under its own class")
+	public void countsMissingCause() {
+		long before = ExceptionMetrics.snapshot().stream()
+			.filter(metrics -> metrics.getType() == UncheckedException.class)
+			.mapToLong(ExceptionMetrics::getWrapped)
+			.sum();
+
+		new UncheckedException(null);
+
+		assertEquals(before + 1, metricsOf(UncheckedException.class).getWrapped());
+	}
+
+	@Test
+	@DisplayName("the counters are exported as a management bean")
+	public void registersManagementBean() throws MalformedObjectNameException {
+		assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(ExceptionMetrics.MBEAN_NAME)));
+	}
+}
@@ -0,0 +1,81 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.ExceptionTranslator;
+
+public class ExceptionTranslatorTests {
+
+	private static ExceptionTranslator<IOException> translator() {
+		return ExceptionTranslator.builder(IOException.class)
+			.register(IOException.class, e -> new IOException("io: " + e.getMessage(), e))
+			.register(FileNotFoundException.class, e -> new IOException("missing: " + e.getMessage(), e))
+			.build();
+	}
+
+	@Test
+	@DisplayName("an exception is translated through the replacer of its most specific registered superclass")
+	public void mostSpecificReplacer() {
+		var translator = translator();
+
+		assertEquals("missing: file", translator.apply(new FileNotFoundException("file")).getMessage());
+		assertEquals("io: end", translator.apply(new EOFException("end")).getMessage());
+		assertEquals("io: plain", translator.apply(new IOException("plain")).getMessage());
+	}
+
+	@Test
+	@DisplayName("an exception without registered superclasses is translated through the constructors of the target class")
+	public void defaultReplacer() {
+		var timeout = new TimeoutException("late");
+		var translation = translator().apply(timeout);
+
+		assertEquals(IOException.class, translation.getClass());
+		assertEquals("late", translation.getMessage());
+		assertSame(timeout, translation.getCause());
+	}
+
+	@Test
+	@DisplayName("an exception without registered superclasses is translated through the given fallback")
+	public void explicitFallback() {
+		var translator = ExceptionTranslator.<IOException> builder(e -> new IOException("fallback", e))
+			.register(FileNotFoundException.class, e -> new IOException("missing", e))
+			.build();
+
+		assertEquals("missing", translator.apply(new FileNotFoundException()).getMessage());
+		assertEquals("fallback", translator.apply(new EOFException()).getMessage());
+	}
+
+	@Test
+	@DisplayName("a class cannot be registered twice")
+	public void rejectsDuplicates() {
+		var builder = ExceptionTranslator.builder(IOException.class).register(IOException.class, e -> e);
+
+		assertThrows(IllegalArgumentException.class, () -> builder.register(IOException.class, e -> new IOException(e)));
+	}
+}
@@ -0,0 +1,108 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.Hedger;
+
+public class HedgerTests {
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	public void beforeEach() {
+		executor = Executors.newCachedThreadPool();
+	}
+
+	@AfterEach
+	public void afterEach() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("a fast supplier is attempted only once")
+	public void fastSupplier() throws IOException, InterruptedException {
+		var attempts = new AtomicInteger();
+		var hedger = Hedger.of(executor, 3, Duration.ofSeconds(10), 3);
+
+		assertEquals("fast", hedger.call(IOException.class, () -> {
+			attempts.incrementAndGet();
+			return "fast";
+		}));
+
+		assertEquals(1, attempts.get());
+	}
+
+	@Test
+	@DisplayName("a slow attempt is overtaken by a backup attempt")
+	public void slowSupplier() throws IOException, InterruptedException {
+		var attempts = new AtomicInteger();
+		var hedger = Hedger.of(executor, 2, Duration.ofMillis(20), 2);
+
+		String result = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> hedger.call(InterruptedException.class, () -> {
+			if (attempts.incrementAndGet() == 1) {
+				Thread.sleep(60_000);
+				return "slow";
+			}
+
+			return "backup";
+		}));
+
+		assertEquals("backup", result);
+	}
+
+	@Test
+	@DisplayName("if all attempts fail, the first failure is thrown with the others as suppressed")
+	public void allAttemptsFail() {
+		var attempts = new AtomicInteger();
+		var hedger = Hedger.of(executor, 3, Duration.ofSeconds(10), 3);
+
+		var failure = assertThrows(IOException.class, () -> hedger.call(IOException.class, () -> {
+			throw new IOException("attempt " + attempts.incrementAndGet());
+		}));
+
+		assertEquals("attempt 1", failure.getMessage());
+		assertEquals(2, failure.getSuppressed().length);
+	}
+
+	@Test
+	@DisplayName("attempts that fail with the same exception do not hang the caller")
+	public void sameFailure() {
+		var shared = new IOException("shared");
+		var hedger = Hedger.of(executor, 3, Duration.ofSeconds(10), 3);
+
+		var failure = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThrows(IOException.class, () -> hedger.call(IOException.class, () -> { throw shared; })));
+
+		assertSame(shared, failure);
+		assertEquals(0, failure.getSuppressed().length);
+	}
+}
@@ -0,0 +1,96 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.Loops;
+
+public class LoopsTests {
+
+	private final static String[] ARRAY = { "a", "b", "c", "d" };
+
+	@Test
+	@DisplayName("the elements of an array are visited in order")
+	public void forEachOverArray() throws IOException {
+		var visited = new ArrayList<String>();
+		Loops.forEach(ARRAY, IOException.class, visited::add);
+
+		assertEquals(List.of(ARRAY), visited);
+	}
+
+	@Test
+	@DisplayName("the elements of lists with and without random access are visited in order")
+	public void forEachOverList() throws IOException {
+		for (var list: List.of(List.of(ARRAY), new LinkedList<>(List.of(ARRAY)))) {
+			var visited = new ArrayList<String>();
+			Loops.forEach(list, IOException.class, visited::add);
+
+			assertEquals(list, visited);
+		}
+	}
+
+	@Test
+	@DisplayName("the integers of a range are visited in order")
+	public void forEachOverRange() throws IOException {
+		var visited = new ArrayList<Integer>();
+		Loops.forEach(2, 5, IOException.class, visited::add);
+
+		assertEquals(List.of(2, 3, 4), visited);
+	}
+
+	@Test
+	@DisplayName("the loop stops at the first exception, that is propagated unchanged")
+	public void failureStopsTheLoop() {
+		var failure = new IOException("c");
+		var visited = new ArrayList<String>();
+
+		var thrown = assertThrows(IOException.class, () -> Loops.forEach(ARRAY, IOException.class, s -> {
+			if (s.equals("c"))
+				throw failure;
+
+			visited.add(s);
+		}));
+
+		assertSame(failure, thrown);
+		assertEquals(List.of("a", "b"), visited);
+	}
+
+	@Test
+	@DisplayName("an array and a list are mapped in order")
+	public void map() throws IOException {
+		assertArrayEquals(new String[] { "A", "B", "C", "D" }, Loops.map(ARRAY, String[]::new, IOException.class, String::toUpperCase));
+		assertEquals(List.of(1, 1, 1, 1), Loops.map(new LinkedList<>(List.of(ARRAY)), IOException.class, String::length));
+	}
+
+	@Test
+	@DisplayName("the exceptions of a mapping function are propagated unchanged")
+	public void mapFails() {
+		assertThrows(IOException.class, () -> Loops.map(List.of(ARRAY), IOException.class, s -> { throw new IOException(s); }));
+	}
+}
@@ -0,0 +1,149 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.ExceptionSupplierFromMessage;
+import io.hotmoka.exceptions.Objects;
+
+public class ObjectsTests {
+
+	/**
+	 * A message that must never be built.
+	 */
+	private final static Supplier<String> NEVER = () -> { throw new AssertionError("the message has been built"); };
+
+	@Test
+	@DisplayName("requireNonNull with a format yields the object if it is not null")
+	public void requireNonNullWithFormatSucceeds() throws IOException {
+		var value = "value";
+
+		assertSame(value, Objects.requireNonNull(value, "%s cannot be null", "value", IOException::new));
+		assertSame(value, Objects.requireNonNull(value, "%s and %s", "first", "second", IOException::new));
+		assertSame(value, Objects.requireNonNull(value, "%s, %s and %s", "first", "second", "third", IOException::new));
+	}
+
+	@Test
+	@DisplayName("requireNonNull with a format formats the message if the object is null")
+	public void requireNonNullWithFormatFails() {
+		assertEquals("value cannot be null", assertThrows(IOException.class, () -> Objects.requireNonNull(null, "%s cannot be null", "value", IOException::new)).getMessage());
+		assertEquals("first and second", assertThrows(IOException.class, () -> Objects.requireNonNull(null, "%s and %s", "first", "second", IOException::new)).getMessage());
+		assertEquals("1, 2 and 3", assertThrows(IOException.class, () -> Objects.requireNonNull(null, "%d, %d and %d", 1, 2, 3, IOException::new)).getMessage());
+	}
+
+	@Test
+	@DisplayName("requireNonNull with a lazy message builds the message only if the object is null")
+	public void requireNonNullWithLazyMessage() throws IOException {
+		assertEquals("value", Objects.requireNonNullLazy("value", NEVER, IOException::new));
+		assertEquals("lazy", assertThrows(IOException.class, () -> Objects.requireNonNullLazy(null, () -> "lazy", IOException::new)).getMessage());
+	}
+
+	@Test
+	@DisplayName("a supplier with a lazy message builds the message only when it supplies an exception")
+	public void withMessage() {
+		ExceptionSupplierFromMessage.of(IOException.class).withMessage(NEVER);
+
+		assertEquals("lazy", ExceptionSupplierFromMessage.of(IOException.class).withMessage(() -> "lazy").get().getMessage());
+	}
+
+	@Test
+	@DisplayName("checkArgument and checkState throw the given exception only if the condition does not hold")
+	public void checkArgumentAndState() throws IOException {
+		Objects.checkArgument(true, "never", IOException::new);
+		Objects.checkState(true, "never", IllegalStateException::new);
+		Objects.checkArgumentLazy(true, NEVER, IOException::new);
+		Objects.checkStateLazy(true, NEVER, IllegalStateException::new);
+
+		assertEquals("argument", assertThrows(IOException.class, () -> Objects.checkArgument(false, "argument", IOException::new)).getMessage());
+		assertEquals("state", assertThrows(IllegalStateException.class, () -> Objects.checkState(false, "state", IllegalStateException::new)).getMessage());
+		assertEquals("lazy", assertThrows(IOException.class, () -> Objects.checkArgumentLazy(false, () -> "lazy", IOException::new)).getMessage());
+		assertEquals("lazy", assertThrows(IllegalStateException.class, () -> Objects.checkStateLazy(false, () -> "lazy", IllegalStateException::new)).getMessage());
+	}
+
+	@Test
+	@DisplayName("the index checks yield the index if it is in bounds")
+	public void indexChecksSucceed() throws IOException {
+		assertEquals(3, Objects.checkIndex(3, 4, IOException::new));
+		assertEquals(1, Objects.checkFromToIndex(1, 4, 4, IOException::new));
+		assertEquals(1, Objects.checkFromIndexSize(1, 3, 4, IOException::new));
+		assertEquals(3L, Objects.checkIndex(3L, 4L, IOException::new));
+		assertEquals(1L, Objects.checkFromToIndex(1L, 4L, 4L, IOException::new));
+		assertEquals(1L, Objects.checkFromIndexSize(1L, 3L, 4L, IOException::new));
+	}
+
+	@Test
+	@DisplayName("the index checks throw the given exception if the index is out of bounds")
+	public void indexChecksFail() {
+		assertThrows(IOException.class, () -> Objects.checkIndex(4, 4, IOException::new));
+		assertThrows(IOException.class, () -> Objects.checkIndex(-1, 4, IOException::new));
+		assertThrows(IOException.class, () -> Objects.checkFromToIndex(3, 2, 4, IOException::new));
+		assertThrows(IOException.class, () -> Objects.checkFromIndexSize(2, 3, 4, IOException::new));
+		assertThrows(IOException.class, () -> Objects.checkIndex(4L, 4L, IOException::new));
+		assertThrows(IOException.class, () -> Objects.checkFromToIndex(0L, 5L, 4L, IOException::new));
+		assertThrows(IOException.class, () -> Objects.checkFromIndexSize(Long.MAX_VALUE, 2L, Long.MAX_VALUE, IOException::new));
+	}
+
+	@Test
+	@DisplayName("the sign checks throw the given exception only if the value has the wrong sign")
+	public void signChecks() throws IOException {
+		assertEquals(0, Objects.requireNonNegative(0, "never", IOException::new));
+		assertEquals(1, Objects.requirePositive(1, "never", IOException::new));
+		assertEquals(0L, Objects.requireNonNegative(0L, "never", IOException::new));
+		assertEquals(1L, Objects.requirePositive(1L, "never", IOException::new));
+
+		assertEquals("negative", assertThrows(IOException.class, () -> Objects.requireNonNegative(-1, "negative", IOException::new)).getMessage());
+		assertThrows(IOException.class, () -> Objects.requirePositive(0, "zero", IOException::new));
+		assertThrows(IOException.class, () -> Objects.requireNonNegative(-1L, "negative", IOException::new));
+		assertThrows(IOException.class, () -> Objects.requirePositive(0L, "zero", IOException::new));
+	}
+
+	@Test
+	@DisplayName("requireAllNonNull reports the index of the first null element")
+	public void requireAllNonNull() throws IOException {
+		String[] array = { "a", "b", null, null };
+		var values = List.of("a", "b");
+
+		assertSame(values, Objects.requireAllNonNull(values, IOException::new));
+		assertEquals("Illegal null value at index 2", assertThrows(IOException.class, () -> Objects.requireAllNonNull(array, IOException::new)).getMessage());
+		assertEquals("Illegal null value at index 2", assertThrows(IOException.class, () -> Objects.requireAllNonNull(Arrays.asList(array), IOException::new)).getMessage());
+		assertEquals("Illegal null value at index 2", assertThrows(IOException.class, () -> Objects.requireAllNonNull(new LinkedList<>(Arrays.asList(array)), IOException::new)).getMessage());
+	}
+
+	@Test
+	@DisplayName("requireAllInRange reports the first element out of range")
+	public void requireAllInRange() throws IOException {
+		int[] ints = { 3, 1, 4, 1, 5 };
+		long[] longs = { 3L, 1L, 4L, 1L, 5L };
+
+		assertSame(ints, Objects.requireAllInRange(ints, 1, 5, IOException::new));
+		assertSame(longs, Objects.requireAllInRange(longs, 1L, 5L, IOException::new));
+		assertEquals("Value 4 at index 2 is out of range [1, 3]", assertThrows(IOException.class, () -> Objects.requireAllInRange(ints, 1, 3, IOException::new)).getMessage());
+		assertEquals("Value 1 at index 1 is out of range [2, 5]", assertThrows(IOException.class, () -> Objects.requireAllInRange(longs, 2L, 5L, IOException::new)).getMessage());
+	}
+}
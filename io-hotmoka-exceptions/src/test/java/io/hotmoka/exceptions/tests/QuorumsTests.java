@@ -0,0 +1,86 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.Quorums;
+import io.hotmoka.exceptions.functions.SupplierWithExceptions;
+
+public class QuorumsTests {
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	public void beforeEach() {
+		executor = Executors.newCachedThreadPool();
+	}
+
+	@AfterEach
+	public void afterEach() {
+		executor.shutdownNow();
+	}
+
+	private static SupplierWithExceptions<String> failing(String message) {
+		return () -> { throw new IOException(message); };
+	}
+
+	private static SupplierWithExceptions<String> slow(String value) {
+		return () -> {
+			Thread.sleep(60_000);
+			return value;
+		};
+	}
+
+	@Test
+	@DisplayName("a quorum is reached even if some suppliers fail or are slow")
+	public void reachesQuorum() throws IOException, InterruptedException {
+		List<String> results = Quorums.get(executor, 2, List.of(() -> "a", failing("b"), () -> "c", slow("d")), IOException::new);
+
+		assertEquals(2, results.size());
+		assertTrue(results.containsAll(List.of("a", "c")));
+	}
+
+	@Test
+	@DisplayName("if the quorum cannot be reached, the failures are attached to the thrown exception")
+	public void missesQuorum() {
+		var exception = assertThrows(IOException.class, () -> Quorums.get(executor, 2, List.of(() -> "a", failing("b"), failing("c")), IOException::new));
+
+		assertEquals(2, exception.getSuppressed().length);
+	}
+
+	@Test
+	@DisplayName("the quorum must be between one and the number of suppliers")
+	public void rejectsIllegalQuorum() {
+		List<SupplierWithExceptions<String>> suppliers = List.of(() -> "a");
+
+		assertThrows(IllegalArgumentException.class, () -> Quorums.get(executor, 0, suppliers, IOException::new));
+		assertThrows(IllegalArgumentException.class, () -> Quorums.get(executor, 2, suppliers, IOException::new));
+	}
+}
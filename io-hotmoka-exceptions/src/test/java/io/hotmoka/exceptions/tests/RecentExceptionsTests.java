@@ -0,0 +1,137 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.CheckRunnable;
+import io.hotmoka.exceptions.RecentExceptions;
+import io.hotmoka.exceptions.RecentExceptions.Kind;
+import io.hotmoka.exceptions.UncheckedException;
+
+/**
+ * These tests require the recorder to be enabled with a capacity of 16 exceptions,
+ * which is what the {@code instrumentation} execution of surefire does.
+ */
+public class RecentExceptionsTests {
+
+	/**
+	 * An exception class used only by these tests, so that their entries can be told apart from those of other tests.
+	 */
+	private static class RecordedException extends Exception {
+		private static final long serialVersionUID = 1L;
+
+		private RecordedException(String message) {
+			super(message);
+		}
+	}
+
+	@BeforeEach
+	public void beforeEach() {
+		assumeTrue(RecentExceptions.isEnabled(), "the recorder of the recent exceptions is not enabled");
+	}
+
+	private static List<RecentExceptions.Entry> recorded() {
+		return RecentExceptions.snapshot().stream()
+			.filter(entry -> entry.getType() == RecordedException.class)
+			.collect(Collectors.toList());
+	}
+
+	private static UncheckedException wrap(String message) {
+		return new UncheckedException(new RecordedException(message));
+	}
+
+	@Test
+	@DisplayName("wrapped, recovered and escaped exceptions are recorded in order")
+	public void recordsInOrder() {
+		var exception = wrap("recent");
+		assertThrows(RecordedException.class, () -> CheckRunnable.check(RecordedException.class, () -> { throw exception; }));
+		assertThrows(UncheckedException.class, () -> CheckRunnable.check(IOException.class, () -> { throw exception; }));
+
+		var entries = recorded();
+		var last = entries.subList(entries.size() - 3, entries.size());
+		assertEquals(List.of(Kind.WRAPPED, Kind.RECOVERED, Kind.ESCAPED), last.stream().map(RecentExceptions.Entry::getKind).collect(Collectors.toList()));
+
+		for (var entry: last) {
+			assertEquals("recent", entry.getMessage());
+			assertEquals(Thread.currentThread().getName(), entry.getThreadName());
+		}
+	}
+
+	@Test
+	@DisplayName("only the most recent exceptions are kept")
+	public void keepsTheMostRecent() {
+		for (int i = 0; i < 40; i++)
+			wrap(String.valueOf(i));
+
+		var messages = recorded().stream().map(RecentExceptions.Entry::getMessage).collect(Collectors.toList());
+		assertEquals(16, messages.size());
+		assertEquals("24", messages.get(0));
+		assertEquals("39", messages.get(15));
+	}
+
+	@Test
+	@DisplayName("exceptions thrown at the same place have the same fingerprint")
+	public void sameFingerprint() {
+		for (int i = 0; i < 2; i++)
+			wrap("fingerprinted");
+
+		var entries = recorded();
+		assertEquals(entries.get(entries.size() - 2).getFingerprint(), entries.get(entries.size() - 1).getFingerprint());
+	}
+
+	@Test
+	@DisplayName("exceptions thrown at different places have different fingerprints")
+	public void differentFingerprints() {
+		wrap("first");
+		wrap("second");
+
+		var entries = recorded();
+		var last = entries.get(entries.size() - 1);
+		long fingerprint = last.getFingerprint();
+		assertNotEquals(entries.get(entries.size() - 2).getFingerprint(), fingerprint);
+		assertEquals(fingerprint, last.getFingerprint());
+	}
+
+	@Test
+	@DisplayName("the recorded exceptions can be dumped")
+	public void dump() {
+		wrap("dumped");
+
+		var bytes = new ByteArrayOutputStream();
+		RecentExceptions.dump(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+		var output = bytes.toString(StandardCharsets.UTF_8);
+
+		assertTrue(output.startsWith("Recent exceptions: "));
+		assertTrue(output.contains("WRAPPED " + RecordedException.class.getName() + ": dumped"));
+	}
+}
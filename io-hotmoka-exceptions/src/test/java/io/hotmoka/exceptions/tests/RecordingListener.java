@@ -0,0 +1,68 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.hotmoka.exceptions.ExceptionListener;
+import io.hotmoka.exceptions.UncheckedException;
+
+/**
+ * A listener installed through {@code META-INF/services}, that records the notifications
+ * about the exceptions of type {@link ListenedException}.
+ */
+public class RecordingListener implements ExceptionListener {
+
+	/**
+	 * An exception class used only by the tests of the listeners.
+	 */
+	public static class ListenedException extends Exception {
+		private static final long serialVersionUID = 1L;
+
+		public ListenedException(String message) {
+			super(message);
+		}
+	}
+
+	/**
+	 * The notifications received so far, in order.
+	 */
+	final static List<String> NOTIFICATIONS = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void onWrapped(Throwable cause) {
+		if (cause instanceof ListenedException)
+			NOTIFICATIONS.add("wrapped " + cause.getMessage());
+	}
+
+	@Override
+	public void onRecovered(Throwable cause, List<Class<?>> targets) {
+		if (cause instanceof ListenedException)
+			NOTIFICATIONS.add("recovered " + cause.getMessage() + " " + targets);
+	}
+
+	@Override
+	public void onEscaped(UncheckedException exception, List<Class<?>> targets) {
+		if (exception.getCause() instanceof ListenedException) {
+			NOTIFICATIONS.add("escaped " + exception.getCause().getMessage() + " " + targets);
+
+			// exceptions thrown by the listeners must not reach the library
+			throw new IllegalStateException("failing listener");
+		}
+	}
+}
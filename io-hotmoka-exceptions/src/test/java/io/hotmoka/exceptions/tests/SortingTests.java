@@ -0,0 +1,129 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.CheckRunnable;
+import io.hotmoka.exceptions.Sorting;
+import io.hotmoka.exceptions.UncheckComparator;
+
+public class SortingTests {
+
+	private static int length(String s) throws IOException {
+		if (s.equals("bad"))
+			throw new IOException("bad key");
+
+		return s.length();
+	}
+
+	@Test
+	@DisplayName("a list is sorted stably by the keys of its elements")
+	public void sortIsStable() throws IOException {
+		var list = new ArrayList<>(List.of("ccc", "a", "bb", "b", "aaa", "c"));
+		Sorting.sort(list, IOException.class, SortingTests::length);
+
+		assertEquals(List.of("a", "b", "c", "bb", "ccc", "aaa"), list);
+	}
+
+	@Test
+	@DisplayName("a list is sorted by the ordering of the keys induced by the comparator")
+	public void sortWithComparator() throws IOException, TimeoutException {
+		var list = new ArrayList<>(List.of("ccc", "a", "bb", "b", "aaa", "c"));
+		Sorting.<String, Integer, IOException, TimeoutException> sort(list, IOException.class, TimeoutException.class, SortingTests::length, (i1, i2) -> Integer.compare(i2, i1));
+
+		assertEquals(List.of("ccc", "aaa", "bb", "a", "b", "c"), list);
+	}
+
+	@Test
+	@DisplayName("the key of each element is computed exactly once")
+	public void keysAreComputedOnce() throws IOException {
+		var list = new ArrayList<String>();
+		for (int i = 0; i < 100; i++)
+			list.add(String.valueOf(i));
+
+		var counter = new AtomicInteger();
+		Sorting.sort(list, IOException.class, (String s) -> { counter.incrementAndGet(); return s; }, Comparator.<String> reverseOrder()::compare);
+
+		assertEquals(100, counter.get());
+		assertEquals("99", list.get(0));
+	}
+
+	@Test
+	@DisplayName("the list is not modified if the key extractor throws an exception")
+	public void keyFailureLeavesTheListUnmodified() {
+		var list = new ArrayList<>(List.of("ccc", "a", "bad", "bb"));
+
+		assertThrows(IOException.class, () -> Sorting.sort(list, IOException.class, SortingTests::length));
+		assertEquals(List.of("ccc", "a", "bad", "bb"), list);
+	}
+
+	@Test
+	@DisplayName("the list is not modified if the comparator throws an exception")
+	public void comparatorFailureLeavesTheListUnmodified() {
+		var list = new ArrayList<>(List.of("ccc", "a", "bb", "b"));
+
+		assertThrows(TimeoutException.class, () -> Sorting.<String, Integer, IOException, TimeoutException> sort(list, IOException.class, TimeoutException.class, SortingTests::length, (i1, i2) -> {
+			if (i1.equals(i2))
+				throw new TimeoutException("same key");
+
+			return Integer.compare(i1, i2);
+		}));
+
+		assertEquals(List.of("ccc", "a", "bb", "b"), list);
+	}
+
+	@Test
+	@DisplayName("an unchecked comparator can be used by the sorting methods of the JDK")
+	public void uncheckedComparator() throws IOException {
+		var list = new ArrayList<>(List.of("ccc", "a", "bb"));
+		var comparator = UncheckComparator.<String, IOException>uncheck(IOException.class, (s1, s2) -> Integer.compare(length(s1), length(s2)));
+
+		CheckRunnable.check(IOException.class, () -> list.sort(comparator));
+		assertEquals(List.of("a", "bb", "ccc"), list);
+
+		list.add("bad");
+		assertEquals("bad key", assertThrows(IOException.class, () -> CheckRunnable.check(IOException.class, () -> list.sort(comparator))).getMessage());
+	}
+
+	@Test
+	@DisplayName("a parallel sort is stable as well")
+	public void parallelSortIsStable() throws IOException {
+		var random = new Random(42);
+		var list = new ArrayList<String>();
+		for (int i = 0; i < 20_000; i++)
+			list.add("x".repeat(1 + random.nextInt(10)) + i);
+
+		var expected = new ArrayList<>(list);
+		expected.sort(Comparator.comparingInt(s -> s.lastIndexOf('x')));
+
+		Sorting.parallelSort(list, IOException.class, (String s) -> s.lastIndexOf('x'));
+		assertEquals(expected, list);
+	}
+}
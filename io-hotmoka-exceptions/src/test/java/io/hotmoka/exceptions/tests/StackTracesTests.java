@@ -0,0 +1,65 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.UncheckFunction;
+import io.hotmoka.exceptions.UncheckedException;
+
+/**
+ * These tests require the stack traces to be sampled at each wrapping and trimmed to four frames,
+ * which is what the {@code instrumentation} execution of surefire does.
+ */
+public class StackTracesTests {
+
+	private static int parse(String s) throws IOException {
+		if (s.isEmpty())
+			throw new IOException("empty string");
+
+		return Integer.parseInt(s);
+	}
+
+	@Test
+	@DisplayName("a sampled stack trace is trimmed and contains neither the library nor the streams")
+	public void sampledStackTraceIsTrimmed() {
+		var e = assertThrows(UncheckedException.class, () ->
+			Stream.of("1", "").map(UncheckFunction.uncheck(IOException.class, StackTracesTests::parse)).collect(Collectors.toList()));
+
+		var trace = e.getStackTrace();
+		assertTrue(trace.length > 0);
+		assertTrue(trace.length <= 4);
+		// the frames of the tests are kept, although their package is inside that of the library
+		assertEquals(StackTracesTests.class.getName(), trace[0].getClassName());
+
+		for (var frame: trace) {
+			var className = frame.getClassName();
+			assertFalse(className.startsWith("io.hotmoka.exceptions.") && className.indexOf('.', "io.hotmoka.exceptions.".length()) < 0, className);
+			assertFalse(className.startsWith("java.util.stream."), className);
+		}
+	}
+}
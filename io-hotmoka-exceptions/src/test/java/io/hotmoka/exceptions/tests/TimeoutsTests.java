@@ -0,0 +1,116 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.Timeouts;
+
+public class TimeoutsTests {
+
+	@AfterEach
+	public void clearInterrupt() {
+		Thread.interrupted();
+	}
+
+	@Test
+	@DisplayName("a supplier that completes in time yields its value and leaves the thread not interrupted")
+	public void completesInTime() throws TimeoutException, IOException {
+		assertEquals("done", Timeouts.call(Duration.ofSeconds(10), IOException.class, () -> "done"));
+		assertFalse(Thread.currentThread().isInterrupted());
+	}
+
+	@Test
+	@DisplayName("a supplier that does not complete in time gets interrupted and the call times out")
+	public void timesOut() {
+		var timeout = assertThrows(TimeoutException.class, () -> Timeouts.call(Duration.ofMillis(20), InterruptedException.class, () -> {
+			Thread.sleep(10_000);
+			return "never";
+		}));
+
+		assertFalse(Thread.currentThread().isInterrupted());
+		assertEquals(1, timeout.getSuppressed().length);
+		assertTrue(timeout.getSuppressed()[0] instanceof InterruptedException);
+	}
+
+	@Test
+	@DisplayName("the exceptions of a supplier that completes in time are propagated")
+	public void propagatesExceptions() {
+		var failure = new IOException("failure");
+		assertSame(failure, assertThrows(IOException.class, () -> Timeouts.call(Duration.ofSeconds(10), IOException.class, () -> { throw failure; })));
+	}
+
+	@Test
+	@DisplayName("errors and unchecked exceptions thrown after the expiration are propagated")
+	public void propagatesLateErrors() {
+		var error = new InternalError("late");
+		assertSame(error, assertThrows(InternalError.class, () -> Timeouts.call(Duration.ofMillis(10), IOException.class, () -> lateThrow(error))));
+
+		var exception = new IllegalStateException("late");
+		assertSame(exception, assertThrows(IllegalStateException.class, () -> Timeouts.call(Duration.ofMillis(10), IOException.class, () -> lateThrow(exception))));
+	}
+
+	private static String lateThrow(RuntimeException e) {
+		spin();
+		throw e;
+	}
+
+	private static String lateThrow(Error e) {
+		spin();
+		throw e;
+	}
+
+	/**
+	 * Waits for 100 milliseconds without reacting to interrupts.
+	 */
+	private static void spin() {
+		long end = System.nanoTime() + 100_000_000L;
+		while (System.nanoTime() < end)
+			Thread.onSpinWait();
+	}
+
+	@Test
+	@DisplayName("a huge timeout does not overflow")
+	public void hugeTimeout() throws TimeoutException, IOException {
+		assertEquals("done", Timeouts.call(Duration.ofSeconds(Long.MAX_VALUE), IOException.class, () -> "done"));
+	}
+
+	@Test
+	@DisplayName("an interruption from outside survives the expiration of the timeout")
+	public void keepsExternalInterruption() {
+		Thread.currentThread().interrupt();
+
+		assertThrows(TimeoutException.class, () -> Timeouts.call(Duration.ofMillis(10), IOException.class, () -> {
+			spin();
+			return "late";
+		}));
+
+		assertTrue(Thread.currentThread().isInterrupted());
+	}
+}
@@ -0,0 +1,108 @@
+/*
+Copyright 2026 Fausto Spoto
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.hotmoka.exceptions.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hotmoka.exceptions.Traversals;
+
+public class TraversalsTests {
+
+	private final static List<String> LIST = List.of("a", "b", "c", "d");
+
+	@Test
+	@DisplayName("a traversal that is not stopped visits all elements and has no result")
+	public void noExit() throws IOException {
+		var visited = new ArrayList<String>();
+		Optional<String> result = Traversals.forEach(LIST, IOException.class, (s, exit) -> visited.add(s));
+
+		assertEquals(Optional.empty(), result);
+		assertEquals(LIST, visited);
+	}
+
+	@Test
+	@DisplayName("a traversal stops at its exit and yields the result of the exit")
+	public void exitWithResult() throws IOException {
+		var visited = new ArrayList<String>();
+		Optional<String> result = Traversals.forEach(LIST, IOException.class, (s, exit) -> {
+			visited.add(s);
+			if (s.equals("b"))
+				throw exit.with(s.toUpperCase());
+		});
+
+		assertEquals(Optional.of("B"), result);
+		assertEquals(List.of("a", "b"), visited);
+	}
+
+	@Test
+	@DisplayName("a traversal can be stopped without result")
+	public void exitWithoutResult() throws IOException {
+		var visited = new ArrayList<String>();
+		Optional<String> result = Traversals.forEach(LIST, IOException.class, (s, exit) -> {
+			visited.add(s);
+			throw exit.now();
+		});
+
+		assertEquals(Optional.empty(), result);
+		assertEquals(List.of("a"), visited);
+	}
+
+	@Test
+	@DisplayName("the exceptions of the body are propagated unchanged")
+	public void failure() {
+		var failure = new IOException("c");
+
+		assertSame(failure, assertThrows(IOException.class, () -> Traversals.forEach(LIST, IOException.class, (s, exit) -> {
+			if (s.equals("c"))
+				throw failure;
+		})));
+	}
+
+	@Test
+	@DisplayName("the body of an inner traversal can stop the outer traversal")
+	public void nestedTraversals() throws IOException {
+		Optional<String> result = Traversals.forEach(LIST, IOException.class, (s1, outer) ->
+			Traversals.forEach(LIST, IOException.class, (s2, inner) -> {
+				if (s1.equals("b") && s2.equals("c"))
+					throw outer.with(s1 + s2);
+			}));
+
+		assertEquals(Optional.of("bc"), result);
+	}
+
+	@Test
+	@DisplayName("a stream can be traversed and stopped as well")
+	public void streamTraversal() throws IOException {
+		Optional<Integer> result = Traversals.forEach(Stream.of(3, 1, 4, 1, 5), IOException.class, (i, exit) -> {
+			if (i > 3)
+				throw exit.with(i);
+		});
+
+		assertEquals(Optional.of(4), result);
+	}
+}